@@ -0,0 +1,54 @@
+package com.know_who_how.main_server.asset_management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예금/적금 시뮬레이션 및 상품 추천에서 반복 호출되는 이자 계산 경로 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssetManagementServiceBenchmark {
+
+    private static final String INTEREST_RATE_DETAILS = """
+            {"tiers":[
+              {"months_gte":1,"months_lt":3,"rate":2.5},
+              {"months_gte":3,"months_lt":6,"rate":2.9},
+              {"months_gte":6,"months_lt":12,"rate":3.2},
+              {"months_gte":12,"months_lt":24,"rate":3.5},
+              {"months_gte":24,"months_lt":37,"rate":3.3}
+            ]}""";
+
+    @Param({"6", "12", "36"})
+    public int months;
+
+    private AssetManagementService service;
+    private BigDecimal interestRate;
+
+    @Setup
+    public void setUp() {
+        // 계산 메서드는 리포지토리를 사용하지 않으므로 ObjectMapper만 주입
+        service = new AssetManagementService(null, null, null, null, null, new ObjectMapper(), null, null);
+        interestRate = new BigDecimal("3.5");
+    }
+
+    @Benchmark
+    public Map<String, Long> calculateDeposit() {
+        return service.calculateDeposit(50_000_000L, interestRate, months);
+    }
+
+    @Benchmark
+    public Map<String, Long> calculateInstallmentSavings() {
+        return service.calculateInstallmentSavings(500_000L, interestRate, months);
+    }
+
+    @Benchmark
+    public BigDecimal getInterestRateForDeposit() {
+        return service.getInterestRateForDeposit(INTEREST_RATE_DETAILS, months);
+    }
+}
@@ -0,0 +1,75 @@
+package com.know_who_how.main_server.global.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 인증 요청에서 실행되는 JwtUtil 경로 벤치마크
+ * - create: 로그인/재발급 시 Access Token 생성
+ * - parseCached: Claims 캐시 적중 시 (일반적인 인증 요청)
+ * - parseUncached: 캐시 미적중 시 HS512 서명 검증 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "c3ByaW5nLWJvb3QtdGVzdC1hdXRoLWtleS13aWxsLWJlLTQ4LWNoYXJhY3RlcnMtZm9yLWhzNTEyLXNpZ25pbmctYWxnb3JpdGhtLXRlc3Q=";
+    private static final String REFRESH_SECRET = "c3ByaW5nLWJvb3QtcmVmcmVzaC1rZXktd2lsbC1iZS00OC1jaGFyYWN0ZXJzLWZmLWZvci1oczUxMi1zaWduaW5nLWFsZ29yaXRobS10ZXN0";
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        cachingJwtUtil = newJwtUtil(10_000);
+        uncachedJwtUtil = newJwtUtil(0);
+        accessToken = cachingJwtUtil.createAccessToken(1L, List.of("ROLE_USER"));
+        refreshToken = cachingJwtUtil.createRefreshToken(1L);
+        cachingJwtUtil.parseAccessClaims(accessToken);
+    }
+
+    private static JwtUtil newJwtUtil(int claimsCacheMaxSize) throws Exception {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setRefreshSecret(REFRESH_SECRET);
+        props.setAccessTokenValidityInSeconds(1800);
+        props.setRefreshTokenValidityInSeconds(604800);
+        props.setClaimsCacheMaxSize(claimsCacheMaxSize);
+
+        // principal 캐시는 인증 객체 생성 시에만 사용하므로 벤치마크에서는 생략
+        JwtUtil jwtUtil = new JwtUtil(props, new JwtClaimsCache(props, new SimpleMeterRegistry()), null);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachingJwtUtil.createAccessToken(1L, List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Object parseAccessClaimsCached() {
+        return cachingJwtUtil.parseAccessClaims(accessToken);
+    }
+
+    @Benchmark
+    public Object parseAccessClaimsUncached() {
+        return uncachedJwtUtil.parseAccessClaims(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateRefreshToken() {
+        return uncachedJwtUtil.validateRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return cachingJwtUtil.extractUserId(accessToken, false);
+    }
+}
@@ -0,0 +1,116 @@
+package com.know_who_how.main_server.global.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.jwt.PrincipalSnapshot;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.dto.JobListWindowDto;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 형식별로 캐시 DTO를 저장/조회할 때의 비용
+ * - json: 기존 GenericJackson2JsonRedisSerializer
+ * - binary: RedisValueCodec (Smile + 1KB 이상 LZ4)
+ * 형식별 저장 바이트 수는 각 trial 종료 시 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+
+    private JobListWindowDto jobList;
+    private JobDetailResponseDto jobDetail;
+    private OpenApiJobItem jobPosting;
+    private PrincipalSnapshot principal;
+
+    private byte[] jobListBytes;
+    private byte[] jobDetailBytes;
+    private byte[] principalBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = "json".equals(format)
+                ? new GenericJackson2JsonRedisSerializer()
+                : new RedisValueCodec(RedisValueCodec.scanTypes("com.know_who_how.main_server"),
+                        RedisValueCodec.WriteFormat.BINARY, 1024);
+
+        // 목록 묶음(jobList 영역)은 Open API 한 페이지(100건)의 jobId 목록
+        jobList = new JobListWindowDto(1234, IntStream.range(0, 100).mapToObj("K%06d"::formatted).toList());
+        jobDetail = JobDetailResponseDto.builder()
+                .id("K000001")
+                .title("아파트 경비원 모집")
+                .companyName("노후하우 관리")
+                .location("서울특별시 강남구 테헤란로 1")
+                .employmentType("정규직")
+                .deadlineStatus("D-7")
+                .endDate("2025-12-31")
+                .jobCategory("경비원")
+                // 실제 공고 상세(detCnts)는 수십 KB에 달하는 경우가 있음
+                .description("주 5일 근무, 4대 보험 가입, 식사 제공, 근무지: 서울특별시 강남구. ".repeat(400))
+                .applyMethod("온라인")
+                .homepageUrl("https://example.com")
+                .build();
+        jobPosting = new ObjectMapper().convertValue(Map.of(
+                "jobId", "K000001", "recrtTitle", "아파트 경비원 모집", "oranNm", "노후하우 관리",
+                "workPlcNm", "서울특별시 강남구", "deadline", "접수중", "emplymShpNm", "CM0101",
+                "toDd", "2025-12-31", "jobclsNm", "경비원"), OpenApiJobItem.class);
+        principal = PrincipalSnapshot.builder()
+                .userId(1L).loginId("tester").name("홍길동").phoneNum("01012345678")
+                .birth("1960-05-01").assetTotal(300_000_000L).provider("kakao")
+                .userMydataRegistration(true)
+                .build();
+
+        jobListBytes = serializer.serialize(jobList);
+        jobDetailBytes = serializer.serialize(jobDetail);
+        principalBytes = serializer.serialize(principal);
+    }
+
+    @TearDown
+    public void reportStoredBytes() {
+        System.out.printf("%n[%s] stored bytes - jobList: %d, jobDetail: %d, jobPosting: %d, principal: %d%n",
+                format, jobListBytes.length, jobDetailBytes.length,
+                serializer.serialize(jobPosting).length, principalBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeJobList() {
+        return serializer.serialize(jobList);
+    }
+
+    @Benchmark
+    public Object deserializeJobList() {
+        return serializer.deserialize(jobListBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeJobDetail() {
+        return serializer.serialize(jobDetail);
+    }
+
+    @Benchmark
+    public Object deserializeJobDetail() {
+        return serializer.deserialize(jobDetailBytes);
+    }
+
+    @Benchmark
+    public Object roundTripJobPosting() {
+        return serializer.deserialize(serializer.serialize(jobPosting));
+    }
+
+    @Benchmark
+    public Object deserializePrincipal() {
+        return serializer.deserialize(principalBytes);
+    }
+}
@@ -0,0 +1,178 @@
+package com.know_who_how.main_server.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.util.RedisValueCodec;
+import com.know_who_how.main_server.job.dto.JobExtraDataDto;
+import com.know_who_how.main_server.job.dto.JobItemDto;
+import com.know_who_how.main_server.job.dto.JobListResponseDto;
+import com.know_who_how.main_server.job.dto.JobListWindowDto;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채용공고 목록 캐시 저장 방식 비교
+ * - denormalized: 묶음마다 JobItemDto 전체(JobListResponseDto) + 공고별 고용형태/직종(job:extra:*)
+ * - normalized: 묶음에는 jobId 목록(JobListWindowDto)만, 공고(OpenApiJobItem)는 jobId별로 한 번 (job:posting:*)
+ * 여러 검색이 같은 공고를 나눠 갖는 작업량을 만들어, 방식별 Redis 저장 바이트 수(Key + 값, 마지막 값 사본 포함)를
+ * trial 시작 시 출력하고, L2에서 읽은 바이트로 한 페이지를 조립하는 비용을 측정합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=JobCacheLayoutBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobCacheLayoutBenchmark {
+
+    private static final int POSTINGS = 1_000;
+    private static final int WINDOW_SIZE = 100;
+    private static final int WINDOWS_PER_QUERY = 3;
+    private static final List<String> SEARCHES = List.of("서울", "경기", "경비", "미화", "요양", "운전");
+    private static final List<String> EMP_TYPES = List.of("ALL", "CM0101");
+    // 합성 공고 필드 (실제 응답처럼 공고마다 값이 달라 묶음 압축률이 과장되지 않도록)
+    private static final List<String> DISTRICTS = List.of("서울 강남구", "서울 노원구", "서울 송파구", "경기 수원시",
+            "경기 성남시", "인천 남동구", "대전 중구", "부산 해운대구", "대구 수성구", "광주 북구");
+    private static final List<String> CATEGORIES = List.of("경비원", "청소원", "요양보호사", "조리사", "운전원",
+            "사무보조원", "주차관리원", "배송원", "시설관리원", "상담원");
+    private static final List<String> EMP_CODES = List.of("CM0101", "CM0102", "CM0103", "CM0104", "CM0105");
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private RedisValueCodec codec;
+    private JobService jobService;
+
+    // 한 검색의 첫 묶음 (L2에 저장된 바이트)
+    private byte[] denormalizedWindow;
+    private byte[] normalizedWindow;
+    private Map<String, byte[]> postingBytes;
+
+    @Setup
+    public void setUp() {
+        // 이전 배치의 값 타입은 더 이상 캐시하지 않아 @RedisTypeId가 없으므로, 당시 ID(3, 5)로 등록하여 같은 바이너리 형식으로 비교
+        Map<Integer, Class<?>> types = new HashMap<>(RedisValueCodec.scanTypes("com.know_who_how.main_server"));
+        types.put(3, JobListResponseDto.class);
+        types.put(5, JobExtraDataDto.class);
+        codec = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+        // 매핑 메서드는 API 클라이언트/Redis를 사용하지 않음
+        jobService = new JobService(null, null, null, null);
+
+        Random random = new Random(42);
+        List<OpenApiJobItem> postings = postings(random);
+
+        long denormalizedBytes = 0;
+        long normalizedBytes = 0;
+        long denormalizedWindowBytes = 0;
+        long normalizedWindowBytes = 0;
+        int windows = 0;
+        Map<String, byte[]> extraBytes = new HashMap<>();
+        postingBytes = new HashMap<>();
+        for (String search : SEARCHES) {
+            for (String empType : EMP_TYPES) {
+                // 검색마다 공고 풀에서 일부를 골라 묶음을 구성 (검색 간 공고가 겹침)
+                List<OpenApiJobItem> matched = new ArrayList<>(postings);
+                Collections.shuffle(matched, random);
+                for (int windowPage = 1; windowPage <= WINDOWS_PER_QUERY; windowPage++) {
+                    List<OpenApiJobItem> items = matched.subList((windowPage - 1) * WINDOW_SIZE, windowPage * WINDOW_SIZE);
+                    String key = JobService.listCacheKey(search, empType, windowPage, WINDOW_SIZE);
+
+                    byte[] before = codec.serialize(jobService.toJobListDto(items, POSTINGS, windowPage, WINDOW_SIZE));
+                    byte[] after = codec.serialize(new JobListWindowDto(POSTINGS,
+                            items.stream().map(OpenApiJobItem::getJobId).toList()));
+                    // 목록 묶음은 마지막 값 사본(:last-known)도 함께 저장
+                    denormalizedBytes += 2 * (keyBytes("jobs:list:" + key) + before.length);
+                    normalizedBytes += 2 * (keyBytes("jobs:window:" + key) + after.length);
+                    denormalizedWindowBytes += before.length;
+                    normalizedWindowBytes += after.length;
+                    if (denormalizedWindow == null) {
+                        denormalizedWindow = before;
+                        normalizedWindow = after;
+                    }
+                    windows++;
+
+                    for (OpenApiJobItem item : items) {
+                        extraBytes.computeIfAbsent(item.getJobId(), jobId -> codec.serialize(JobExtraDataDto.builder()
+                                .employmentType(item.getEmplymShpNm())
+                                .jobCategory(item.getJobclsNm())
+                                .build()));
+                        postingBytes.computeIfAbsent(item.getJobId(), jobId -> codec.serialize(item));
+                    }
+                }
+            }
+        }
+        long extraValueBytes = 0;
+        long postingValueBytes = 0;
+        for (Map.Entry<String, byte[]> extra : extraBytes.entrySet()) {
+            denormalizedBytes += keyBytes("job:extra:" + extra.getKey()) + extra.getValue().length;
+            extraValueBytes += extra.getValue().length;
+        }
+        for (Map.Entry<String, byte[]> posting : postingBytes.entrySet()) {
+            normalizedBytes += keyBytes("job:posting:" + posting.getKey()) + posting.getValue().length;
+            postingValueBytes += posting.getValue().length;
+        }
+
+        System.out.printf("%n[layout] windows: %d x %d postings, posting slots: %d, unique postings: %d%n",
+                windows, WINDOW_SIZE, windows * WINDOW_SIZE, postingBytes.size());
+        System.out.printf("[layout] avg value bytes - denormalized window: %d, extra: %d / normalized window: %d, posting: %d%n",
+                denormalizedWindowBytes / windows, extraValueBytes / extraBytes.size(),
+                normalizedWindowBytes / windows, postingValueBytes / postingBytes.size());
+        System.out.printf("[layout] stored bytes - denormalized: %d, normalized: %d (%.1f%%)%n",
+                denormalizedBytes, normalizedBytes, 100.0 * normalizedBytes / denormalizedBytes);
+    }
+
+    private static List<OpenApiJobItem> postings(Random random) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<OpenApiJobItem> postings = new ArrayList<>(POSTINGS);
+        for (int i = 0; i < POSTINGS; i++) {
+            String district = pick(DISTRICTS, random);
+            String category = pick(CATEGORIES, random);
+            postings.add(objectMapper.convertValue(Map.of(
+                    "jobId", "K%06d".formatted(random.nextInt(1_000_000)),
+                    "recrtTitle", "%s %s 모집 (주 %d일, 시급 %,d원)".formatted(district, category,
+                            3 + random.nextInt(4), 9_860 + random.nextInt(40) * 100),
+                    "oranNm", "%s %s %d".formatted(district.split(" ")[1], category, random.nextInt(500)),
+                    "workPlcNm", "%s %d길 %d".formatted(district, random.nextInt(100), random.nextInt(300)),
+                    "deadline", random.nextInt(10) == 0 ? "마감" : "접수중",
+                    "emplymShpNm", pick(EMP_CODES, random),
+                    "toDd", LocalDate.now().plusDays(random.nextInt(60)).format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    "jobclsNm", category), OpenApiJobItem.class));
+        }
+        return postings;
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static int keyBytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // 묶음 하나를 읽어 첫 페이지를 잘라냄
+    @Benchmark
+    public List<JobItemDto> denormalizedPage() {
+        JobListResponseDto window = (JobListResponseDto) codec.deserialize(denormalizedWindow);
+        return List.copyOf(window.getJobs().subList(0, pageSize));
+    }
+
+    // 묶음(jobId 목록)을 읽고, 첫 페이지의 공고를 MGET 응답으로 받은 것처럼 역직렬화하여 조립
+    @Benchmark
+    public JobListResponseDto normalizedPage() {
+        JobListWindowDto window = (JobListWindowDto) codec.deserialize(normalizedWindow);
+        Map<String, OpenApiJobItem> fetched = new LinkedHashMap<>();
+        for (String jobId : window.getJobIds().subList(0, pageSize)) {
+            fetched.put(jobId, (OpenApiJobItem) codec.deserialize(postingBytes.get(jobId)));
+        }
+        return jobService.toJobListDto(new ArrayList<>(fetched.values()), window.getTotalCount(), 1, pageSize);
+    }
+}
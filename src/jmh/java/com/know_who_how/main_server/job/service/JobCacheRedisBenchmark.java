@@ -0,0 +1,114 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.config.RedisNearCacheProperties;
+import com.know_who_how.main_server.global.util.RedisNearCache;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.global.util.RedisValueCodec;
+import com.know_who_how.main_server.job.dto.JobExtraDataDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지 분량의 'job:extra' 캐시를 저장/조회할 때 Redis 왕복 횟수에 따른 지연 비교
+ * - sequential*: Key마다 SET/GET (페이지당 pageSize번 왕복)
+ * - pipelined/multiGet: RedisUtil.saveAll / multiGet (페이지당 1번 왕복)
+ * 실제 Redis가 필요합니다. -Dredis.host, -Dredis.port로 대상 서버를 지정합니다 (기본 localhost:6379).
+ * 실행: ./gradlew jmh -PjmhIncludes=JobCacheRedisBenchmark -Predis.host=... -Predis.port=...
+ * 왕복 비용이 결과를 좌우하므로 운영과 같은 네트워크 구간에서 측정해야 의미가 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobCacheRedisBenchmark {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisUtil redisUtil;
+    private Map<String, JobExtraDataDto> page;
+    private List<String> keys;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379)));
+        connectionFactory.afterPropertiesSet();
+
+        RedisValueCodec valueCodec = new RedisValueCodec(
+                RedisValueCodec.scanTypes("com.know_who_how.main_server"), RedisValueCodec.WriteFormat.BINARY, 1024);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(valueCodec);
+        redisTemplate.afterPropertiesSet();
+        // 근접 캐시는 끈 상태로 Redis 왕복만 측정
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = new ReactiveRedisTemplate<>(connectionFactory,
+                RedisSerializationContext.<String, Object>newSerializationContext(new StringRedisSerializer())
+                        .value(valueCodec)
+                        .build());
+        ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate = new ReactiveRedisTemplate<>(connectionFactory,
+                RedisSerializationContext.<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                        .value(RedisSerializer.byteArray())
+                        .build());
+        redisUtil = new RedisUtil(redisTemplate, reactiveRedisTemplate, reactiveBytesRedisTemplate,
+                new RedisNearCache(redisTemplate, new RedisNearCacheProperties(), new SimpleMeterRegistry()));
+
+        page = new LinkedHashMap<>();
+        for (int i = 0; i < pageSize; i++) {
+            page.put("bench:job:extra:K%06d".formatted(i), JobExtraDataDto.builder()
+                    .jobCategory("경비원")
+                    .employmentType("정규직")
+                    .build());
+        }
+        keys = new ArrayList<>(page.keySet());
+        redisUtil.saveAll(page, TTL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisUtil.deleteAll(keys);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void sequentialSave() {
+        page.forEach((key, value) -> redisUtil.save(key, value, TTL));
+    }
+
+    @Benchmark
+    public void pipelinedSaveAll() {
+        redisUtil.saveAll(page, TTL);
+    }
+
+    @Benchmark
+    public List<Object> sequentialGet() {
+        List<Object> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(redisUtil.get(key));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public List<Object> multiGet() {
+        return redisUtil.multiGet(keys);
+    }
+}
@@ -0,0 +1,88 @@
+package com.know_who_how.main_server.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.dto.JobExtraDataDto;
+import com.know_who_how.main_server.job.dto.JobListResponseDto;
+import com.know_who_how.main_server.job.dto.OpenApiDetailItem;
+import com.know_who_how.main_server.job.dto.external.ExternalJobListItems;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 응답 → 응답 DTO 매핑 벤치마크 (마감 상태/D-day 계산 포함)
+ * 입력은 실제 Open API 응답 형태의 JSON을 역직렬화하여 준비합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobServiceBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private JobService jobService;
+    private ExternalJobListItems listItems;
+    private OpenApiDetailItem detailItem;
+    private JobExtraDataDto extraData;
+    private String listEndDate;
+    private String detailEndDate;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 매핑 메서드는 API 클라이언트/Redis를 사용하지 않음
+        jobService = new JobService(null, null, null, null);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        LocalDate endDate = LocalDate.now().plusDays(7);
+        listEndDate = endDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        detailEndDate = endDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < pageSize; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("""
+                    {"jobId":"K%06d","recrtTitle":"아파트 경비원 모집 %d","oranNm":"노후하우 관리","workPlcNm":"서울 강남구",
+                     "deadline":"접수중","emplymShpNm":"CM0101","toDd":"%s","jobclsNm":"경비원"}"""
+                    .formatted(i, i, listEndDate));
+        }
+        listItems = objectMapper.readValue(
+                "{\"items\":{\"item\":[" + items + "]},\"totalCount\":1234,\"pageNo\":1}",
+                ExternalJobListItems.class);
+
+        detailItem = objectMapper.readValue("""
+                {"jobId":"K000001","plDetAddr":"서울특별시 강남구 테헤란로 1","wantedTitle":"아파트 경비원 모집",
+                 "plbizNm":"노후하우 관리","toAcptDd":"%s","detCnts":"주 5일 근무, 4대 보험",
+                 "homepage":"https://example.com","acptMthdCd":"CM0801"}""".formatted(detailEndDate),
+                OpenApiDetailItem.class);
+        extraData = JobExtraDataDto.builder()
+                .employmentType("정규직")
+                .jobCategory("경비원")
+                .build();
+    }
+
+    @Benchmark
+    public JobListResponseDto toJobListDto() {
+        return jobService.toJobListDto(listItems.getItem(), listItems.getTotalCount(), 1, pageSize);
+    }
+
+    @Benchmark
+    public JobDetailResponseDto mapToJobDetailDto() {
+        return jobService.mapToJobDetailDto(detailItem, extraData);
+    }
+
+    @Benchmark
+    public String calculateListDeadLineStatus() {
+        return jobService.calculateListDeadLineStatus(listEndDate, "접수중");
+    }
+
+    @Benchmark
+    public String calculateDday() {
+        return jobService.calculateDday(detailEndDate);
+    }
+}
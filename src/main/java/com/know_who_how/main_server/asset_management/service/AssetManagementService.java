@@ -3,6 +3,7 @@ package com.know_who_how.main_server.asset_management.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.know_who_how.main_server.asset_management.dto.*;
+import com.know_who_how.main_server.global.catalog.ReferenceCatalog;
 import com.know_who_how.main_server.global.entity.Asset.Asset;
 import com.know_who_how.main_server.global.entity.Asset.AssetType;
 import com.know_who_how.main_server.global.entity.Asset.FinancialProduct;
@@ -10,6 +11,7 @@ import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.entity.User.UserInfo;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.jwt.UserPrincipalChangedEvent;
 import com.know_who_how.main_server.user.repository.AssetsRepository;
 import com.know_who_how.main_server.user.repository.FinancialProductRepository;
 import com.know_who_how.main_server.user.repository.UserInfoRepository;
@@ -22,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +40,8 @@ public class AssetManagementService {
         private final com.know_who_how.main_server.user.repository.UserRepository userRepository;
         private final com.know_who_how.main_server.user.repository.UserKeywordRepository userKeywordRepository;
         private final ObjectMapper objectMapper;
+        private final ApplicationEventPublisher eventPublisher;
+        private final ReferenceCatalog referenceCatalog;
 
         // 명세에 따른 상수 정의
         private static final BigDecimal TAX_RATE = new BigDecimal("0.154"); // 이자소득세율 (15.4%)
@@ -85,8 +90,12 @@ public class AssetManagementService {
                                 .mapToLong(asset -> asset.getBalance().longValue())
                                 .sum();
                 long totalAsset = sumOfNonLoanAssets - loanAmount;
-                managedUser.updateAssetTotal(totalAsset);
-                userRepository.save(managedUser);
+                // 조회마다 principal 캐시를 무효화하지 않도록 총자산이 바뀐 경우에만 저장/무효화
+                if (!Long.valueOf(totalAsset).equals(managedUser.getAssetTotal())) {
+                        managedUser.updateAssetTotal(totalAsset);
+                        userRepository.save(managedUser);
+                        eventPublisher.publishEvent(new UserPrincipalChangedEvent(managedUser.getUserId()));
+                }
 
                 PortfolioResponse.GoalMetricsDto goalMetrics = calculateGoalMetrics(userInfo, assetsList);
 
@@ -102,9 +111,11 @@ public class AssetManagementService {
                 int savingsScore = 0;
                 int depositScore = 0;
 
-                // 사용자 키워드 조회
+                // 사용자 키워드 조회 (키워드 이름은 카탈로그에서 조회하여 키워드별 지연 로딩 방지)
                 List<String> userKeywords = userKeywordRepository.findByUser(user).stream()
-                                .map(userKeyword -> userKeyword.getKeyword().getName())
+                                .map(userKeyword -> referenceCatalog.findKeyword(userKeyword.getKeyword().getId())
+                                                .orElseGet(userKeyword::getKeyword)
+                                                .getName())
                                 .toList();
 
                 // 사용자 나이 계산
@@ -194,7 +205,8 @@ public class AssetManagementService {
         private record Tiers(List<Tier> tiers) {
         }
 
-        private BigDecimal getInterestRateForDeposit(String interestRateDetails, int months) {
+        // JMH 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private
+        BigDecimal getInterestRateForDeposit(String interestRateDetails, int months) {
                 if (interestRateDetails == null || interestRateDetails.isBlank()) {
                         throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR); // Or a more specific error
                 }
@@ -283,7 +295,7 @@ public class AssetManagementService {
                 }
         }
 
-        private Map<String, Long> calculateDeposit(long principal, BigDecimal interestRate, int months) {
+        Map<String, Long> calculateDeposit(long principal, BigDecimal interestRate, int months) {
                 BigDecimal p = BigDecimal.valueOf(principal);
                 // 연이율을 월이율로 변환하지 않고, 기간을 연으로 변환하여 계산
                 BigDecimal r = interestRate.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
@@ -300,7 +312,7 @@ public class AssetManagementService {
                 return Map.of("interestAmount", interestAmount, "expectedAmount", expectedAmount);
         }
 
-        private Map<String, Long> calculateInstallmentSavings(long monthlyDeposit, BigDecimal interestRate,
+        Map<String, Long> calculateInstallmentSavings(long monthlyDeposit, BigDecimal interestRate,
                         int months) {
                 BigDecimal md = BigDecimal.valueOf(monthlyDeposit);
                 // 연이율을 월이율로 변환
@@ -2,10 +2,11 @@ package com.know_who_how.main_server.auth.oauth;
 
 import com.know_who_how.main_server.auth.oauth.dto.KakaoUserInfo;
 import com.know_who_how.main_server.auth.oauth.dto.OAuthResult;
+import com.know_who_how.main_server.auth.token.RefreshTokenStore;
+import com.know_who_how.main_server.global.config.WebClientRegistry;
 import com.know_who_how.main_server.global.util.RedisUtil;
 import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.jwt.JwtUtil;
-import com.know_who_how.main_server.user.repository.RefreshTokenRepository;
 import com.know_who_how.main_server.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,9 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive
-        .function.client.WebClient;
-
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
@@ -37,7 +35,8 @@ public class OAuthService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final WebClientRegistry webClientRegistry; // 카카오 API는 공용 커넥션 풀(keep-alive)로 호출
 
     public OAuthResult oauthLogin(String registrationId, String code) {
         // 1. registrationId를 통해 ClientRegistration 정보 가져오기
@@ -63,7 +62,7 @@ public class OAuthService {
             formData.add("client_secret", provider.getClientSecret());
         }
 
-        Map<String, Object> response = WebClient.create()
+        Map<String, Object> response = webClientRegistry.get(WebClientRegistry.KAKAO)
                 .post()
                 .uri(provider.getProviderDetails().getTokenUri())
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
@@ -78,7 +77,7 @@ public class OAuthService {
     }
 
     private KakaoUserInfo getUserInfo(ClientRegistration provider, String accessToken) {
-        return WebClient.create()
+        return webClientRegistry.get(WebClientRegistry.KAKAO)
                 .get()
                 .uri(provider.getProviderDetails().getUserInfoEndpoint().getUri())
                 .headers(header -> header.setBearerAuth(accessToken))
@@ -102,21 +101,9 @@ public class OAuthService {
             String accessToken = jwtUtil.createAccessToken(user.getUserId(), user.getRoles());
             String refreshToken = jwtUtil.createRefreshToken(user.getUserId());
 
-            // Refresh Token을 RDB에 저장/업데이트
+            // Refresh Token 저장 (기존 토큰은 대체)
             Instant expiryDate = jwtUtil.extractExpiration(refreshToken, true).toInstant();
-            refreshTokenRepository.findByUser(user).ifPresentOrElse(
-                    existingToken -> {
-                        existingToken.updateToken(refreshToken, expiryDate);
-                        refreshTokenRepository.save(existingToken);
-                    },
-                    () -> {
-                        com.know_who_how.main_server.global.entity.Token.RefreshToken newRefreshToken = com.know_who_how.main_server.global.entity.Token.RefreshToken.builder()
-                                .user(user)
-                                .tokenValue(refreshToken)
-                                .expiryDate(expiryDate)
-                                .build();
-                        refreshTokenRepository.save(newRefreshToken);
-                    });
+            refreshTokenStore.save(user.getUserId(), refreshToken, expiryDate);
 
             return OAuthResult.builder()
                     .isNewUser(false)
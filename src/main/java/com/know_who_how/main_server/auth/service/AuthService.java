@@ -1,26 +1,25 @@
 package com.know_who_how.main_server.auth.service;
 
 import com.know_who_how.main_server.auth.dto.*;
+import com.know_who_how.main_server.auth.token.RefreshTokenStore;
+import com.know_who_how.main_server.global.catalog.ReferenceCatalog;
 import com.know_who_how.main_server.global.util.RedisUtil; // New import
 import com.know_who_how.main_server.global.entity.Keyword.UserKeyword;
 import com.know_who_how.main_server.global.entity.Term.Term;
 import com.know_who_how.main_server.global.entity.Term.UserTerm;
-import com.know_who_how.main_server.global.entity.Token.RefreshToken;
 import com.know_who_how.main_server.global.entity.User.Gender;
 import com.know_who_how.main_server.global.entity.User.InvestmentTendancy;
 import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
 import com.know_who_how.main_server.global.jwt.JwtUtil;
-import com.know_who_how.main_server.user.repository.KeywordRepository;
-import com.know_who_how.main_server.user.repository.RefreshTokenRepository;
-import com.know_who_how.main_server.user.repository.TermRepository;
+import com.know_who_how.main_server.global.jwt.TokenBlacklist;
+import com.know_who_how.main_server.global.jwt.UserPrincipalCache;
 import com.know_who_how.main_server.user.repository.UserKeywordRepository;
 import com.know_who_how.main_server.user.repository.UserRepository;
 import com.know_who_how.main_server.user.repository.UserTermRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -35,7 +34,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,17 +41,19 @@ import java.util.stream.Collectors;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final TermRepository termRepository;
     private final UserTermRepository userTermRepository;
-    private final KeywordRepository keywordRepository;
+    private final ReferenceCatalog referenceCatalog;
     private final UserKeywordRepository userKeywordRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
     private final SmsCertificationService smsCertificationService;
     private final RedisUtil redisUtil;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserIdentifierFilter userIdentifierFilter;
 
     /**
      * 회원가입을 처리합니다.
@@ -91,21 +91,19 @@ public class AuthService {
                 .getUserVerificationData(requestDto.getVerificationId());
 
         // 2. 아이디 중복 확인
-        userRepository.findByLoginId(requestDto.getLoginId())
-                .ifPresent(user -> {
-                    throw new CustomException(ErrorCode.LOGIN_ID_DUPLICATE);
-                });
+        if (userIdentifierFilter.isLoginIdTaken(requestDto.getLoginId())) {
+            throw new CustomException(ErrorCode.LOGIN_ID_DUPLICATE);
+        }
 
         // 3. 전화번호 중복 확인 (SMS 인증 정보에서 가져온 전화번호 사용)
-        userRepository.findByPhoneNum(smsRequestDto.getPhoneNum())
-                .ifPresent(user -> {
-                    throw new CustomException(ErrorCode.PHONE_NUM_DUPLICATE);
-                });
+        if (userIdentifierFilter.isPhoneNumTaken(smsRequestDto.getPhoneNum())) {
+            throw new CustomException(ErrorCode.PHONE_NUM_DUPLICATE);
+        }
 
         // 4. 비밀번호 확인 (passwordConfirm 필드 제거로 인해 확인 로직 삭제)
 
         // 5. 약관 동의 확인 및 저장
-        List<Term> requiredTerms = termRepository.findByIsRequired(true);
+        List<Term> requiredTerms = referenceCatalog.getRequiredTerms();
         for (Term requiredTerm : requiredTerms) {
             boolean isAgreed = requestDto.getTermAgreements().stream()
                     .anyMatch(ta -> ta.getTermId().equals(requiredTerm.getId()) && ta.getIsAgreed());
@@ -132,12 +130,14 @@ public class AuthService {
                 .userMydataRegistration(false) // 새로 추가된 필드
                 .build();
         userRepository.save(newUser);
+        userIdentifierFilter.registerLoginId(newUser.getLoginId());
+        userIdentifierFilter.registerPhoneNum(newUser.getPhoneNum());
 
         // 7. 약관 동의 저장
         List<UserTerm> userTerms = requestDto.getTermAgreements().stream()
                 .filter(ta -> ta.getIsAgreed()) // 동의한 약관만 저장
                 .map(ta -> {
-                    Term term = termRepository.findById(ta.getTermId())
+                    Term term = referenceCatalog.findTerm(ta.getTermId())
                             .orElseThrow(() -> new CustomException(ErrorCode.TERM_NOT_FOUND));
                     return UserTerm.builder()
                             .user(newUser)
@@ -152,7 +152,7 @@ public class AuthService {
         // 8. 키워드 저장 (은퇴 후 희망 키워드)
         if (requestDto.getKeywordIds() != null && !requestDto.getKeywordIds().isEmpty()) {
             List<UserKeyword> retirementKeywords = requestDto.getKeywordIds().stream()
-                    .map(keywordId -> keywordRepository.findById(keywordId)
+                    .map(keywordId -> referenceCatalog.findKeyword(keywordId)
                             .orElseThrow(() -> new CustomException(ErrorCode.INVALID_KEYWORD_VALUE)))
                     .map(keyword -> UserKeyword.builder().user(newUser).keyword(keyword).build())
                     .collect(Collectors.toList());
@@ -182,25 +182,17 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 3. RDB에 저장된 Refresh Token과 전달받은 Refresh Token이 일치하는지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        RefreshToken storedRefreshToken = refreshTokenRepository.findByUser(user)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
-
-        if (!storedRefreshToken.getTokenValue().equals(refreshToken)) {
+        // 3~4. 저장된 Refresh Token과 일치할 때만 삭제
+        if (!refreshTokenStore.revoke(userId, refreshToken)) {
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 4. RDB에서 해당 유저의 Refresh Token 삭제
-        refreshTokenRepository.delete(storedRefreshToken);
-
         // 5. 현재 요청에 사용된 Access Token을 남은 유효시간만큼 블랙리스트에 추가
         Date expiration = jwtUtil.extractExpiration(accessToken, false);
         long remainingValidity = expiration.getTime() - System.currentTimeMillis();
 
         if (remainingValidity > 0) {
-            redisTemplate.opsForValue().set(accessToken, "logout", Duration.ofMillis(remainingValidity));
+            tokenBlacklist.revoke(accessToken, jwtUtil.extractTokenId(accessToken), Duration.ofMillis(remainingValidity));
         }
     }
 
@@ -210,14 +202,17 @@ public class AuthService {
      * @param requestDto 로그인 요청 DTO
      * @return JWT 토큰 응답 DTO
      */
-    @Transactional
+    // 트랜잭션 없이 실행: 검증 풀의 작업이 사용자 조회/비밀번호 재해시에 자기 커넥션을 쓰므로,
+    // 요청 스레드가 커넥션을 잡은 채 검증을 기다리면 로그인이 몰릴 때 커넥션 풀이 고갈됨
+    // (Refresh Token 저장은 RefreshTokenStore가 자체 트랜잭션으로 처리)
     public TokenResponseDto login(LoginRequestDto requestDto) {
         // 1. UsernamePasswordAuthenticationToken 생성
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                 requestDto.getLoginId(), requestDto.getPassword());
 
-        // 2. AuthenticationManager를 통해 인증 시도
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        // 2. AuthenticationManager를 통해 인증 시도 (비밀번호 해시 검증은 전용 풀에서 실행, 포화 시 429)
+        Authentication authentication = passwordVerificationExecutor.execute(
+                () -> authenticationManagerBuilder.getObject().authenticate(authenticationToken));
 
         // 3. 인증 성공 시 User 객체에서 정보 추출
         User user = (User) authentication.getPrincipal();
@@ -230,21 +225,9 @@ public class AuthService {
         String accessToken = jwtUtil.createAccessToken(userId, authorities);
         String refreshToken = jwtUtil.createRefreshToken(userId);
 
-        // 5. Refresh Token을 RDB에 저장 (기존 토큰이 있으면 업데이트, 없으면 새로 생성)
+        // 5. Refresh Token 저장 (기존 토큰은 대체)
         Instant expiryDate = jwtUtil.extractExpiration(refreshToken, true).toInstant();
-        Optional<RefreshToken> existingRefreshToken = refreshTokenRepository.findByUser(user);
-
-        if (existingRefreshToken.isPresent()) {
-            existingRefreshToken.get().updateToken(refreshToken, expiryDate);
-            refreshTokenRepository.save(existingRefreshToken.get());
-        } else {
-            RefreshToken newRefreshToken = RefreshToken.builder()
-                    .user(user)
-                    .tokenValue(refreshToken)
-                    .expiryDate(expiryDate)
-                    .build();
-            refreshTokenRepository.save(newRefreshToken);
-        }
+        refreshTokenStore.save(userId, refreshToken, expiryDate);
 
         // 6. TokenResponseDto로 반환
         return TokenResponseDto.builder()
@@ -268,30 +251,23 @@ public class AuthService {
         // 2. Refresh Token에서 UserId 추출
         Long userId = jwtUtil.extractUserId(refreshToken, true);
 
-        // 3. RDB에 저장된 Refresh Token과 일치하는지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        RefreshToken storedRefreshToken = refreshTokenRepository.findByUser(user)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
-
-        if (!storedRefreshToken.getTokenValue().equals(refreshToken)) {
-            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
-        }
-        // 4. Refresh Token의 만료 여부 확인 (RDB에 저장된 expiryDate 사용)
-        if (storedRefreshToken.getExpiryDate().isBefore(Instant.now())) {
-            throw new CustomException(ErrorCode.TOKEN_EXPIRED);
-        }
+        // 3. 사용자 존재 여부 확인 (principal 캐시 사용, 탈퇴한 사용자는 USER_NOT_FOUND)
+        userPrincipalCache.get(userId);
 
-        // 5. 새로운 Access Token과 Refresh Token 생성 (RTR 적용)
-        List<String> authorities = user.getAuthorities().stream()
-                .map(grantedAuthority -> grantedAuthority.getAuthority())
-                .collect(Collectors.toList());
-        String newAccessToken = jwtUtil.createAccessToken(userId, authorities);
+        // 4. 새로운 Access Token과 Refresh Token 생성 (RTR 적용)
+        // DB에서 읽은 User의 roles는 @Transient라 항상 비어 있었으므로, 로그인과 동일하게 빈 권한으로 발급
+        String newAccessToken = jwtUtil.createAccessToken(userId, List.of());
         String newRefreshToken = jwtUtil.createRefreshToken(userId);
 
-        // 6. DB에 새로운 Refresh Token 정보로 업데이트
-        storedRefreshToken.updateToken(newRefreshToken, jwtUtil.extractExpiration(newRefreshToken, true).toInstant());
-        refreshTokenRepository.save(storedRefreshToken);
+        // 5~6. 저장된 토큰과 비교 후 새 토큰으로 교체 (원자적 비교-교체, 재사용 탐지)
+        RefreshTokenStore.RotationResult rotation = refreshTokenStore.rotate(userId, refreshToken,
+                newRefreshToken, jwtUtil.extractExpiration(newRefreshToken, true).toInstant());
+        switch (rotation) {
+            case ROTATED -> { }
+            case REUSED -> throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+            case EXPIRED -> throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+            case INVALID -> throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
 
         // 7. 새로운 토큰들을 담아서 반환
         return TokenResponseDto.builder()
@@ -309,10 +285,9 @@ public class AuthService {
      */
     @Transactional(readOnly = true)
     public String checkLoginIdDuplicate(String loginId) {
-        userRepository.findByLoginId(loginId)
-                .ifPresent(user -> {
-                    throw new CustomException(ErrorCode.LOGIN_ID_DUPLICATE);
-                });
+        if (userIdentifierFilter.isLoginIdTaken(loginId)) {
+            throw new CustomException(ErrorCode.LOGIN_ID_DUPLICATE);
+        }
         return "사용 가능한 아이디입니다.";
     }
 
@@ -324,10 +299,9 @@ public class AuthService {
      */
     @Transactional(readOnly = true)
     public String checkPhoneNumDuplicate(String phoneNum) {
-        userRepository.findByPhoneNum(phoneNum)
-                .ifPresent(user -> {
-                    throw new CustomException(ErrorCode.PHONE_NUM_DUPLICATE);
-                });
+        if (userIdentifierFilter.isPhoneNumTaken(phoneNum)) {
+            throw new CustomException(ErrorCode.PHONE_NUM_DUPLICATE);
+        }
         return "사용 가능한 전화번호입니다.";
     }
 
@@ -0,0 +1,121 @@
+package com.know_who_how.main_server.auth.service;
+
+import com.know_who_how.main_server.global.config.PasswordProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.exception.RetryLaterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 검증(BCrypt 등 CPU 집약 작업) 전용 스레드 풀입니다.
+ * 로그인 요청이 몰려도 검증 동시 실행 수를 풀 크기로 제한하여 다른 API가 CPU를 확보할 수 있게 하고,
+ * 대기열이 가득 차거나 제한 시간을 넘기면 즉시 429(Retry-After)로 응답합니다.
+ */
+@Slf4j
+@Component
+public class PasswordVerificationExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final long timeoutMillis;
+    private final int retryAfterSeconds;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordVerificationExecutor(PasswordProperties properties, MeterRegistry meterRegistry) {
+        this.timeoutMillis = properties.getVerifyTimeoutMillis();
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getVerifyPoolSize(), properties.getVerifyPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getVerifyQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.verify");
+
+        this.successTimer = verifyTimer(meterRegistry, "success");
+        this.failureTimer = verifyTimer(meterRegistry, "failure");
+        this.rejectedCounter = Counter.builder("auth.password.verify.rejected")
+                .description("검증 풀 포화/시간 초과로 거절된 로그인 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.password.verify")
+                .description("비밀번호 검증(인증) 소요 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검증 작업을 전용 풀에서 실행하고 결과를 기다립니다.
+     * 작업에서 발생한 RuntimeException(BadCredentialsException 등)은 그대로 전달됩니다.
+     * 작업은 풀 스레드에서 자기 DB 커넥션을 사용하므로, 트랜잭션(커넥션)을 잡은 상태에서 호출하지 않습니다.
+     */
+    public <T> T execute(Supplier<T> verification) {
+        Future<T> future;
+        try {
+            future = monitoredExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    T result = verification.get();
+                    successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return result;
+                } catch (RuntimeException e) {
+                    failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[Login] 비밀번호 검증 풀 포화 - 요청 거절 (active: {}, queued: {})",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new RetryLaterException(ErrorCode.LOGIN_TOO_MANY_REQUESTS, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new RetryLaterException(ErrorCode.LOGIN_TOO_MANY_REQUESTS, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> pending = executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            log.info("[Login] 종료 시 대기 중이던 검증 작업 {}건 취소", pending.size());
+        }
+    }
+}
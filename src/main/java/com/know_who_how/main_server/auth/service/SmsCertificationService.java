@@ -6,15 +6,12 @@ import com.know_who_how.main_server.auth.dto.MypageSmsSendRequestDto;
 import com.know_who_how.main_server.auth.dto.SmsCertificationConfirmDto;
 import com.know_who_how.main_server.auth.dto.SmsCertificationRequestDto;
 import com.know_who_how.main_server.auth.dto.TestSmsResponseDto;
-import com.know_who_how.main_server.global.config.CoolSmsProperties;
+import com.know_who_how.main_server.auth.sms.SmsDispatchQueue;
+import com.know_who_how.main_server.auth.sms.SmsMessage;
+import com.know_who_how.main_server.global.util.RedisTypeId;
 import com.know_who_how.main_server.global.util.RedisUtil; // New import
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
-import com.solapi.sdk.SolapiClient;
-import com.solapi.sdk.message.exception.SolapiMessageNotReceivedException;
-import com.solapi.sdk.message.model.Message;
-import com.solapi.sdk.message.service.DefaultMessageService;
-import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,21 +27,12 @@ import java.util.UUID;
 @Slf4j
 public class SmsCertificationService {
 
-    private final CoolSmsProperties coolSmsProperties;
     private final RedisUtil redisUtil; // Replaced RedisTemplate with RedisUtil
-    private final com.know_who_how.main_server.user.repository.UserRepository userRepository; // UserRepository 주입
-    private DefaultMessageService messageService;
+    private final UserIdentifierFilter userIdentifierFilter; // 전화번호 중복 확인 (Bloom filter 선확인)
+    private final SmsDispatchQueue smsDispatchQueue;
 
     private static final Duration EXPIRATION_TIME = Duration.ofMinutes(5); // 5 minutes expiration
 
-    @PostConstruct
-    private void init() {
-        this.messageService = SolapiClient.INSTANCE.createInstance(
-                coolSmsProperties.getApiKey(),
-                coolSmsProperties.getApiSecret()
-        );
-    }
-
     /**
      * SMS 인증 번호를 전송하고, 인증 정보를 Redis에 저장합니다.
      *
@@ -53,26 +41,20 @@ public class SmsCertificationService {
      */
     public String sendSmsCertification(SmsCertificationRequestDto requestDto) {
         // [추가] 전화번호 중복 확인
-        if (userRepository.findByPhoneNum(requestDto.getPhoneNum()).isPresent()) {
+        if (userIdentifierFilter.isPhoneNumTaken(requestDto.getPhoneNum())) {
             throw new CustomException(ErrorCode.PHONE_NUM_DUPLICATE);
         }
 
         String verificationId = UUID.randomUUID().toString();
         String certificationCode = createCertificationCode();
-        Message message = new Message();
-        message.setFrom(coolSmsProperties.getFromNumber());
-        message.setTo(requestDto.getPhoneNum());
-        message.setText("[KnowWhoHow] 본인확인 인증번호는 [" + certificationCode + "] 입니다.");
 
         try {
-            this.messageService.send(message);
             SmsVerificationData data = new SmsVerificationData(certificationCode, requestDto, false);
             redisUtil.save(verificationId, data, EXPIRATION_TIME); // Use redisUtil.save
+            // 실제 발송은 SmsDispatchWorker가 비동기로 처리하므로 응답이 SMS 업체 지연을 기다리지 않음
+            smsDispatchQueue.enqueue(new SmsMessage(verificationId, requestDto.getPhoneNum(),
+                    certificationText(certificationCode), 0));
             return verificationId;
-        } catch (SolapiMessageNotReceivedException e) {
-            log.error("SMS 전송 실패, 상세 정보: {}", e.getFailedMessageList());
-            log.error("에러 메시지: {}", e.getMessage());
-            throw new CustomException(ErrorCode.SMS_SEND_FAILURE);
         } catch (Exception e) {
             log.error("SMS 인증 처리 중 알 수 없는 오류 발생", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -88,7 +70,7 @@ public class SmsCertificationService {
      */
     public TestSmsResponseDto sendTestSmsCertification(SmsCertificationRequestDto requestDto) {
         // [추가] 전화번호 중복 확인
-        if (userRepository.findByPhoneNum(requestDto.getPhoneNum()).isPresent()) {
+        if (userIdentifierFilter.isPhoneNumTaken(requestDto.getPhoneNum())) {
             throw new CustomException(ErrorCode.PHONE_NUM_DUPLICATE);
         }
 
@@ -152,14 +134,10 @@ public class SmsCertificationService {
     public TestSmsResponseDto sendSmsCertificationForMypage(MypageSmsSendRequestDto requestDto) {
         String verificationId = UUID.randomUUID().toString();
         String certificationCode = createCertificationCode();
-        Message message = new Message();
-        message.setFrom(coolSmsProperties.getFromNumber());
-        message.setTo(requestDto.getPhoneNum());
-        message.setText("[KnowWhoHow] 본인확인 인증번호는 [" + certificationCode + "] 입니다.");
 
         try {
             // 실제 운영 환경에서는 SMS 발송 로직을 활성화해야 합니다.
-            // this.messageService.send(message);
+            // smsDispatchQueue.enqueue(new SmsMessage(verificationId, requestDto.getPhoneNum(), certificationText(certificationCode), 0));
 
             // MypageSmsSendRequestDto를 SmsCertificationRequestDto로 변환 (birth, gender는 null)
             SmsCertificationRequestDto smsRequestForRedis = new SmsCertificationRequestDto(
@@ -204,6 +182,10 @@ public class SmsCertificationService {
 
         return "인증번호가 일치합니다.";
     }
+    private String certificationText(String certificationCode) {
+        return "[KnowWhoHow] 본인확인 인증번호는 [" + certificationCode + "] 입니다.";
+    }
+
     /**
      * 6자리 랜덤 인증 코드를 생성합니다.
      *
@@ -216,6 +198,7 @@ public class SmsCertificationService {
     }
 
     @Getter
+    @RedisTypeId(2)
     private static class SmsVerificationData implements Serializable {
         private final String certificationCode;
         private final SmsCertificationRequestDto userData;
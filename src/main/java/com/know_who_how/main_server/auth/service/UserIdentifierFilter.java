@@ -0,0 +1,137 @@
+package com.know_who_how.main_server.auth.service;
+
+import com.know_who_how.main_server.global.util.RedisBloomFilter;
+import com.know_who_how.main_server.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용 중인 아이디/전화번호 중복 확인 전에 거치는 Redis Bloom filter입니다.
+ * - 필터 음성이면 DB를 조회하지 않고 "사용 가능"으로 판단 (Bloom filter는 거짓 음성이 없음)
+ * - 필터 양성이거나 필터를 사용할 수 없으면 exists 쿼리로 확인
+ * - 가입/전화번호 변경 시 추가하고, 삭제는 지원하지 않으므로 탈퇴·변경 전 값은
+ *   다음 주기적 재구성 전까지 양성으로 남음 (exists 쿼리로 걸러지므로 결과는 정확함)
+ */
+@Slf4j
+@Component
+public class UserIdentifierFilter {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+    private final RedisBloomFilter loginIds;
+    private final RedisBloomFilter phoneNums;
+
+    public UserIdentifierFilter(UserRepository userRepository, StringRedisTemplate stringRedisTemplate,
+                                @Value("${user.identifier-filter.expected-insertions:1000000}") int expectedInsertions,
+                                @Value("${user.identifier-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.loginIds = RedisBloomFilter.create(stringRedisTemplate, "user:login-id:bloom", expectedInsertions, falsePositiveRate);
+        this.phoneNums = RedisBloomFilter.create(stringRedisTemplate, "user:phone-num:bloom", expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isLoginIdTaken(String loginId) {
+        return !isDefinitelyAbsent(loginIds, loginId) && userRepository.existsByLoginId(loginId);
+    }
+
+    public boolean isPhoneNumTaken(String phoneNum) {
+        return !isDefinitelyAbsent(phoneNums, phoneNum) && userRepository.existsByPhoneNum(phoneNum);
+    }
+
+    /**
+     * 가입 트랜잭션 안에서 호출하여, 커밋된 사용자가 필터에 없는 구간이 생기지 않도록 합니다.
+     * (롤백되면 양성으로 남을 뿐이므로 안전)
+     */
+    public void registerLoginId(String loginId) {
+        put(loginIds, loginId);
+    }
+
+    public void registerPhoneNum(String phoneNum) {
+        put(phoneNums, phoneNum);
+    }
+
+    // 최초 배포 등으로 필터가 없으면 기동 직후 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            if (!loginIds.exists() || !phoneNums.exists()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("아이디/전화번호 필터 초기화 실패 - DB 조회로 동작합니다.", e);
+        }
+    }
+
+    /**
+     * users 테이블로 필터를 새로 만들어, 탈퇴·변경으로 더 이상 쓰이지 않는 값을 정리합니다.
+     * 여러 노드 중 한 노드만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${user.identifier-filter.rebuild-interval-ms:21600000}",
+            initialDelayString = "${user.identifier-filter.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        RedisBloomFilter.Rebuild loginIdRebuild = loginIds.startRebuild(REBUILD_TIMEOUT);
+        if (loginIdRebuild == null) {
+            return;
+        }
+        RedisBloomFilter.Rebuild phoneNumRebuild = phoneNums.startRebuild(REBUILD_TIMEOUT);
+        if (phoneNumRebuild == null) {
+            loginIdRebuild.abort();
+            return;
+        }
+
+        try {
+            long count = 0;
+            long afterUserId = 0L;
+            List<UserRepository.IdentifierView> page;
+            do {
+                page = userRepository.findIdentifiersAfter(afterUserId, PageRequest.ofSize(REBUILD_PAGE_SIZE));
+                for (UserRepository.IdentifierView view : page) {
+                    loginIdRebuild.put(view.getLoginId());
+                    phoneNumRebuild.put(view.getPhoneNum());
+                    afterUserId = view.getUserId();
+                }
+                count += page.size();
+            } while (page.size() == REBUILD_PAGE_SIZE);
+
+            boolean committed = loginIdRebuild.commit() & phoneNumRebuild.commit();
+            log.info("아이디/전화번호 필터 재구성 {} - {}명", committed ? "완료" : "만료로 취소", count);
+        } catch (RuntimeException e) {
+            loginIdRebuild.abort();
+            phoneNumRebuild.abort();
+            throw e;
+        }
+    }
+
+    private boolean isDefinitelyAbsent(RedisBloomFilter filter, String value) {
+        try {
+            return Boolean.FALSE.equals(filter.mightContain(value));
+        } catch (RuntimeException e) {
+            log.warn("아이디/전화번호 필터 조회 실패 - DB 조회로 대체합니다.", e);
+            return false;
+        }
+    }
+
+    // 기록에 실패한 필터를 그대로 두면 거짓 음성이 생기므로 필터를 지워 DB 조회로 전환
+    private void put(RedisBloomFilter filter, String value) {
+        try {
+            filter.put(value);
+        } catch (RuntimeException e) {
+            log.warn("아이디/전화번호 필터 기록 실패 - 필터를 무효화합니다.", e);
+            try {
+                filter.invalidate();
+            } catch (RuntimeException ignored) {
+                log.error("아이디/전화번호 필터 무효화 실패 - 다음 재구성 전까지 중복 확인이 부정확할 수 있습니다.");
+            }
+        }
+    }
+}
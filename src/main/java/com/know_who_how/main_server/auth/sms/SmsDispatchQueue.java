@@ -0,0 +1,200 @@
+package com.know_who_how.main_server.auth.sms;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.config.SmsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Stream 기반 SMS 발송 큐입니다.
+ * - sms:outbound       발송 대기 스트림 (컨슈머 그룹 sms-dispatchers로 여러 노드의 워커가 나누어 소비)
+ * - sms:retry          재시도 대기 ZSET (score = 재시도 시각), 시각이 되면 스트림으로 다시 적재
+ * - sms:status:{id}    메시지별 발송 상태 (status, attempts, updatedAt)
+ * 워커가 ACK하기 전에 종료되면 메시지는 pending 상태로 남아 다른 워커가 회수합니다. (최소 1회 발송)
+ */
+@Slf4j
+@Component
+public class SmsDispatchQueue {
+
+    static final String STREAM_KEY = "sms:outbound";
+    static final String RETRY_KEY = "sms:retry";
+    static final String GROUP = "sms-dispatchers";
+    private static final String STATUS_KEY_PREFIX = "sms:status:";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    // KEYS[1]=재시도 ZSET, KEYS[2]=스트림 / ARGV[1]=현재 시각(ms), ARGV[2]=최대 이동 건수
+    // 여러 노드가 동시에 실행해도 한 메시지는 한 번만 이동
+    private static final RedisScript<Long> MOVE_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, payload in ipairs(due) do
+                redis.call('XADD', KEYS[2], '*', 'payload', payload)
+                redis.call('ZREM', KEYS[1], payload)
+            end
+            return #due
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration statusTtl;
+
+    public SmsDispatchQueue(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                            SmsProperties smsProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.statusTtl = Duration.ofSeconds(smsProperties.getStatusTtlSeconds());
+    }
+
+    /**
+     * 메시지를 발송 큐에 적재합니다. 실제 발송은 SmsDispatchWorker가 비동기로 처리합니다.
+     */
+    public void enqueue(SmsMessage message) {
+        // 적재 후에 QUEUED를 쓰면 먼저 처리한 워커의 SENT를 덮어쓸 수 있으므로 상태를 먼저 기록
+        updateStatus(List.of(message), SmsDispatchStatus.QUEUED);
+        stringRedisTemplate.opsForStream().add(
+                StreamRecords.string(Map.of(PAYLOAD_FIELD, encode(message))).withStreamKey(STREAM_KEY));
+    }
+
+    public Optional<SmsDispatchStatus> getStatus(String messageId) {
+        Object status = stringRedisTemplate.opsForHash().get(STATUS_KEY_PREFIX + messageId, "status");
+        return Optional.ofNullable(status).map(value -> SmsDispatchStatus.valueOf(value.toString()));
+    }
+
+    // 컨슈머 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+    void ensureGroup() {
+        byte[] key = STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(key, GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException | InvalidDataAccessApiUsageException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 아직 어떤 워커에게도 전달되지 않은 메시지를 최대 count건 읽습니다. 없으면 block 동안 대기합니다.
+     */
+    List<Delivery> read(String consumer, int count, Duration block) {
+        // StreamOffset<String> 하나를 제네릭 가변 인자로 넘기는 API 시그니처 때문에 생기는 경고 (배열은 호출 안에서만 사용)
+        @SuppressWarnings("unchecked")
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(count).block(block),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return toDeliveries(records);
+    }
+
+    /**
+     * idle 이상 ACK되지 않은 메시지(처리 중 종료된 워커의 몫)를 이 컨슈머로 가져옵니다.
+     */
+    List<Delivery> claimIdle(String consumer, Duration idle, int count) {
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(idle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) {
+            return List.of();
+        }
+        return toDeliveries(stringRedisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumer, idle, idleIds));
+    }
+
+    // 처리가 끝난 메시지를 ACK하고 스트림에서 제거 (스트림이 계속 커지지 않도록)
+    void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    void scheduleRetry(SmsMessage message, Duration delay) {
+        long dueAt = System.currentTimeMillis() + delay.toMillis();
+        stringRedisTemplate.opsForZSet().add(RETRY_KEY, encode(message), dueAt);
+    }
+
+    // 재시도 시각이 된 메시지를 스트림으로 다시 적재
+    long moveDueRetries(int limit) {
+        Long moved = stringRedisTemplate.execute(MOVE_DUE_SCRIPT, List.of(RETRY_KEY, STREAM_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+        return moved != null ? moved : 0L;
+    }
+
+    // 묶음 단위로 상태를 기록하므로 파이프라인으로 한 번에 전송
+    void updateStatus(List<SmsMessage> messages, SmsDispatchStatus status) {
+        String updatedAt = Instant.now().toString();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SmsMessage message : messages) {
+                byte[] key = (STATUS_KEY_PREFIX + message.id()).getBytes(StandardCharsets.UTF_8);
+                connection.hashCommands().hMSet(key, Map.of(
+                        bytes("status"), bytes(status.name()),
+                        bytes("attempts"), bytes(String.valueOf(message.attempt())),
+                        bytes("updatedAt"), bytes(updatedAt)));
+                connection.keyCommands().expire(key, statusTtl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    private List<Delivery> toDeliveries(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<Delivery> deliveries = new ArrayList<>(records.size());
+        List<RecordId> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                Object payload = record.getValue().get(PAYLOAD_FIELD);
+                deliveries.add(new Delivery(record.getId(), objectMapper.readValue(String.valueOf(payload), SmsMessage.class)));
+            } catch (JsonProcessingException e) {
+                log.error("SMS 큐 메시지 해석 실패 - 폐기합니다. recordId: {}", record.getId(), e);
+                malformed.add(record.getId());
+            }
+        }
+        acknowledge(malformed);
+        return deliveries;
+    }
+
+    private String encode(SmsMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SMS 메시지 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    record Delivery(RecordId recordId, SmsMessage message) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.know_who_how.main_server.auth.sms;
+
+/**
+ * 메시지별 발송 상태입니다.
+ */
+public enum SmsDispatchStatus {
+    QUEUED,   // 큐 적재 완료, 발송 대기
+    SENT,     // 발송 API 접수 완료
+    RETRYING, // 발송 실패, 재시도 대기
+    FAILED    // 최대 시도 횟수 초과로 발송 포기
+}
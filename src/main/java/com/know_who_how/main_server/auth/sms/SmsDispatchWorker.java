@@ -0,0 +1,259 @@
+package com.know_who_how.main_server.auth.sms;
+
+import com.know_who_how.main_server.global.config.SmsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SMS 발송 큐를 소비하는 워커입니다.
+ * - workerCount개의 스레드가 큐에서 최대 batchSize건씩 꺼내 다건 발송 API로 한 번에 발송
+ * - 발송에 실패한 묶음은 지수 백오프로 재시도 ZSET에 넣고, maxAttempts를 넘기면 FAILED로 기록
+ * - 다른 노드의 워커가 처리 도중 종료되어 ACK되지 않은 메시지는 주기적으로 회수하여 발송 스레드에 넘김
+ * - 원본 메시지는 발송 완료 또는 재시도 예약이 저장된 뒤에만 ACK (예약에 실패하면 pending으로 남겨 회수 대상)
+ */
+@Slf4j
+@Component
+public class SmsDispatchWorker {
+
+    private static final int RETRY_MOVE_LIMIT = 500;
+
+    private final SmsDispatchQueue queue;
+    private final SmsSender sender;
+    private final SmsProperties properties;
+    private final String consumerName;
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    // recoverPending이 회수한 묶음 (스케줄러 스레드에서 발송하지 않고 발송 스레드가 꺼내 처리)
+    private final Queue<List<SmsDispatchQueue.Delivery>> recovered = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = false;
+    private ExecutorService workers;
+
+    public SmsDispatchWorker(SmsDispatchQueue queue, SmsSender sender, SmsProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.queue = queue;
+        this.sender = sender;
+        this.properties = properties;
+        this.consumerName = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        this.sendTimer = Timer.builder("sms.dispatch.send")
+                .description("다건 발송 API 1회 호출 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.retriedCounter = dispatchCounter(meterRegistry, "retry");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sms.dispatch.messages")
+                .description("발송 결과별 메시지 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isDispatchEnabled()) {
+            return;
+        }
+        queue.ensureGroup();
+        running = true;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.getWorkerCount(), runnable -> {
+            Thread thread = new Thread(runnable, "sms-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < properties.getWorkerCount(); i++) {
+            workers.execute(this::pollLoop);
+        }
+        log.info("SMS 발송 워커 시작 - consumer: {}, 스레드 {}개", consumerName, properties.getWorkerCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void pollLoop() {
+        Duration pollTimeout = Duration.ofMillis(properties.getPollTimeoutMillis());
+        while (running) {
+            try {
+                pollOnce(pollTimeout);
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("SMS 발송 큐 처리 실패 - 잠시 후 다시 시도합니다.", e);
+                pause(pollTimeout);
+            }
+        }
+    }
+
+    void pollOnce(Duration pollTimeout) {
+        List<SmsDispatchQueue.Delivery> deliveries = recovered.poll();
+        if (deliveries == null) {
+            deliveries = queue.read(consumerName, properties.getBatchSize(), pollTimeout);
+        }
+        if (!deliveries.isEmpty()) {
+            dispatch(deliveries);
+        }
+    }
+
+    // 재시도 시각이 된 메시지를 큐로 되돌림
+    @Scheduled(fixedDelay = 1000)
+    public void releaseDueRetries() {
+        if (!running) {
+            return;
+        }
+        long moved = queue.moveDueRetries(RETRY_MOVE_LIMIT);
+        if (moved > 0) {
+            log.debug("SMS 재시도 {}건 큐에 재적재", moved);
+        }
+    }
+
+    // 처리 도중 종료된 워커가 남긴 pending 메시지 회수
+    @Scheduled(fixedDelayString = "${sms.pending-idle-millis:60000}")
+    public void recoverPending() {
+        if (!running) {
+            return;
+        }
+        List<SmsDispatchQueue.Delivery> deliveries = queue.claimIdle(consumerName,
+                Duration.ofMillis(properties.getPendingIdleMillis()), properties.getBatchSize());
+        if (!deliveries.isEmpty()) {
+            log.info("ACK되지 않은 SMS {}건 회수", deliveries.size());
+            recovered.add(deliveries);
+        }
+    }
+
+    void dispatch(List<SmsDispatchQueue.Delivery> deliveries) {
+        List<SmsMessage> messages = new ArrayList<>(deliveries.size());
+        List<RecordId> recordIds = new ArrayList<>(deliveries.size());
+        for (SmsDispatchQueue.Delivery delivery : deliveries) {
+            messages.add(delivery.message());
+            recordIds.add(delivery.recordId());
+        }
+
+        List<SmsMessage> rejected;
+        try {
+            rejected = sendTimer.record(() -> sender.sendAll(messages));
+        } catch (RuntimeException e) {
+            log.warn("SMS {}건 발송 실패 - 재시도 예약", messages.size(), e);
+            // 재시도는 새 메시지로 다시 적재되므로 예약이 저장된 뒤에 원본을 ACK
+            // 예약 중 Redis 오류가 나면 ACK하지 않고 pending으로 남겨 recoverPending이 다시 처리
+            scheduleRetries(messages);
+            queue.acknowledge(recordIds);
+            return;
+        }
+        if (rejected == null || rejected.isEmpty()) {
+            markSent(messages);
+            queue.acknowledge(recordIds);
+            return;
+        }
+
+        // 접수된 메시지는 먼저 SENT 기록 후 ACK (재시도 예약이 실패해도 다시 발송되지 않도록)
+        Set<SmsMessage> rejectedSet = new HashSet<>(rejected);
+        List<SmsMessage> accepted = new ArrayList<>();
+        List<RecordId> acceptedIds = new ArrayList<>();
+        List<RecordId> rejectedIds = new ArrayList<>();
+        for (SmsDispatchQueue.Delivery delivery : deliveries) {
+            if (rejectedSet.contains(delivery.message())) {
+                rejectedIds.add(delivery.recordId());
+            } else {
+                accepted.add(delivery.message());
+                acceptedIds.add(delivery.recordId());
+            }
+        }
+        if (!accepted.isEmpty()) {
+            markSent(accepted);
+            queue.acknowledge(acceptedIds);
+        }
+        log.warn("SMS {}건 중 {}건 접수 실패 - 재시도 예약", messages.size(), rejectedIds.size());
+        scheduleRetries(rejected);
+        queue.acknowledge(rejectedIds);
+    }
+
+    private void markSent(List<SmsMessage> messages) {
+        List<SmsMessage> sent = messages.stream().map(SmsMessage::nextAttempt).toList();
+        queue.updateStatus(sent, SmsDispatchStatus.SENT);
+        sentCounter.increment(sent.size());
+    }
+
+    private void scheduleRetries(List<SmsMessage> messages) {
+        List<SmsMessage> retrying = new ArrayList<>();
+        List<SmsMessage> failed = new ArrayList<>();
+        for (SmsMessage message : messages) {
+            SmsMessage next = message.nextAttempt();
+            if (next.attempt() >= properties.getMaxAttempts()) {
+                failed.add(next);
+            } else {
+                queue.scheduleRetry(next, backoff(next.attempt()));
+                retrying.add(next);
+            }
+        }
+        if (!retrying.isEmpty()) {
+            queue.updateStatus(retrying, SmsDispatchStatus.RETRYING);
+            retriedCounter.increment(retrying.size());
+        }
+        if (!failed.isEmpty()) {
+            log.error("SMS {}건 최대 시도 횟수 초과로 발송 포기 - ids: {}",
+                    failed.size(), failed.stream().map(SmsMessage::id).toList());
+            queue.updateStatus(failed, SmsDispatchStatus.FAILED);
+            failedCounter.increment(failed.size());
+        }
+    }
+
+    // attempt번 실패한 뒤의 대기 시간: initial * 2^(attempt-1), 상한 maxBackoff
+    Duration backoff(int attempt) {
+        long delay = properties.getInitialBackoffMillis() << Math.min(Math.max(attempt - 1, 0), 20);
+        return Duration.ofMillis(Math.min(delay, properties.getMaxBackoffMillis()));
+    }
+
+    private void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.know_who_how.main_server.auth.sms;
+
+/**
+ * 발송 큐에 적재되는 SMS 한 건입니다.
+ *
+ * @param id      메시지 ID (발송 상태 조회 키, 인증번호 발송은 verificationId 사용)
+ * @param to      수신 번호
+ * @param text    본문
+ * @param attempt 지금까지의 발송 시도 횟수
+ */
+public record SmsMessage(String id, String to, String text, int attempt) {
+
+    public SmsMessage nextAttempt() {
+        return new SmsMessage(id, to, text, attempt + 1);
+    }
+}
@@ -0,0 +1,16 @@
+package com.know_who_how.main_server.auth.sms;
+
+import java.util.List;
+
+/**
+ * SMS 발송 구현체입니다. (sms.sender 설정으로 선택)
+ * 발송 요청 자체가 실패하면 CustomException(SMS_SEND_FAILURE)을 던지며, 이 경우 묶음 전체가 재시도됩니다.
+ */
+public interface SmsSender {
+
+    /**
+     * 묶음을 한 번에 발송합니다.
+     * @return 접수되지 않은 메시지 (모두 접수되면 빈 목록, 이 메시지들만 재시도됨)
+     */
+    List<SmsMessage> sendAll(List<SmsMessage> messages);
+}
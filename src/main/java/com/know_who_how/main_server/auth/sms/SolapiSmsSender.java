@@ -0,0 +1,91 @@
+package com.know_who_how.main_server.auth.sms;
+
+import com.know_who_how.main_server.global.config.CoolSmsProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.solapi.sdk.SolapiClient;
+import com.solapi.sdk.message.dto.response.MultipleDetailMessageSentResponse;
+import com.solapi.sdk.message.exception.SolapiMessageNotReceivedException;
+import com.solapi.sdk.message.model.FailedMessage;
+import com.solapi.sdk.message.model.Message;
+import com.solapi.sdk.message.service.DefaultMessageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Solapi 다건 발송 API로 묶음 단위 발송합니다.
+ * 응답의 실패 목록(failedMessageList)에 있는 메시지만 접수되지 않은 것으로 반환합니다.
+ * (메시지마다 customFields에 메시지 ID를 담아 보내 실패 항목과 맞춤, 같은 번호로 여러 건을 보내도 구분됨)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.sender", havingValue = "solapi", matchIfMissing = true)
+public class SolapiSmsSender implements SmsSender {
+
+    private static final String MESSAGE_ID_FIELD = "messageId";
+
+    private final CoolSmsProperties coolSmsProperties;
+    private final DefaultMessageService messageService;
+
+    public SolapiSmsSender(CoolSmsProperties coolSmsProperties) {
+        this.coolSmsProperties = coolSmsProperties;
+        this.messageService = SolapiClient.INSTANCE.createInstance(
+                coolSmsProperties.getApiKey(),
+                coolSmsProperties.getApiSecret()
+        );
+    }
+
+    @Override
+    public List<SmsMessage> sendAll(List<SmsMessage> messages) {
+        List<Message> requests = messages.stream()
+                .map(this::toMessage)
+                .toList();
+        MultipleDetailMessageSentResponse response;
+        try {
+            response = messageService.send(requests);
+        } catch (SolapiMessageNotReceivedException e) {
+            // 묶음의 모든 메시지가 접수되지 않은 경우
+            log.error("SMS 다건 발송 실패 - {}건, 상세 정보: {}", messages.size(), e.getFailedMessageList());
+            throw new CustomException(ErrorCode.SMS_SEND_FAILURE);
+        } catch (Exception e) {
+            log.error("SMS 다건 발송 중 알 수 없는 오류 발생 - {}건", messages.size(), e);
+            throw new CustomException(ErrorCode.SMS_SEND_FAILURE);
+        }
+
+        List<FailedMessage> failedMessages = response == null ? null : response.getFailedMessageList();
+        if (failedMessages == null || failedMessages.isEmpty()) {
+            return List.of();
+        }
+        log.warn("SMS 다건 발송 중 {}건 접수 실패 - 상세 정보: {}", failedMessages.size(), failedMessages);
+        Set<String> failedIds = new HashSet<>();
+        Set<String> failedNumbers = new HashSet<>();
+        for (FailedMessage failed : failedMessages) {
+            Map<String, String> customFields = failed.getCustomFields();
+            String id = customFields == null ? null : customFields.get(MESSAGE_ID_FIELD);
+            if (id != null) {
+                failedIds.add(id);
+            } else {
+                // 메시지 ID가 없는 실패 항목은 수신 번호로 맞춤
+                failedNumbers.add(failed.getTo());
+            }
+        }
+        return messages.stream()
+                .filter(message -> failedIds.contains(message.id()) || failedNumbers.contains(message.to()))
+                .toList();
+    }
+
+    private Message toMessage(SmsMessage smsMessage) {
+        Message message = new Message();
+        message.setFrom(coolSmsProperties.getFromNumber());
+        message.setTo(smsMessage.to());
+        message.setText(smsMessage.text());
+        message.setCustomFields(Map.of(MESSAGE_ID_FIELD, smsMessage.id()));
+        return message;
+    }
+}
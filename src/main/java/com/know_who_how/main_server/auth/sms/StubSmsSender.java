@@ -0,0 +1,51 @@
+package com.know_who_how.main_server.auth.sms;
+
+import com.know_who_how.main_server.global.config.SmsProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실제로 발송하지 않는 오프라인 부하 테스트용 발송 구현체입니다. (sms.sender=stub)
+ * 설정된 지연과 실패 비율로 외부 API를 흉내 냅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.sender", havingValue = "stub")
+public class StubSmsSender implements SmsSender {
+
+    private final long latencyMillis;
+    private final double failureRate;
+    private final Counter sentCounter;
+
+    public StubSmsSender(SmsProperties smsProperties, MeterRegistry meterRegistry) {
+        this.latencyMillis = smsProperties.getStubLatencyMillis();
+        this.failureRate = smsProperties.getStubFailureRate();
+        this.sentCounter = Counter.builder("sms.stub.sent")
+                .description("stub 발송 구현체가 처리한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<SmsMessage> sendAll(List<SmsMessage> messages) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SMS_SEND_FAILURE);
+        }
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new CustomException(ErrorCode.SMS_SEND_FAILURE);
+        }
+        sentCounter.increment(messages.size());
+        log.debug("[stub] SMS {}건 발송 처리", messages.size());
+        return List.of();
+    }
+}
@@ -0,0 +1,72 @@
+package com.know_who_how.main_server.auth.token;
+
+import com.know_who_how.main_server.global.entity.Token.RefreshToken;
+import com.know_who_how.main_server.user.repository.RefreshTokenRepository;
+import com.know_who_how.main_server.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * refresh_token 테이블 기반 저장소 (기존 AuthService/OAuthService 로직)
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public void save(Long userId, String refreshToken, Instant expiryDate) {
+        Optional<RefreshToken> existingRefreshToken = refreshTokenRepository.findByUser_UserId(userId);
+
+        if (existingRefreshToken.isPresent()) {
+            existingRefreshToken.get().updateToken(refreshToken, expiryDate);
+            refreshTokenRepository.save(existingRefreshToken.get());
+        } else {
+            RefreshToken newRefreshToken = RefreshToken.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .tokenValue(refreshToken)
+                    .expiryDate(expiryDate)
+                    .build();
+            refreshTokenRepository.save(newRefreshToken);
+        }
+    }
+
+    @Override
+    @Transactional
+    public RotationResult rotate(Long userId, String presentedToken, String newRefreshToken, Instant newExpiryDate) {
+        Optional<RefreshToken> stored = refreshTokenRepository.findByUser_UserId(userId);
+        if (stored.isEmpty() || !stored.get().getTokenValue().equals(presentedToken)) {
+            return RotationResult.INVALID;
+        }
+        if (stored.get().getExpiryDate().isBefore(Instant.now())) {
+            return RotationResult.EXPIRED;
+        }
+        stored.get().updateToken(newRefreshToken, newExpiryDate);
+        refreshTokenRepository.save(stored.get());
+        return RotationResult.ROTATED;
+    }
+
+    @Override
+    @Transactional
+    public boolean revoke(Long userId, String presentedToken) {
+        Optional<RefreshToken> stored = refreshTokenRepository.findByUser_UserId(userId);
+        if (stored.isEmpty() || !stored.get().getTokenValue().equals(presentedToken)) {
+            return false;
+        }
+        refreshTokenRepository.delete(stored.get());
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Long userId) {
+        refreshTokenRepository.deleteByUser_UserId(userId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.know_who_how.main_server.auth.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * MySQL → Redis 전환 기간용 저장소입니다.
+ * 판정은 MySQL(기존 저장소) 기준으로 하고, 쓰기는 양쪽에 반영하여 Redis를 미리 채워 둡니다.
+ * 전환 시점에는 jwt.refresh-token-store=redis 로 변경하면 됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MigratingRefreshTokenStore implements RefreshTokenStore {
+
+    private final JpaRefreshTokenStore primary;
+    private final RedisRefreshTokenStore secondary;
+
+    @Override
+    public void save(Long userId, String refreshToken, Instant expiryDate) {
+        primary.save(userId, refreshToken, expiryDate);
+        secondary.save(userId, refreshToken, expiryDate);
+    }
+
+    @Override
+    public RotationResult rotate(Long userId, String presentedToken, String newRefreshToken, Instant newExpiryDate) {
+        RotationResult result = primary.rotate(userId, presentedToken, newRefreshToken, newExpiryDate);
+        // MySQL에는 교체 이력이 없으므로 재사용 탐지는 Redis의 사용 이력으로 판정하고, 탐지되면 양쪽 모두 폐기
+        if (result == RotationResult.INVALID && secondary.revokeIfReused(userId, presentedToken)) {
+            primary.deleteAll(userId);
+            return RotationResult.REUSED;
+        }
+        if (result == RotationResult.ROTATED
+                && secondary.rotate(userId, presentedToken, newRefreshToken, newExpiryDate) != RotationResult.ROTATED) {
+            // 전환 이전에 발급되어 Redis에 없는 토큰은 새 토큰으로 채움
+            secondary.save(userId, newRefreshToken, newExpiryDate);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean revoke(Long userId, String presentedToken) {
+        boolean revoked = primary.revoke(userId, presentedToken);
+        if (revoked) {
+            secondary.deleteAll(userId);
+        }
+        return revoked;
+    }
+
+    @Override
+    public void deleteAll(Long userId) {
+        primary.deleteAll(userId);
+        secondary.deleteAll(userId);
+    }
+}
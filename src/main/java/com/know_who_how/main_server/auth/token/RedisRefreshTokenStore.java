@@ -0,0 +1,149 @@
+package com.know_who_how.main_server.auth.token;
+
+import com.know_who_how.main_server.global.jwt.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Redis 기반 Refresh Token 저장소입니다.
+ * - refresh:{userId}      현재 토큰의 SHA-256 digest (토큰 만료 시각에 맞춰 TTL 설정)
+ * - refresh:used:{userId} 교체되어 더 이상 유효하지 않은 토큰 digest 집합 (재사용 탐지용)
+ * 비교와 교체는 Lua 스크립트 하나로 실행되어, 같은 토큰으로 동시에 재발급을 요청해도 한 번만 성공합니다.
+ * 값은 JSON 직렬화 없이 문자열로 저장해야 하므로 StringRedisTemplate을 사용합니다.
+ */
+@Slf4j
+@Component
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:";
+    private static final String USED_KEY_PREFIX = "refresh:used:";
+
+    // KEYS[1]=현재 토큰, KEYS[2]=사용된 토큰 집합 / ARGV[1]=제시 토큰, ARGV[2]=새 토큰, ARGV[3]=새 토큰 TTL(ms), ARGV[4]=사용 이력 TTL(ms)
+    // 반환: 1=교체, -1=재사용 탐지(현재 토큰 폐기), 0=불일치/없음
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                redis.call('SADD', KEYS[2], ARGV[1])
+                redis.call('PEXPIRE', KEYS[2], ARGV[4])
+                return 1
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return -1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=현재 토큰, KEYS[2]=사용된 토큰 집합 / ARGV[1]=제시 토큰 → 이미 교체된 토큰이면 현재 토큰 폐기
+    private static final RedisScript<Long> REVOKE_IF_REUSED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=현재 토큰 / ARGV[1]=제시 토큰 → 일치할 때만 삭제
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long usedHistoryTtlMillis;
+
+    public RedisRefreshTokenStore(StringRedisTemplate stringRedisTemplate, JwtProperties jwtProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 교체된 토큰도 원래 만료 시각까지는 재사용될 수 있으므로 Refresh Token 유효기간만큼 보관
+        this.usedHistoryTtlMillis = jwtProperties.getRefreshTokenValidityInSeconds() * 1000L;
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, Instant expiryDate) {
+        Duration ttl = ttlUntil(expiryDate);
+        if (ttl.isZero()) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, digest(refreshToken), ttl);
+    }
+
+    @Override
+    public RotationResult rotate(Long userId, String presentedToken, String newRefreshToken, Instant newExpiryDate) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(KEY_PREFIX + userId, USED_KEY_PREFIX + userId),
+                digest(presentedToken),
+                digest(newRefreshToken),
+                String.valueOf(Math.max(1, ttlUntil(newExpiryDate).toMillis())),
+                String.valueOf(usedHistoryTtlMillis));
+
+        if (result == null || result == 0) {
+            // 키가 TTL로 사라진 경우도 포함 (만료 여부는 JWT 검증 단계에서 이미 확인됨)
+            return RotationResult.INVALID;
+        }
+        if (result < 0) {
+            log.warn("[RefreshToken] 이미 교체된 토큰 재사용 탐지 - userId: {}, 현재 세션 폐기", userId);
+            return RotationResult.REUSED;
+        }
+        return RotationResult.ROTATED;
+    }
+
+    /**
+     * 제시된 토큰이 이미 교체된 토큰이면 현재 토큰을 폐기합니다. (교체는 하지 않음, 전환 기간의 재사용 탐지용)
+     *
+     * @return 재사용 탐지 여부
+     */
+    public boolean revokeIfReused(Long userId, String presentedToken) {
+        Long reused = stringRedisTemplate.execute(REVOKE_IF_REUSED_SCRIPT,
+                List.of(KEY_PREFIX + userId, USED_KEY_PREFIX + userId), digest(presentedToken));
+        if (reused != null && reused > 0) {
+            log.warn("[RefreshToken] 이미 교체된 토큰 재사용 탐지 - userId: {}, 현재 세션 폐기", userId);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean revoke(Long userId, String presentedToken) {
+        Long deleted = stringRedisTemplate.execute(REVOKE_SCRIPT,
+                List.of(KEY_PREFIX + userId), digest(presentedToken));
+        return deleted != null && deleted > 0;
+    }
+
+    @Override
+    public void deleteAll(Long userId) {
+        stringRedisTemplate.delete(List.of(KEY_PREFIX + userId, USED_KEY_PREFIX + userId));
+    }
+
+    private Duration ttlUntil(Instant expiryDate) {
+        Duration ttl = Duration.between(Instant.now(), expiryDate);
+        return ttl.isNegative() ? Duration.ZERO : ttl;
+    }
+
+    // 토큰 원문 대신 digest를 저장 (Redis 메모리 절감 및 유출 시 재사용 방지)
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -0,0 +1,46 @@
+package com.know_who_how.main_server.auth.token;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 Refresh Token 저장소입니다. (사용자당 1개, RTR 적용)
+ * jwt.refresh-token-store 설정으로 구현체를 선택합니다.
+ * - jpa: refresh_token 테이블 (기존 방식)
+ * - migration: MySQL에서 읽고 MySQL/Redis 양쪽에 기록 (전환 기간용)
+ * - redis: Redis 단독 (TTL로 만료 처리, 원자적 교체 및 재사용 탐지)
+ */
+public interface RefreshTokenStore {
+
+    enum Mode {
+        JPA, MIGRATION, REDIS
+    }
+
+    enum RotationResult {
+        ROTATED,  // 교체 성공
+        REUSED,   // 이미 교체된(사용된) 토큰 재사용 → 탈취 의심, 현재 토큰도 폐기됨
+        EXPIRED,  // 저장된 토큰 만료
+        INVALID   // 저장된 토큰 없음 또는 불일치
+    }
+
+    /**
+     * 로그인 시 새 Refresh Token을 저장합니다. 기존 토큰은 대체됩니다.
+     */
+    void save(Long userId, String refreshToken, Instant expiryDate);
+
+    /**
+     * 제시된 토큰이 현재 저장된 토큰과 같을 때만 새 토큰으로 교체합니다.
+     */
+    RotationResult rotate(Long userId, String presentedToken, String newRefreshToken, Instant newExpiryDate);
+
+    /**
+     * 제시된 토큰이 현재 저장된 토큰과 같을 때만 삭제합니다. (로그아웃)
+     *
+     * @return 삭제 여부
+     */
+    boolean revoke(Long userId, String presentedToken);
+
+    /**
+     * 사용자의 Refresh Token을 모두 삭제합니다. (회원 탈퇴)
+     */
+    void deleteAll(Long userId);
+}
@@ -0,0 +1,9 @@
+package com.know_who_how.main_server.global.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지 (keys가 null이면 영역 전체)
+ */
+public record CacheEvictMessage(String node, String cache, List<String> keys) {
+}
@@ -0,0 +1,11 @@
+package com.know_who_how.main_server.global.cache;
+
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.util.RedisTypeId;
+
+/**
+ * 부정 캐시 항목 - 원본이 던진 CustomException의 ErrorCode를 값 대신 저장
+ */
+@RedisTypeId(6)
+public record CachedFailure(ErrorCode errorCode) {
+}
@@ -0,0 +1,12 @@
+package com.know_who_how.main_server.global.cache;
+
+/**
+ * 원본 데이터 자체에 유효 기한이 있는 값입니다 (ex. 채용공고 마감일).
+ * deadlineGrace가 설정된 영역은 이 값을 영역 TTL과 "기한 + deadlineGrace" 중 먼저 오는 시각까지만 L1/L2에 보관합니다.
+ * 기한은 값에서 계산하며 따로 저장하지 않습니다.
+ */
+public interface DeadlineBound {
+
+    // 기한 (epoch ms), 기한이 없으면 0
+    long deadlineMillis();
+}
@@ -0,0 +1,257 @@
+package com.know_who_how.main_server.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.know_who_how.main_server.global.config.ResponseCacheProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 조회 API의 응답 본문을 최종 JSON으로 직렬화하고 gzip으로 압축한 바이트 그대로 캐시합니다.
+ * - 조회: 로컬 Caffeine → Redis(바이트 그대로, 역직렬화 없음) → bodyLoader, 적중 시 Jackson 직렬화/압축 없이 바이트를 응답
+ * - ETag는 압축 전 JSON의 MD5 (강한 ETag, 압축 응답은 "-gzip"을 붙여 표현별로 구분)
+ *   본문은 HTTP 응답과 같은 ObjectMapper로 직렬화하므로 캐시 메타데이터(SoftExpiring 시각)는 빠지고, 내용이 같으면 ETag도 같음
+ * - If-None-Match가 ETag와 같으면 본문 없이 304
+ * - Accept-Encoding에 gzip이 없는 클라이언트에는 압축을 풀어서 응답
+ * - bodyLoader가 실패하면 캐시하지 않고 예외를 그대로 전달 (GlobalExceptionHandler가 처리)
+ * 노드 간 로컬 캐시 무효화는 하지 않으므로 로컬 캐시는 짧게(localTtl) 보관합니다.
+ */
+@Slf4j
+@Component
+public class ResponseBytesCache {
+
+    private static final int ETAG_LENGTH = 32; // MD5 hex
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+    private final Cache<String, Entry> local;
+    private final Map<String, Meters> meters = new HashMap<>();
+
+    public ResponseBytesCache(RedisUtil redisUtil, ObjectMapper objectMapper,
+                              ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(properties.getLocalMaxBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.gzipped().length)
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+        properties.getTtls().keySet().forEach(name -> meters.put(name, new Meters(
+                getCounter(meterRegistry, name, "local-hit"),
+                getCounter(meterRegistry, name, "redis-hit"),
+                getCounter(meterRegistry, name, "miss"),
+                Counter.builder("cache.response.not-modified")
+                        .description("If-None-Match가 일치하여 본문 없이 304로 응답한 횟수")
+                        .tag("cache", name)
+                        .register(meterRegistry))));
+    }
+
+    private static Counter getCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.response.gets")
+                .description("응답 바이트 캐시 조회 결과")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 값들로 응답 캐시 Key를 만듭니다.
+     * 값마다 URL 인코딩하여 ':'로 이으므로, 값 안의 ':'가 구분자와 섞여 다른 요청과 같은 Key가 되지 않습니다.
+     * (null은 인코딩 결과에 나올 수 없는 "~"로 표시)
+     */
+    public static String key(Object... parts) {
+        StringJoiner key = new StringJoiner(":");
+        for (Object part : parts) {
+            key.add(part == null ? "~" : URLEncoder.encode(part.toString(), StandardCharsets.UTF_8));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시된 응답 바이트로 응답하고, 없으면 bodyLoader의 결과를 직렬화·압축하여 저장한 뒤 응답합니다.
+     * @param cacheName      ResponseCacheProperties.ttls에 등록된 이름 (없으면 IllegalArgumentException)
+     * @param key            응답 본문을 결정하는 요청 값들로 만든 Key (key(...)로 생성)
+     * @param requestHeaders If-None-Match, Accept-Encoding을 읽을 요청 헤더
+     * @param bodyLoader     캐시 미스 시 응답 본문(ex. ApiResponse)을 만드는 Mono
+     */
+    public Mono<ResponseEntity<byte[]>> serve(String cacheName, String key, HttpHeaders requestHeaders,
+                                              Supplier<? extends Mono<?>> bodyLoader) {
+        Duration ttl = properties.getTtls().get(cacheName);
+        if (ttl == null) {
+            throw new IllegalArgumentException("등록되지 않은 응답 캐시: " + cacheName);
+        }
+        Meters counters = meters.get(cacheName);
+        String cacheKey = properties.getKeyPrefix() + cacheName + ":" + key;
+        boolean gzip = acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+
+        Entry cached = local.getIfPresent(cacheKey);
+        if (cached != null) {
+            counters.localHits().increment();
+            return Mono.just(respond(cached, ifNoneMatch, gzip, counters));
+        }
+        return redisUtil.getBytesAsync(cacheKey)
+                .map(Entry::decode)
+                .doOnNext(entry -> {
+                    counters.redisHits().increment();
+                    local.put(cacheKey, entry);
+                })
+                // Redis 장애나 형식이 맞지 않는 값은 미스로 처리 (bodyLoader의 예외는 이 아래에서 발생하므로 그대로 전달)
+                .onErrorResume(e -> {
+                    log.warn("응답 캐시 조회 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> bodyLoader.get()
+                        .map(body -> {
+                            counters.misses().increment();
+                            Entry entry = Entry.of(serialize(body));
+                            store(cacheKey, entry, ttl);
+                            return entry;
+                        })))
+                .map(entry -> respond(entry, ifNoneMatch, gzip, counters));
+    }
+
+    private void store(String cacheKey, Entry entry, Duration ttl) {
+        local.put(cacheKey, entry);
+        // 응답은 Redis 저장을 기다리지 않음 (저장에 실패해도 다음 미스에서 다시 저장)
+        redisUtil.saveBytesAsync(cacheKey, entry.encode(), ttl)
+                .subscribe(null, e -> log.warn("응답 캐시 저장 실패 - key: {}, error: {}", cacheKey, e.getMessage()));
+    }
+
+    private ResponseEntity<byte[]> respond(Entry entry, List<String> ifNoneMatch, boolean gzip, Meters counters) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"" + entry.etag() + (gzip ? GZIP_ETAG_SUFFIX : "") + "\"");
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        // 클라이언트는 응답을 보관하되, 사용 전에 If-None-Match로 다시 확인
+        headers.setCacheControl(CacheControl.noCache());
+        if (matches(ifNoneMatch, entry.etag())) {
+            counters.notModified().increment();
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        byte[] body = gzip ? entry.gzipped() : gunzip(entry.gzipped());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.setContentLength(body.length);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    // 압축/비압축 표현 중 어느 ETag로 확인하든 본문이 같으면 일치로 봄 (W/ 접두사는 무시)
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch) {
+            String value = tag.startsWith("W/") ? tag.substring(2) : tag;
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            if (value.equals("*") || value.equals(etag) || value.equals(etag + GZIP_ETAG_SUFFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ex. "gzip, deflate, br" → true, "gzip;q=0" → false
+    static boolean acceptsGzip(List<String> acceptEncodings) {
+        if (acceptEncodings == null) {
+            return false;
+        }
+        for (String header : acceptEncodings) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                    continue;
+                }
+                boolean refused = Arrays.stream(parts).skip(1)
+                        .map(String::trim)
+                        .anyMatch(param -> param.matches("q=0(\\.0*)?"));
+                if (!refused) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Redis 저장 형식: ETag(ASCII 32바이트) + gzip 본문
+    private record Entry(String etag, byte[] gzipped) {
+
+        static Entry of(byte[] json) {
+            return new Entry(DigestUtils.md5DigestAsHex(json), gzip(json));
+        }
+
+        static Entry decode(byte[] stored) {
+            if (stored.length <= ETAG_LENGTH) {
+                throw new IllegalStateException("응답 캐시 값의 길이가 올바르지 않음: " + stored.length);
+            }
+            return new Entry(new String(stored, 0, ETAG_LENGTH, StandardCharsets.US_ASCII),
+                    Arrays.copyOfRange(stored, ETAG_LENGTH, stored.length));
+        }
+
+        byte[] encode() {
+            byte[] stored = Arrays.copyOf(etag.getBytes(StandardCharsets.US_ASCII), ETAG_LENGTH + gzipped.length);
+            System.arraycopy(gzipped, 0, stored, ETAG_LENGTH, gzipped.length);
+            return stored;
+        }
+    }
+
+    private record Meters(Counter localHits, Counter redisHits, Counter misses, Counter notModified) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.know_who_how.main_server.global.cache;
+
+/**
+ * stale-while-revalidate 영역(softTtl 설정)에 저장하는 값입니다.
+ * 원본에서 가져온 시각과 갱신 기준 시각(epoch ms)을 값과 함께 L1/L2에 보관합니다.
+ * softExpiresAt이 지난 값은 그대로 반환하면서 백그라운드로 한 번 갱신합니다.
+ */
+public interface SoftExpiring {
+
+    long getFetchedAt();
+
+    long getSoftExpiresAt();
+
+    // TwoLevelCache가 원본 적재 직후, 저장하기 전에 호출
+    void markFetched(long fetchedAt, long softExpiresAt);
+}
@@ -0,0 +1,639 @@
+package com.know_who_how.main_server.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.know_who_how.main_server.global.config.TwoLevelCacheProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 2단계 캐시 영역입니다. (@Cacheable 또는 retrieve(key, loader) 직접 호출)
+ * - 조회: L1 → L2 → 원본(loader가 반환한 CompletableFuture), L2에서 찾은 값은 L1에 채움
+ * - 같은 노드에서 같은 Key의 동시 미스는 진행 중인 적재(future)를 함께 기다림
+ * - leaseTtl을 설정한 영역은 Redis 임차(SET NX)를 얻은 노드만 원본을 호출하고, 다른 노드는 L2에 저장되기를 기다림
+ * - softTtl을 설정한 영역은 softTtl이 지난 값(SoftExpiring)을 그대로 반환하고 백그라운드로 한 번 갱신 (ttl은 hard TTL)
+ * - negativeTtl을 설정한 영역은 원본이 지정한 ErrorCode로 실패한 결과도 캐시하여, 이후 조회 시 같은 예외를 던짐
+ * - lastKnownTtl을 설정한 영역은 저장할 때마다 사본을 더 오래 보관하고, 원본이 지정한 ErrorCode로 실패하면 사본을 반환
+ *   (원본 장애 중에는 hard TTL이 지난 값이라도 응답, 사본은 softTtl이 지난 값이므로 조회 시 다시 갱신을 시도함)
+ * - deadlineGrace를 설정한 영역은 기한이 있는 값(DeadlineBound)을 "기한 + deadlineGrace"까지만 L1/L2에 보관 (ttl이 더 짧으면 ttl)
+ * - 저장/삭제 시 다른 노드의 L1을 지우도록 evictionPublisher로 알림 (Key 목록이 null이면 전체 삭제)
+ * L1 값은 여러 요청이 같은 인스턴스를 공유하므로 읽기 전용으로 다뤄야 합니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final int CLEAR_BATCH_SIZE = 500;
+    private static final String LEASE_SUFFIX = ":lease";
+    private static final String LAST_KNOWN_SUFFIX = ":last-known";
+    private static final Duration DEFAULT_REFRESH_LEASE_TTL = Duration.ofSeconds(30);
+
+    private final String name;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final TwoLevelCacheProperties.Region region;
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final RedisUtil redisUtil;
+    private final BiConsumer<String, List<String>> evictionPublisher;
+    private final Cache<String, Object> local;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Executor refreshExecutor;
+    // Key → 다음 백그라운드 갱신을 시도할 수 있는 시각 (nanoTime), 갱신에 성공하면 제거
+    private final ConcurrentHashMap<String, Long> nextRefreshAt = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Timer loadTimer;
+    private final Counter localCoalesced;
+    private final Counter remoteCoalesced;
+    private final Counter negativeHits;
+    private final Timer staleAge;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    private final Counter lastKnownFallbacks;
+
+    public TwoLevelCache(String name, TwoLevelCacheProperties.Region region, RedisUtil redisUtil,
+                         BiConsumer<String, List<String>> evictionPublisher, Executor refreshExecutor,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.keyPrefix = region.getKeyPrefix() != null ? region.getKeyPrefix() : name + ":";
+        this.ttl = region.getTtl();
+        this.region = region;
+        this.redisUtil = redisUtil;
+        this.evictionPublisher = evictionPublisher;
+        this.refreshExecutor = refreshExecutor;
+
+        long localTtlNanos = (region.getLocalTtl() != null ? region.getLocalTtl() : ttl).toNanos();
+        long negativeTtlNanos = region.getNegativeTtl() != null
+                ? Math.min(region.getNegativeTtl().toNanos(), localTtlNanos) : localTtlNanos;
+        Caffeine<String, Object> builder = Caffeine.newBuilder()
+                .maximumSize(region.getMaxSize())
+                .expireAfter(new Expiry<String, Object>() {
+                    @Override
+                    public long expireAfterCreate(String key, Object value, long currentTime) {
+                        if (value instanceof CachedFailure) {
+                            return negativeTtlNanos;
+                        }
+                        return Math.min(localTtlNanos, ttlOf(value).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                });
+        if (region.getRefreshAfterWrite() != null) {
+            // L2에서 사라졌으면 null이 반환되어 L1에서도 제거됨
+            this.local = builder.refreshAfterWrite(region.getRefreshAfterWrite())
+                    .build(key -> redisUtil.get(keyPrefix + key));
+        } else {
+            this.local = builder.build();
+        }
+
+        this.localHits = getCounter(meterRegistry, "local", "hit");
+        this.localMisses = getCounter(meterRegistry, "local", "miss");
+        this.redisHits = getCounter(meterRegistry, "redis", "hit");
+        this.redisMisses = getCounter(meterRegistry, "redis", "miss");
+        this.loadTimer = Timer.builder("cache.two-level.loads")
+                .description("캐시 미스 시 원본 메서드 적재 소요 시간")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.localCoalesced = coalescedCounter(meterRegistry, "local");
+        this.remoteCoalesced = coalescedCounter(meterRegistry, "remote");
+        this.negativeHits = Counter.builder("cache.two-level.negative.hits")
+                .description("부정 캐시로 원본 호출 없이 실패를 반환한 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.staleAge = Timer.builder("cache.two-level.stale.age")
+                .description("softTtl이 지난 값을 반환할 때 그 값의 나이 (원본 조회 이후 경과 시간)")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshSuccesses = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+        this.lastKnownFallbacks = Counter.builder("cache.two-level.last-known.fallbacks")
+                .description("원본 장애로 마지막으로 저장한 값을 대신 반환한 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.two-level.local.size", local, Cache::estimatedSize)
+                .description("로컬(L1) 캐시 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter getCounter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.two-level.gets")
+                .description("캐시 영역/단계별 조회 결과")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter coalescedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("cache.two-level.coalesced")
+                .description("진행 중인 적재를 기다려 원본 호출을 생략한 횟수 (local: 같은 노드, remote: 다른 노드)")
+                .tag("cache", name)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.two-level.refreshes")
+                .description("stale-while-revalidate 백그라운드 갱신 결과")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return rethrowIfFailure(value);
+        }
+        localMisses.increment();
+
+        value = getFromRedis(localKey);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return rethrowIfFailure(value);
+    }
+
+    /**
+     * 동기 조회 (@Cacheable(sync = true) 등). retrieve(key, loader)와 같은 경로로 적재하고 완료될 때까지 기다립니다.
+     * 블로킹 valueLoader는 Redis 이벤트 루프 스레드에서 실행되지 않도록 boundedElastic에서 호출합니다.
+     * 원본이나 부정 캐시의 예외는 ValueRetrievalException으로 감싸서 던집니다 (캐시 프록시가 원래 예외로 풀어서 전달).
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        try {
+            return retrieve(key, () -> Mono.fromCallable(valueLoader)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .toFuture()).join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * 원본 적재 없이 L1 → L2만 조회합니다 (없으면 null로 완료).
+     */
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return completeWith(value);
+        }
+        localMisses.increment();
+        return getFromRedisAsync(localKey).thenCompose(cached -> {
+            if (cached != null) {
+                local.put(localKey, cached);
+            }
+            return completeWith(cached);
+        });
+    }
+
+    /**
+     * L1 → L2 → 원본 순서로 조회합니다. L2 조회/저장도 논블로킹으로 수행합니다.
+     * 이어지는 콜백은 Redis/HTTP 클라이언트의 이벤트 루프 스레드에서 실행되므로 블로킹 호출을 하지 않습니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        String localKey = key.toString();
+        Supplier<CompletableFuture<?>> loader = valueLoader::get;
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            revalidateIfStale(localKey, value, loader);
+            return (CompletableFuture<T>) completeWith(value);
+        }
+        localMisses.increment();
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, pending);
+        if (existing != null) {
+            localCoalesced.increment();
+            return (CompletableFuture<T>) existing.thenCompose(this::completeWith);
+        }
+        loadThroughAsync(localKey, loader)
+                .exceptionallyCompose(e -> lastKnownAsync(localKey, e))
+                .whenComplete((loaded, e) -> {
+                    inFlight.remove(localKey, pending);
+                    if (e != null) {
+                        pending.completeExceptionally(e);
+                    } else {
+                        local.put(localKey, loaded);
+                        pending.complete(loaded);
+                    }
+                });
+        return (CompletableFuture<T>) pending.thenCompose(loaded -> {
+            revalidateIfStale(localKey, loaded, loader);
+            return completeWith(loaded);
+        });
+    }
+
+    // 저장 값을 반환 값으로 (부정 캐시 항목은 원래 예외로 실패)
+    private CompletableFuture<Object> completeWith(Object value) {
+        if (value instanceof CachedFailure failure) {
+            negativeHits.increment();
+            return CompletableFuture.failedFuture(new CustomException(failure.errorCode()));
+        }
+        return CompletableFuture.completedFuture(fromStoreValue(value));
+    }
+
+    private CompletableFuture<Object> getFromRedisAsync(String localKey) {
+        return redisUtil.getAsync(keyPrefix + localKey).toFuture().thenApply(value -> {
+            (value != null ? redisHits : redisMisses).increment();
+            return value;
+        });
+    }
+
+    private CompletableFuture<Object> loadThroughAsync(String localKey, Supplier<CompletableFuture<?>> valueLoader) {
+        String redisKey = keyPrefix + localKey;
+        return getFromRedisAsync(localKey).thenCompose(cached -> {
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            if (region.getLeaseTtl() == null) {
+                return loadAndStoreAsync(redisKey, valueLoader);
+            }
+            return acquireLeaseOrWait(redisKey, valueLoader, System.nanoTime() + region.getLeaseTtl().toNanos());
+        });
+    }
+
+    // 다른 노드가 임차 중이면 L2에 값이 저장되거나 임차가 풀릴 때까지 대기 - 스레드를 재우는 대신 지연 실행으로 L2를 다시 확인
+    // 임차 만료 시간을 넘겼으면 직접 적재 (임차한 노드가 응답 없이 종료된 경우 등)
+    private CompletableFuture<Object> acquireLeaseOrWait(String redisKey, Supplier<CompletableFuture<?>> valueLoader,
+                                                         long deadline) {
+        String leaseKey = redisKey + LEASE_SUFFIX;
+        return redisUtil.saveIfAbsentAsync(leaseKey, leaseOwner, region.getLeaseTtl()).toFuture()
+                .thenCompose(acquired -> {
+                    if (acquired) {
+                        return loadAndStoreAsync(redisKey, valueLoader).whenComplete((loaded, e) ->
+                                redisUtil.deleteIfValueAsync(leaseKey, leaseOwner).subscribe(null, error ->
+                                        log.warn("캐시 임차 해제 실패 - 만료 시 자동 해제됩니다. key: {}", leaseKey, error)));
+                    }
+                    if (System.nanoTime() > deadline) {
+                        return loadAndStoreAsync(redisKey, valueLoader);
+                    }
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            region.getLeasePollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(ignored -> redisUtil.getAsync(redisKey).toFuture())
+                            .thenCompose(value -> {
+                                if (value != null) {
+                                    remoteCoalesced.increment();
+                                    return CompletableFuture.completedFuture(value);
+                                }
+                                return acquireLeaseOrWait(redisKey, valueLoader, deadline);
+                            });
+                });
+    }
+
+    private CompletableFuture<Object> loadAndStoreAsync(String redisKey, Supplier<CompletableFuture<?>> valueLoader) {
+        Timer.Sample sample = Timer.start();
+        CompletableFuture<?> loading;
+        try {
+            loading = valueLoader.get();
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        return loading.handle((value, error) -> {
+            sample.stop(loadTimer);
+            if (error == null) {
+                return markFetched(toStoreValue(value));
+            }
+            // 실패도 캐시한 뒤 원래 예외로 반환 (대기 중인 요청은 CachedFailure로 같은 예외를 받음)
+            CachedFailure failure = negativeResult(error);
+            if (failure == null) {
+                throw error instanceof CompletionException completionException
+                        ? completionException : new CompletionException(error);
+            }
+            return (Object) failure;
+        }).thenCompose(value -> redisUtil.saveAsync(redisKey, value,
+                        value instanceof CachedFailure ? region.getNegativeTtl() : ttlOf(value))
+                .then(keepsLastKnown(value)
+                        ? redisUtil.saveAsync(redisKey + LAST_KNOWN_SUFFIX, value, region.getLastKnownTtl())
+                        : Mono.empty())
+                .thenReturn(value)
+                .toFuture());
+    }
+
+    // 원본 실패가 마지막 값 대체 대상이면 사본을, 아니거나 사본이 없으면 원래 예외를 반환
+    private CompletableFuture<Object> lastKnownAsync(String localKey, Throwable error) {
+        if (!isFallbackFailure(error)) {
+            return CompletableFuture.failedFuture(error);
+        }
+        return redisUtil.getAsync(keyPrefix + localKey + LAST_KNOWN_SUFFIX).toFuture().thenCompose(value -> {
+            if (value == null) {
+                return CompletableFuture.failedFuture(error);
+            }
+            onLastKnownFallback(localKey);
+            return CompletableFuture.completedFuture(value);
+        });
+    }
+
+    private void refreshAsync(String localKey, Supplier<CompletableFuture<?>> valueLoader) {
+        String redisKey = keyPrefix + localKey;
+        String leaseKey = redisKey + LEASE_SUFFIX;
+        Duration leaseTtl = region.getLeaseTtl() != null ? region.getLeaseTtl() : DEFAULT_REFRESH_LEASE_TTL;
+        // 다른 노드가 이미 갱신(또는 적재) 중이면 맡기고, 완료되면 무효화 메시지로 이 노드의 L1도 지워짐
+        redisUtil.saveIfAbsentAsync(leaseKey, leaseOwner, leaseTtl).toFuture()
+                .thenCompose(acquired -> !acquired ? CompletableFuture.completedFuture(null)
+                        : loadAndStoreAsync(redisKey, valueLoader)
+                        .whenComplete((loaded, e) -> redisUtil.deleteIfValueAsync(leaseKey, leaseOwner).subscribe())
+                        // 무효화 메시지 발행은 블로킹 호출이므로 이벤트 루프 밖에서
+                        .thenAcceptAsync(loaded -> {
+                            local.put(localKey, loaded);
+                            evictionPublisher.accept(name, List.of(localKey));
+                            nextRefreshAt.remove(localKey);
+                            refreshSuccesses.increment();
+                        }, refreshExecutor))
+                .exceptionally(e -> {
+                    refreshFailures.increment();
+                    log.warn("캐시 백그라운드 갱신 실패 - 이전 값을 계속 반환합니다. cache: {}, key: {}", name, localKey, e);
+                    return null;
+                });
+    }
+
+    private void onLastKnownFallback(String localKey) {
+        lastKnownFallbacks.increment();
+        log.warn("원본 장애로 마지막으로 저장한 값을 반환합니다. cache: {}, key: {}", name, localKey);
+    }
+
+    // 값과 (설정 시) 마지막 값 사본을 한 번의 파이프라인으로 저장
+    private void save(String redisKey, Object value) {
+        Duration valueTtl = ttlOf(value);
+        if (!keepsLastKnown(value)) {
+            redisUtil.save(redisKey, value, valueTtl);
+            return;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(redisKey, value);
+        values.put(redisKey + LAST_KNOWN_SUFFIX, value);
+        redisUtil.saveAll(values, key -> key.endsWith(LAST_KNOWN_SUFFIX) ? region.getLastKnownTtl() : valueTtl);
+    }
+
+    // 영역 TTL (deadlineGrace 영역의 DeadlineBound 값은 "기한 + deadlineGrace"까지 남은 시간이 더 짧으면 그 시간)
+    private Duration ttlOf(Object value) {
+        if (region.getDeadlineGrace() == null || !(value instanceof DeadlineBound bound) || bound.deadlineMillis() <= 0) {
+            return ttl;
+        }
+        long remaining = Math.max(bound.deadlineMillis() - System.currentTimeMillis(), 0)
+                + region.getDeadlineGrace().toMillis();
+        return remaining < ttl.toMillis() ? Duration.ofMillis(remaining) : ttl;
+    }
+
+    private boolean keepsLastKnown(Object value) {
+        return region.getLastKnownTtl() != null && !(value instanceof CachedFailure);
+    }
+
+    private boolean isFallbackFailure(Throwable e) {
+        if (region.getLastKnownTtl() == null) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CustomException customException
+                    && region.getFallbackErrorCodes().contains(customException.getErrorCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object markFetched(Object value) {
+        if (region.getSoftTtl() != null && value instanceof SoftExpiring softExpiring) {
+            long now = System.currentTimeMillis();
+            softExpiring.markFetched(now, now + region.getSoftTtl().toMillis());
+        }
+        return value;
+    }
+
+    // softTtl이 지난 값이면 나이를 기록하고, 이 노드에서 갱신 중이 아니면 백그라운드 갱신을 한 번 시작
+    private void revalidateIfStale(String localKey, Object value, Supplier<CompletableFuture<?>> valueLoader) {
+        if (region.getSoftTtl() == null || !(value instanceof SoftExpiring softExpiring)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now < softExpiring.getSoftExpiresAt()) {
+            return;
+        }
+        staleAge.record(now - softExpiring.getFetchedAt(), TimeUnit.MILLISECONDS);
+
+        // 갱신이 실패해도 refreshRetryInterval 뒤 다음 조회에서 다시 시도 (원본이 복구되면 자연히 갱신됨)
+        long nowNanos = System.nanoTime();
+        long retryNanos = region.getRefreshRetryInterval().toNanos();
+        boolean[] scheduled = {false};
+        nextRefreshAt.compute(localKey, (k, next) -> {
+            if (next != null && nowNanos - next < 0) {
+                return next;
+            }
+            scheduled[0] = true;
+            return nowNanos + retryNanos;
+        });
+        if (scheduled[0]) {
+            refreshAsync(localKey, valueLoader);
+        }
+    }
+
+    // 원본 예외(CompletionException 등으로 래핑될 수 있음) 중 부정 캐시 대상 CustomException을 찾음
+    private CachedFailure negativeResult(Throwable e) {
+        if (region.getNegativeTtl() == null) {
+            return null;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CustomException customException
+                    && region.getNegativeErrorCodes().contains(customException.getErrorCode())) {
+                return new CachedFailure(customException.getErrorCode());
+            }
+        }
+        return null;
+    }
+
+    private Object rethrowIfFailure(Object value) {
+        if (value instanceof CachedFailure failure) {
+            negativeHits.increment();
+            throw new CustomException(failure.errorCode());
+        }
+        return value;
+    }
+
+    private Object getFromRedis(String localKey) {
+        Object value = redisUtil.get(keyPrefix + localKey);
+        (value != null ? redisHits : redisMisses).increment();
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = key.toString();
+        Object storeValue = markFetched(toStoreValue(value));
+        save(keyPrefix + localKey, storeValue);
+        local.put(localKey, storeValue);
+        evictionPublisher.accept(name, List.of(localKey));
+    }
+
+    /**
+     * 여러 항목을 한 번의 파이프라인으로 L2에 저장하고 L1에도 채웁니다.
+     */
+    public void putAll(Map<String, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Map<String, Object> redisValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> redisValues.put(keyPrefix + key, toStoreValue(value)));
+        redisUtil.saveAll(redisValues, key -> ttlOf(redisValues.get(key)));
+        local.putAll(values);
+        evictionPublisher.accept(name, List.copyOf(values.keySet()));
+    }
+
+    /**
+     * putAll의 논블로킹 버전입니다. 무효화 메시지 발행(블로킹 호출)은 Redis 이벤트 루프 밖에서 수행합니다.
+     */
+    public CompletableFuture<Void> putAllAsync(Map<String, ?> values) {
+        if (values.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Map<String, Object> redisValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> redisValues.put(keyPrefix + key, toStoreValue(value)));
+        return redisUtil.saveAllAsync(redisValues, key -> ttlOf(redisValues.get(key)))
+                .then(Mono.fromRunnable(() -> {
+                    local.putAll(values);
+                    evictionPublisher.accept(name, List.copyOf(values.keySet()));
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .then()
+                .toFuture();
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = key.toString();
+        if (region.getLastKnownTtl() != null) {
+            redisUtil.deleteAll(List.of(keyPrefix + localKey, keyPrefix + localKey + LAST_KNOWN_SUFFIX));
+        } else {
+            redisUtil.delete(keyPrefix + localKey);
+        }
+        local.invalidate(localKey);
+        evictionPublisher.accept(name, List.of(localKey));
+    }
+
+    @Override
+    public void clear() {
+        List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+        redisUtil.scanKeys(keyPrefix + "*", redisKey -> {
+            batch.add(redisKey);
+            if (batch.size() >= CLEAR_BATCH_SIZE) {
+                redisUtil.deleteAll(batch);
+                batch.clear();
+            }
+        });
+        redisUtil.deleteAll(batch);
+        local.invalidateAll();
+        evictionPublisher.accept(name, null);
+    }
+
+    /**
+     * L2에 저장된 값을 한 번의 MGET으로 가져옵니다 (keys 순서대로, 없으면 null). L1은 채우지 않습니다.
+     */
+    public List<Object> peekAll(List<String> keys) {
+        return redisUtil.multiGet(keys.stream().map(key -> keyPrefix + key).toList());
+    }
+
+    /**
+     * 여러 Key를 한 번에 조회합니다 (keys 순서대로, 없으면 null). 원본 적재는 하지 않습니다.
+     * L1에 없는 Key만 한 번의 MGET으로 L2에서 가져와 L1에 채웁니다.
+     */
+    public CompletableFuture<List<Object>> retrieveAll(List<String> keys) {
+        Object[] values = new Object[keys.size()];
+        List<Integer> misses = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            values[i] = local.getIfPresent(keys.get(i));
+            if (values[i] != null) {
+                localHits.increment();
+            } else {
+                localMisses.increment();
+                misses.add(i);
+            }
+        }
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(fromStoreValues(values));
+        }
+        List<String> redisKeys = misses.stream().map(i -> keyPrefix + keys.get(i)).toList();
+        return redisUtil.multiGetAsync(redisKeys).toFuture().thenApply(cached -> {
+            for (int j = 0; j < misses.size(); j++) {
+                Object value = cached.get(j);
+                (value != null ? redisHits : redisMisses).increment();
+                if (value != null) {
+                    local.put(keys.get(misses.get(j)), value);
+                    values[misses.get(j)] = value;
+                }
+            }
+            return fromStoreValues(values);
+        });
+    }
+
+    // 저장 값 배열을 반환 값 목록으로 (부정 캐시 항목은 없는 값으로)
+    private List<Object> fromStoreValues(Object[] values) {
+        List<Object> result = new ArrayList<>(values.length);
+        for (Object value : values) {
+            result.add(value instanceof CachedFailure ? null : fromStoreValue(value));
+        }
+        return result;
+    }
+
+    // 다른 노드의 저장/삭제 알림 수신 시 L1만 제거
+    void evictLocal(List<String> keys) {
+        if (keys == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidateAll(keys);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.know_who_how.main_server.global.cache;
+
+import com.know_who_how.main_server.global.config.TwoLevelCacheProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TwoLevelCacheProperties에 설정한 영역만 제공하는 CacheManager입니다.
+ * 설정에 없는 이름으로 getCache를 호출하면 IllegalArgumentException을 던집니다 (오타로 캐시 없이 동작하지 않도록).
+ * 한 노드의 저장/삭제는 Pub/Sub으로 다른 노드에 전파되어 해당 Key의 L1만 제거됩니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String EVICT_CHANNEL = "cache:evict";
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_CAPACITY = 256;
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new LinkedHashMap<>();
+    // stale-while-revalidate 갱신 완료 후 L1 저장/무효화 알림(블로킹 호출)을 이벤트 루프 밖에서 실행
+    // (대기열이 가득 차면 해당 갱신은 실패로 기록되고 refreshRetryInterval 뒤 다시 시도)
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public TwoLevelCacheManager(TwoLevelCacheProperties properties, RedisUtil redisUtil,
+                                RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        properties.getRegions().forEach((name, region) -> caches.put(name,
+                new TwoLevelCache(name, region, redisUtil, this::publishEviction, refreshExecutor, meterRegistry)));
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public TwoLevelCache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache == null) {
+            throw new IllegalArgumentException("설정되지 않은 캐시 영역: " + name);
+        }
+        return cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private void publishEviction(String cacheName, List<String> keys) {
+        try {
+            redisUtil.publish(EVICT_CHANNEL, new CacheEvictMessage(nodeId, cacheName, keys));
+        } catch (RuntimeException e) {
+            // 다른 노드의 L1은 localTtl 이내에 만료됨
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}", cacheName, e);
+        }
+    }
+
+    // 다른 노드에서 발행한 무효화 메시지 수신 (자기 자신이 발행한 메시지는 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (redisUtil.readMessage(message) instanceof CacheEvictMessage evict && !nodeId.equals(evict.node())) {
+            TwoLevelCache cache = caches.get(evict.cache());
+            if (cache != null) {
+                cache.evictLocal(evict.keys());
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.know_who_how.main_server.global.catalog;
+
+import com.know_who_how.main_server.global.entity.Keyword.Keyword;
+import com.know_who_how.main_server.global.entity.Term.Term;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.user.repository.KeywordRepository;
+import com.know_who_how.main_server.user.repository.TermRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 약관(Term)·키워드(Keyword) 기준 데이터의 읽기 전용 인메모리 카탈로그입니다.
+ * - data.sql로 시드되는 작은 정적 데이터이므로 기동 시 한 번 적재하고, 이후 조회는 DB를 거치지 않음
+ * - 스냅샷은 불변 Map으로 통째로 교체되어, 갱신 중에도 조회는 항상 일관된 상태를 봄
+ * - 데이터 변경 후 requestRefresh()를 호출하면 Pub/Sub으로 모든 노드가 다시 적재
+ */
+@Slf4j
+@Component
+public class ReferenceCatalog implements MessageListener {
+
+    public static final String REFRESH_CHANNEL = "catalog:refresh";
+
+    private final TermRepository termRepository;
+    private final KeywordRepository keywordRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceCatalog(TermRepository termRepository, KeywordRepository keywordRepository,
+                            RedisUtil redisUtil, RedisMessageListenerContainer listenerContainer) {
+        this.termRepository = termRepository;
+        this.keywordRepository = keywordRepository;
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REFRESH_CHANNEL));
+    }
+
+    // data.sql 적재가 끝난 뒤에 읽도록 애플리케이션 준비 완료 시점에 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("기준 데이터 카탈로그 초기 적재 실패 - 첫 조회 시 다시 시도합니다.", e);
+        }
+    }
+
+    public List<Term> getRequiredTerms() {
+        return snapshot().requiredTerms();
+    }
+
+    public Optional<Term> findTerm(Long termId) {
+        return Optional.ofNullable(snapshot().termsById().get(termId));
+    }
+
+    public Optional<Keyword> findKeyword(Long keywordId) {
+        return Optional.ofNullable(snapshot().keywordsById().get(keywordId));
+    }
+
+    public Optional<Keyword> findKeywordByName(String name) {
+        return Optional.ofNullable(snapshot().keywordsByName().get(name));
+    }
+
+    /**
+     * DB에서 약관/키워드를 다시 읽어 이 노드의 스냅샷을 교체합니다.
+     */
+    public synchronized void refresh() {
+        List<Term> terms = termRepository.findAll();
+        List<Keyword> keywords = keywordRepository.findAll();
+        this.snapshot = new Snapshot(
+                terms.stream().collect(Collectors.toUnmodifiableMap(Term::getId, Function.identity())),
+                terms.stream().filter(Term::isRequired).toList(),
+                keywords.stream().collect(Collectors.toUnmodifiableMap(Keyword::getId, Function.identity())),
+                keywords.stream().collect(Collectors.toUnmodifiableMap(Keyword::getName, Function.identity())));
+        log.info("기준 데이터 카탈로그 적재 완료 - 약관 {}건, 키워드 {}건", terms.size(), keywords.size());
+    }
+
+    /**
+     * 이 노드를 갱신하고 다른 노드에도 갱신을 요청합니다.
+     */
+    public void requestRefresh() {
+        refresh();
+        redisUtil.publish(REFRESH_CHANNEL, "refresh");
+    }
+
+    // 다른 노드에서 발행한 갱신 요청 수신 (자신이 발행한 메시지도 수신되지만 재적재만 한 번 더 일어남)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("기준 데이터 카탈로그 갱신 실패 - 기존 스냅샷을 유지합니다.", e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<Long, Term> termsById,
+                            List<Term> requiredTerms,
+                            Map<Long, Keyword> keywordsById,
+                            Map<String, Keyword> keywordsByName) {
+    }
+}
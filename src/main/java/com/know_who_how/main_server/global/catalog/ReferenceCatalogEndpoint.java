@@ -0,0 +1,23 @@
+package com.know_who_how.main_server.global.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기준 데이터 카탈로그 수동 갱신용 actuator 엔드포인트입니다. (POST /actuator/catalog)
+ * 웹 노출은 management.endpoints.web.exposure.include 설정으로 제어합니다.
+ */
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class ReferenceCatalogEndpoint {
+
+    private final ReferenceCatalog referenceCatalog;
+
+    @WriteOperation
+    public void refresh() {
+        referenceCatalog.requestRefresh();
+    }
+}
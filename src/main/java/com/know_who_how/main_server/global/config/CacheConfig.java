@@ -0,0 +1,26 @@
+package com.know_who_how.main_server.global.config;
+
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 2단계 캐시 설정
+ * @Cacheable(sync = true)은 Mono/CompletableFuture 반환 메소드면 retrieve(key, loader), 그 외에는 get(key, Callable)로 조회합니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 캐시 영역: 로컬 Caffeine(L1) + Redis(L2), 영역별 설정은 cache.regions.*
+    @Bean
+    public TwoLevelCacheManager cacheManager(TwoLevelCacheProperties properties, RedisUtil redisUtil,
+                                             RedisMessageListenerContainer listenerContainer,
+                                             MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(properties, redisUtil, listenerContainer, meterRegistry);
+    }
+}
@@ -1,17 +1,20 @@
 package com.know_who_how.main_server.global.config;
 
 import com.know_who_how.main_server.auth.repository.AuthRepository;
+import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AuthRepository authRepository;
 
@@ -21,4 +24,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         return authRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
+
+    /**
+     * 로그인 성공 후 PasswordEncoder.upgradeEncoding이 true인 경우(알고리즘/cost 변경) 호출되어
+     * 새 해시로 교체합니다. 사용자는 비밀번호를 다시 설정할 필요가 없습니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User foundUser = authRepository.findByLoginId(user.getUsername())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        foundUser.updatePassword(newPassword);
+        return foundUser;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 연동 HTTP 클라이언트 설정 (prefix: http-client)
+ * ex. http-client.clients.kakao.max-connections=50
+ */
+@Component
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    // WebClientRegistry.get(...)에 사용할 클라이언트 이름 → 설정
+    private Map<String, Client> clients = new LinkedHashMap<>(Map.of(
+            WebClientRegistry.KAKAO, Client.of(50, Duration.ofSeconds(5)).withHttp2(),
+            WebClientRegistry.MYDATA_AS, Client.of(20, Duration.ofSeconds(5)),
+            WebClientRegistry.MYDATA_RS, Client.of(50, Duration.ofSeconds(10)),
+            // 동시 호출 수는 open-api.resilience.max-concurrent-calls로도 제한됨
+            // 응답 대기는 재시도(최대 3회)를 포함한 전체 제한 시간(15초) 안에 들어오도록
+            WebClientRegistry.JOB_OPEN_API, Client.of(16, Duration.ofSeconds(5))));
+
+    @Getter
+    @Setter
+    public static class Client {
+        // 커넥션 풀 (원격 주소별로 풀이 만들어지며, 아래 값은 풀 하나 기준)
+        private int maxConnections = 50; // 최대 커넥션 수 (HTTP/2는 커넥션 하나에서 여러 요청을 동시에 처리)
+        private int pendingAcquireMaxCount = 200; // 커넥션을 기다리는 요청 수 상한 (초과 시 즉시 실패)
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(3); // 커넥션을 기다리는 최대 시간
+        private Duration maxIdleTime = Duration.ofSeconds(30); // 이 시간 동안 사용하지 않은 커넥션은 닫음 (상대 서버의 keep-alive 제한보다 짧게)
+        private Duration maxLifeTime = Duration.ofMinutes(5); // 커넥션 최대 수명 (DNS 변경, 로드밸런서 재분배 반영)
+        private Duration evictInBackground = Duration.ofSeconds(30); // 유휴/수명 초과 커넥션을 백그라운드로 정리하는 주기
+
+        private Duration connectTimeout = Duration.ofSeconds(3); // TCP 연결 제한 시간
+        private Duration responseTimeout = Duration.ofSeconds(10); // 요청을 보낸 뒤 응답을 기다리는 최대 시간
+
+        private boolean http2; // HTTPS 주소에 대해 HTTP/2 협상 (지원하지 않는 서버는 HTTP/1.1로 통신)
+
+        public static Client of(int maxConnections, Duration responseTimeout) {
+            Client client = new Client();
+            client.setMaxConnections(maxConnections);
+            client.setResponseTimeout(responseTimeout);
+            return client;
+        }
+
+        public Client withHttp2() {
+            this.http2 = true;
+            return this;
+        }
+    }
+}
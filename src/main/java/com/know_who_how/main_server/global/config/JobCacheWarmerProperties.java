@@ -0,0 +1,31 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인기 채용공고 검색 캐시 사전 갱신 설정 (prefix: job.cache-warmer)
+ * 실행 주기는 job.cache-warmer.interval-ms, 인기도 집계 반영 주기는 job.cache-warmer.flush-interval-ms
+ */
+@Component
+@ConfigurationProperties(prefix = "job.cache-warmer")
+@Getter
+@Setter
+public class JobCacheWarmerProperties {
+    private boolean enabled = true; // 사전 갱신 실행 여부 (인기도 집계는 항상 수행)
+
+    private int topK = 50; // 한 번에 확인할 인기 검색 수
+    private int maxUpstreamCalls = 20; // 한 번 실행할 때 Open API 호출 상한
+    private int concurrency = 4; // 동시에 진행하는 Open API 호출 수
+    private Duration refreshAhead = Duration.ofMinutes(3); // soft 만료까지 이 시간보다 적게 남은 항목을 갱신
+    private Duration fetchTimeout = Duration.ofSeconds(20); // 항목당 Open API 응답 대기 상한
+    private Duration lockTtl = Duration.ofMinutes(2); // 한 노드만 실행하도록 잡는 락의 TTL (실행 시간보다 길게)
+
+    private int sketchCapacity = 1_000; // 노드별로 집계하는 검색 Key 수 상한 (Space-Saving)
+    private double decayFactor = 0.9; // 실행마다 기존 인기도에 곱하는 값 (최근 검색에 가중치)
+    private int maxTracked = 1_000; // Redis에 보관하는 검색 Key 수 상한
+}
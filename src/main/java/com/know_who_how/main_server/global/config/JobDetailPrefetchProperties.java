@@ -0,0 +1,25 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 목록 조회 후 상세 캐시 미리 채우기 설정 (prefix: job.detail-prefetch)
+ */
+@Component
+@ConfigurationProperties(prefix = "job.detail-prefetch")
+@Getter
+@Setter
+public class JobDetailPrefetchProperties {
+    private boolean enabled = true;
+
+    private int topN = 3; // 목록의 앞에서부터 미리 채울 공고 수
+    private int maxConcurrent = 4; // 노드당 동시에 진행하는 상세 API 호출 수 (가득 차면 건너뜀)
+    private int budgetPerMinute = 60; // 노드당 분당 상세 API 호출 상한
+    private Duration recheckAfter = Duration.ofMinutes(10); // 한 번 확인한 공고는 이 시간 동안 다시 확인하지 않음
+    private Duration trackUsageFor = Duration.ofHours(1); // 미리 채운 뒤 이 시간 안에 상세 조회되면 사용된 것으로 집계
+}
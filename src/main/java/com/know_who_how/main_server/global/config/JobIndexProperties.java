@@ -0,0 +1,26 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채용공고 로컬 검색 색인 설정 (prefix: job.index)
+ * 수집 주기는 job.index.ingest-interval-ms, 다른 노드가 만든 색인 확인 주기는 job.index.reload-interval-ms
+ */
+@Component
+@ConfigurationProperties(prefix = "job.index")
+@Getter
+@Setter
+public class JobIndexProperties {
+    private boolean enabled = true; // 색인 수집/사용 여부 (끄면 모든 검색을 Open API로 전달)
+
+    private int pageSize = 100; // 수집 시 한 번에 가져오는 공고 수
+    private int maxPages = 500; // 수집할 최대 페이지 수
+    private Duration fetchTimeout = Duration.ofSeconds(30); // 페이지당 Open API 응답 대기 상한
+    private Duration lockTtl = Duration.ofMinutes(30); // 한 노드만 수집하도록 잡는 락의 TTL (수집 시간보다 길게)
+    private Duration snapshotTtl = Duration.ofDays(7); // Redis에 보관하는 색인 원본의 TTL
+}
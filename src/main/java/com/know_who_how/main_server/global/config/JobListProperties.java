@@ -0,0 +1,18 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용공고 목록의 Open API 조회 단위 설정 (prefix: job.list)
+ */
+@Component
+@ConfigurationProperties(prefix = "job.list")
+@Getter
+@Setter
+public class JobListProperties {
+    private int windowSize = 100; // Open API 한 번에 조회/캐시하는 공고 수 (클라이언트 페이지는 이 묶음을 잘라서 응답)
+    private int maxWindowsPerRequest = 5; // 한 요청(page, size)이 걸칠 수 있는 묶음 수 상한 (초과 시 INVALID_PARAMETER)
+}
@@ -10,12 +10,14 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class MydataWebClientConfig {
 
     private final MydataProperties props;
+    private final WebClientRegistry webClientRegistry;
 
     @Bean("mydataAuthWebClient")
     public WebClient mydataAuthWebClient() {
         // 지금은 tokenUri를 baseUrl로 쓰지 않고,
         // 나중에 service 쪽에서 props.getAs().getTokenUri()를 직접 uri()에 넘기는 방식으로 갈 수도 있음.
-        return WebClient.builder()
+        // 커넥션 풀/타임아웃은 http-client.clients.mydata-as 설정
+        return webClientRegistry.builder(WebClientRegistry.MYDATA_AS)
                 // .baseUrl(props.getAs().getTokenUri())  // 나중에 토큰 엔드포인트가 확정되면 활성화
                 .build();
     }
@@ -27,7 +29,7 @@ public class MydataWebClientConfig {
      */
     @Bean("mydataRsWebClient")
     public WebClient mydataRsWebClient() {
-        return WebClient.builder()
+        return webClientRegistry.builder(WebClientRegistry.MYDATA_RS)
                 //.baseUrl(props.getRs().getMyDataApi())  // 예: http://localhost:8081
                 .build();
     }
@@ -0,0 +1,33 @@
+package com.know_who_how.main_server.global.config;
+
+import com.know_who_how.main_server.global.util.CircuitBreaker;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채용공고 Open API 호출의 서킷 브레이커/동시 호출 제한 설정 (prefix: open-api.resilience)
+ */
+@Component
+@ConfigurationProperties(prefix = "open-api.resilience")
+@Getter
+@Setter
+public class OpenApiResilienceProperties {
+    private int windowSize = 20; // 실패율/느린 호출 비율을 계산할 최근 호출 수
+    private int minimumCalls = 10; // 이 수 이상 기록된 뒤부터 서킷을 열 수 있음
+    private int failureRateThreshold = 50; // 실패율(%)이 이 값 이상이면 OPEN
+    private Duration slowCallDuration = Duration.ofSeconds(5); // 재시도를 포함한 소요 시간이 이 이상이면 느린 호출
+    private int slowCallRateThreshold = 80; // 느린 호출 비율(%)이 이 값 이상이면 OPEN
+    private Duration openDuration = Duration.ofSeconds(30); // OPEN 상태로 호출을 거절하는 시간
+    private int halfOpenCalls = 3; // HALF_OPEN 상태의 시험 호출 수
+
+    private int maxConcurrentCalls = 16; // 노드당 동시에 진행하는 Open API 호출 수 (초과 시 즉시 거절)
+
+    public CircuitBreaker.Config toCircuitBreakerConfig() {
+        return new CircuitBreaker.Config(windowSize, minimumCalls, failureRateThreshold,
+                slowCallDuration, slowCallRateThreshold, openDuration, halfOpenCalls);
+    }
+}
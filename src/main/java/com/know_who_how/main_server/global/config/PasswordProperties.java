@@ -0,0 +1,23 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 및 로그인 검증 풀 설정 (prefix: password)
+ */
+@Component
+@ConfigurationProperties(prefix = "password")
+@Getter
+@Setter
+public class PasswordProperties {
+    private String encodingId = "bcrypt"; // 신규/재해시 시 사용할 인코더 ID (bcrypt, pbkdf2)
+    private int bcryptStrength = 10; // BCrypt cost (높일 경우 다음 로그인부터 순차적으로 재해시됨)
+
+    private int verifyPoolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2); // 검증 전용 스레드 수
+    private int verifyQueueCapacity = 64; // 대기열 크기 (초과 시 즉시 429)
+    private long verifyTimeoutMillis = 3000; // 대기 + 검증 최대 시간
+    private int retryAfterSeconds = 1; // 429 응답의 Retry-After 값
+}
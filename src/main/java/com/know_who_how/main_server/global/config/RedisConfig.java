@@ -1,12 +1,17 @@
 package com.know_who_how.main_server.global.config;
 
+import com.know_who_how.main_server.MainServerApplication;
+import com.know_who_how.main_server.global.util.RedisValueCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -18,19 +23,65 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // json: 기존 형식으로 저장 (읽기는 두 형식 모두 지원), binary: Smile + LZ4 형식으로 저장
+    @Value("${redis.codec.write-format:json}")
+    private String writeFormat;
+
+    @Value("${redis.codec.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
     }
 
+    @Bean
+    public RedisValueCodec redisValueCodec() {
+        return new RedisValueCodec(
+                RedisValueCodec.scanTypes(MainServerApplication.class.getPackageName()),
+                RedisValueCodec.WriteFormat.valueOf(writeFormat.trim().toUpperCase()), compressionThreshold);
+    }
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate() {
+        RedisValueCodec valueCodec = redisValueCodec();
+
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(valueCodec);
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashValueSerializer(valueCodec);
         return redisTemplate;
     }
+
+    // 논블로킹 조회/저장용 (같은 Lettuce 연결 팩토리, 같은 직렬화 형식)
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate() {
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(new StringRedisSerializer())
+                .value(redisValueCodec())
+                .hashKey(new StringRedisSerializer())
+                .hashValue(redisValueCodec())
+                .build();
+        return new ReactiveRedisTemplate<>((LettuceConnectionFactory) redisConnectionFactory(), serializationContext);
+    }
+
+    // 직렬화 없이 바이트를 그대로 저장/조회 (미리 직렬화·압축해 둔 HTTP 응답 본문용)
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate() {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                .value(RedisSerializer.byteArray())
+                .build();
+        return new ReactiveRedisTemplate<>((LettuceConnectionFactory) redisConnectionFactory(), serializationContext);
+    }
+
+    // Pub/Sub 구독용 리스너 컨테이너 (노드 간 로컬 캐시 무효화 메시지 수신)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
@@ -0,0 +1,27 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RedisUtil 로컬 근접 캐시 설정 (prefix: redis.near-cache)
+ */
+@Component
+@ConfigurationProperties(prefix = "redis.near-cache")
+@Getter
+@Setter
+public class RedisNearCacheProperties {
+    private boolean enabled = false; // Redis 6 이상 (CLIENT TRACKING 지원)에서만 활성화
+
+    // 로컬에 캐시할 Key prefix (이 prefix의 변경만 무효화 메시지로 수신)
+    private List<String> prefixes = new ArrayList<>(List.of("mydata:access:"));
+
+    private long maximumBytes = 64L * 1024 * 1024; // 로컬 캐시 전체 상한 (직렬화 크기 기준)
+    private int maxEntryBytes = 256 * 1024; // 이보다 큰 값은 로컬에 보관하지 않음
+    private long maxTtlSeconds = 600; // 로컬 보관 시간 상한 (Redis TTL이 더 짧으면 Redis TTL)
+}
@@ -0,0 +1,34 @@
+package com.know_who_how.main_server.global.config;
+
+import com.know_who_how.main_server.auth.token.JpaRefreshTokenStore;
+import com.know_who_how.main_server.auth.token.MigratingRefreshTokenStore;
+import com.know_who_how.main_server.auth.token.RedisRefreshTokenStore;
+import com.know_who_how.main_server.auth.token.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * jwt.refresh-token-store 설정(jpa | migration | redis)에 따라 사용할 Refresh Token 저장소를 선택합니다.
+ * 기본값은 기존과 동일한 jpa 입니다.
+ */
+@Slf4j
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    @Value("${jwt.refresh-token-store:jpa}")
+    private RefreshTokenStore.Mode mode;
+
+    @Bean
+    @Primary
+    public RefreshTokenStore refreshTokenStore(JpaRefreshTokenStore jpaStore, RedisRefreshTokenStore redisStore) {
+        log.info("Refresh Token 저장소: {}", mode);
+        return switch (mode) {
+            case JPA -> jpaStore;
+            case MIGRATION -> new MigratingRefreshTokenStore(jpaStore, redisStore);
+            case REDIS -> redisStore;
+        };
+    }
+}
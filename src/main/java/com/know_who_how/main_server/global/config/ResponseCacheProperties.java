@@ -0,0 +1,34 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 직렬화·압축해 둔 HTTP 응답 본문 캐시 설정 (prefix: response-cache)
+ * ex. response-cache.ttls.job-detail=10m
+ */
+@Component
+@ConfigurationProperties(prefix = "response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    public static final String JOB_LIST = "job-list";
+    public static final String JOB_DETAIL = "job-detail";
+
+    private String keyPrefix = "http:response:"; // Redis Key prefix (뒤에 "캐시 이름:Key"가 붙음)
+    private long localMaxBytes = 32L * 1024 * 1024; // 로컬 캐시에 보관할 압축 본문의 총 바이트 상한
+    private Duration localTtl = Duration.ofSeconds(30); // 로컬 캐시 보관 시간 (노드 간 무효화가 없으므로 다른 노드가 갱신한 응답과 어긋날 수 있는 최대 시간)
+
+    // ResponseBytesCache.serve(...)에 사용할 캐시 이름 → Redis 보관 시간
+    // 원본 DTO 캐시(TwoLevelCache)가 갱신한 데이터가 응답에 늦게 반영되지 않도록 원본 캐시의 TTL보다 짧게
+    private Map<String, Duration> ttls = new LinkedHashMap<>(Map.of(
+            JOB_LIST, Duration.ofMinutes(1),
+            JOB_DETAIL, Duration.ofMinutes(10)));
+}
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,14 +18,18 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Spring Security의 핵심 보안 설정을 정의하는 파일입니다.
@@ -40,9 +45,10 @@ public class SecurityConfig {
         private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
         private final JwtAuthFilter jwtAuthFilter; // JwtAuthFilter 주입
         private final JwtUtil jwtUtil;
+        private final PasswordProperties passwordProperties;
 
-        // [신규] 인증이 필요 없는 API 경로 (v1 적용)
-        private static final String[] AUTH_WHITELIST = {
+        // [신규] 인증이 필요 없는 API 경로 (v1 적용) - JwtAuthFilter도 이 경로는 건너뜀
+        public static final String[] AUTH_WHITELIST = {
                         "/api/v1/auth/login", // 로그인
                         "/api/v1/auth/reissue", // 토큰 재발급
                         "/api/v1/auth/signup/**", // 회원가입 관련 모든 경로
@@ -83,9 +89,22 @@ public class SecurityConfig {
                                 .components(components);
         }
 
+        /**
+         * {id} 접두사로 알고리즘을 구분하는 DelegatingPasswordEncoder.
+         * - 신규 해시: password.encoding-id / password.bcrypt-strength 설정 사용
+         * - 접두사 없는 기존 해시($2a$...)는 BCrypt로 검증
+         * - 로그인 성공 시 설정과 다른 알고리즘/cost의 해시는 CustomUserDetailsService.updatePassword로 재해시
+         */
         @Bean
         public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+                Map<String, PasswordEncoder> encoders = new HashMap<>();
+                encoders.put("bcrypt", new BCryptPasswordEncoder(passwordProperties.getBcryptStrength()));
+                encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+                DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                                passwordProperties.getEncodingId(), encoders);
+                passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+                return passwordEncoder;
         }
 
         @Bean
@@ -107,6 +126,8 @@ public class SecurityConfig {
 
                                 // [수정] v1 경로를 AUTH_WHITELIST로 통합
                                 .authorizeHttpRequests(authz -> authz
+                                                // Mono 반환 컨트롤러의 결과 전달(ASYNC 디스패치)은 최초 요청에서 이미 인가됨
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                                 .requestMatchers(AUTH_WHITELIST).permitAll() // AUTH_WHITELIST 경로는 모두 허용
                                                 .anyRequest().authenticated() // 나머지 모든 경로는 인증 필요
                                 )
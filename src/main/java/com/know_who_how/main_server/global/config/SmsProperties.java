@@ -0,0 +1,30 @@
+package com.know_who_how.main_server.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SMS 발송 큐 설정 (prefix: sms)
+ */
+@Component
+@ConfigurationProperties(prefix = "sms")
+@Getter
+@Setter
+public class SmsProperties {
+    private String sender = "solapi"; // 발송 구현체 (solapi, stub)
+    private boolean dispatchEnabled = true; // 이 노드에서 큐 소비 워커를 실행할지 여부
+
+    private int workerCount = 2; // 큐 소비 스레드 수
+    private int batchSize = 100; // 한 번에 묶어 보내는 최대 메시지 수 (다건 발송 API 1회)
+    private long pollTimeoutMillis = 2000; // 큐가 비었을 때 대기 시간
+    private int maxAttempts = 5; // 최대 발송 시도 횟수 (초과 시 FAILED)
+    private long initialBackoffMillis = 1000; // 첫 재시도 대기 시간 (시도마다 2배)
+    private long maxBackoffMillis = 60_000; // 재시도 대기 시간 상한
+    private long pendingIdleMillis = 60_000; // 이 시간 동안 ACK되지 않은 메시지는 다른 워커가 회수
+    private long statusTtlSeconds = 86_400; // 메시지별 발송 상태 보관 기간
+
+    private long stubLatencyMillis = 200; // stub 발송 지연 (부하 테스트용)
+    private double stubFailureRate = 0.0; // stub 발송 실패 비율 (0.0 ~ 1.0)
+}
@@ -0,0 +1,116 @@
+package com.know_who_how.main_server.global.config;
+
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 2단계 캐시(로컬 L1 + Redis L2) 영역 설정 (prefix: cache)
+ * ex. cache.regions.jobList.ttl=10m
+ */
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class TwoLevelCacheProperties {
+
+    // TwoLevelCacheManager.getCache(...)에 사용할 영역 이름 → 설정
+    private Map<String, Region> regions = new LinkedHashMap<>(Map.of(
+            // 목록 묶음은 jobId 목록(JobListWindowDto)만 저장 - 공고 내용을 함께 저장하던 jobs:list:* 값과 섞이지 않도록 접두사 분리
+            "jobList", Region.of("jobs:window:", Duration.ofHours(1), 1_000)
+                    .withSoftTtl(Duration.ofMinutes(10))
+                    .withLease(Duration.ofSeconds(20))
+                    .withLastKnownFallback(Duration.ofDays(3),
+                            ErrorCode.EXTERNAL_API_UNAVAILABLE, ErrorCode.EXTERNAL_API_SERVER_ERROR),
+            // 마감 상태(D-day)는 조회 시 계산하므로 자정과 무관하게 오래 보관하고, 마감일이 지나면 1시간 뒤 만료
+            "jobDetail", Region.of("job:detail:", Duration.ofDays(3), 5_000)
+                    .withSoftTtl(Duration.ofHours(6))
+                    .withLease(Duration.ofSeconds(20))
+                    .withNegativeCaching(Duration.ofMinutes(5), ErrorCode.JOB_NOT_FOUND)
+                    .withLastKnownFallback(Duration.ofDays(7),
+                            ErrorCode.EXTERNAL_API_UNAVAILABLE, ErrorCode.EXTERNAL_API_SERVER_ERROR)
+                    .withDeadlineExpiry(Duration.ofHours(1)),
+            // 공고(OpenApiJobItem)는 jobId별로 한 번만 저장 - 목록 묶음의 마지막 값(3일)이 가리키는 공고도 남아 있도록 같은 기간 보관
+            // 단, 마감된 공고는 목록에서 곧 빠지므로 마감일 다음 날까지만
+            "jobPosting", Region.of("job:posting:", Duration.ofDays(3), 20_000)
+                    .withLocalTtl(Duration.ofHours(1))
+                    .withDeadlineExpiry(Duration.ofDays(1))));
+
+    @Getter
+    @Setter
+    public static class Region {
+        private String keyPrefix; // Redis Key 접두사 (없으면 "{영역 이름}:")
+        private Duration ttl = Duration.ofMinutes(10); // Redis(L2) 보관 시간 (softTtl 사용 시 hard TTL)
+        private Duration localTtl; // 로컬(L1) 보관 시간 (없으면 ttl과 동일)
+        private long maxSize = 1_000; // 로컬(L1) 최대 항목 수
+        private Duration refreshAfterWrite; // 설정 시 이 시간이 지난 L1 항목은 조회 시 Redis(L2)에서 백그라운드로 다시 읽음
+
+        // stale-while-revalidate: softTtl이 지난 값(SoftExpiring)은 즉시 반환하고 백그라운드로 한 번 갱신
+        private Duration softTtl;
+        private Duration refreshRetryInterval = Duration.ofSeconds(30); // 갱신 실패(원본 장애) 시 같은 Key 재시도 간격
+
+        // 노드 간 적재 임차: 한 노드가 원본을 적재하는 동안 다른 노드는 L2에 값이 저장되기를 기다림 (없으면 사용 안 함)
+        private Duration leaseTtl; // 임차 만료 시간 (원본 호출 최대 소요 시간 이상으로)
+        private Duration leasePollInterval = Duration.ofMillis(100); // 대기 중 L2 확인 간격
+
+        // 부정 캐시: 원본이 negativeErrorCodes의 CustomException을 던지면 그 결과를 negativeTtl 동안 캐시
+        private Duration negativeTtl;
+        private Set<ErrorCode> negativeErrorCodes = EnumSet.noneOf(ErrorCode.class);
+
+        // 마지막 값 대체: 원본이 fallbackErrorCodes의 CustomException으로 실패하면 hard TTL이 지났더라도 마지막으로 저장한 값을 반환
+        private Duration lastKnownTtl; // 마지막 값 사본의 보관 시간 (ttl보다 길게, 없으면 사용 안 함)
+        private Set<ErrorCode> fallbackErrorCodes = EnumSet.noneOf(ErrorCode.class);
+
+        // 기한 만료: 값 자체에 기한이 있으면(DeadlineBound, ex. 공고 마감일) "기한 + deadlineGrace"와 ttl 중 먼저 오는 시각까지만 보관 (없으면 사용 안 함)
+        private Duration deadlineGrace;
+
+        public static Region of(String keyPrefix, Duration ttl, long maxSize) {
+            Region region = new Region();
+            region.setKeyPrefix(keyPrefix);
+            region.setTtl(ttl);
+            region.setMaxSize(maxSize);
+            return region;
+        }
+
+        public Region withLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+            return this;
+        }
+
+        public Region withSoftTtl(Duration softTtl) {
+            this.softTtl = softTtl;
+            return this;
+        }
+
+        public Region withLease(Duration leaseTtl) {
+            this.leaseTtl = leaseTtl;
+            return this;
+        }
+
+        public Region withNegativeCaching(Duration negativeTtl, ErrorCode... errorCodes) {
+            this.negativeTtl = negativeTtl;
+            this.negativeErrorCodes = EnumSet.copyOf(List.of(errorCodes));
+            return this;
+        }
+
+        public Region withLastKnownFallback(Duration lastKnownTtl, ErrorCode... errorCodes) {
+            this.lastKnownTtl = lastKnownTtl;
+            this.fallbackErrorCodes = EnumSet.copyOf(List.of(errorCodes));
+            return this;
+        }
+
+        public Region withDeadlineExpiry(Duration deadlineGrace) {
+            this.deadlineGrace = deadlineGrace;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.know_who_how.main_server.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 연동별 HTTP 클라이언트(WebClient)를 이름으로 관리합니다.
+ * - 클라이언트마다 전용 커넥션 풀(HttpClientProperties)을 두어 keep-alive 커넥션을 재사용하고, 한 연동의 지연이 다른 연동의 풀을 잠식하지 않음
+ * - 기동 시 이벤트 루프/DNS resolver를 미리 초기화하여 첫 요청의 지연을 줄임
+ * - 지표: 커넥션 풀(reactor.netty.connection.provider.*, name 태그 - 사용 중/유휴/대기 커넥션 수, 커넥션 대기 시간),
+ *   응답 시간(http.client.exchanges, client 태그)
+ * WebClient는 thread-safe하므로 get()으로 받은 인스턴스를 필드에 두고 계속 사용합니다.
+ */
+@Slf4j
+@Component
+public class WebClientRegistry {
+
+    public static final String KAKAO = "kakao";
+    public static final String MYDATA_AS = "mydata-as";
+    public static final String MYDATA_RS = "mydata-rs";
+    public static final String JOB_OPEN_API = "job-open-api";
+
+    private final Map<String, WebClient.Builder> builders = new LinkedHashMap<>();
+    private final Map<String, WebClient> clients = new LinkedHashMap<>();
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    // Spring Boot가 구성한 WebClient.Builder(코덱, 관측 설정 포함)를 복제하여 클라이언트별 커넥터를 붙임
+    public WebClientRegistry(HttpClientProperties properties, WebClient.Builder webClientBuilder,
+                             MeterRegistry meterRegistry) {
+        properties.getClients().forEach((name, client) -> {
+            ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                    .maxConnections(client.getMaxConnections())
+                    .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                    .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                    .maxIdleTime(client.getMaxIdleTime())
+                    .maxLifeTime(client.getMaxLifeTime())
+                    .evictInBackground(client.getEvictInBackground())
+                    .metrics(true)
+                    .build();
+            connectionProviders.add(connectionProvider);
+
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                    .responseTimeout(client.getResponseTimeout());
+            if (client.isHttp2()) {
+                httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+            }
+            httpClient.warmup().block();
+
+            WebClient.Builder builder = webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .filter(latencyRecorder(name, meterRegistry));
+            builders.put(name, builder);
+            clients.put(name, builder.clone().build());
+            log.info("HTTP 클라이언트 등록 - {} (최대 커넥션 {}, 응답 대기 {}, HTTP/2 {})",
+                    name, client.getMaxConnections(), client.getResponseTimeout(), client.isHttp2());
+        });
+    }
+
+    private static ExchangeFilterFunction latencyRecorder(String name, MeterRegistry meterRegistry) {
+        return (request, next) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return next.exchange(request)
+                    .doOnSuccess(response -> sample.stop(exchangeTimer(meterRegistry, name,
+                            response.statusCode().isError() ? "error" : "success")))
+                    .doOnError(e -> sample.stop(exchangeTimer(meterRegistry, name, "failure")));
+        };
+    }
+
+    private static Timer exchangeTimer(MeterRegistry meterRegistry, String name, String outcome) {
+        return Timer.builder("http.client.exchanges")
+                .description("외부 연동 요청부터 응답 헤더 수신까지의 시간 (커넥션 대기 포함)")
+                .tag("client", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이름에 해당하는 공용 WebClient (설정에 없는 이름이면 IllegalArgumentException)
+     */
+    public WebClient get(String name) {
+        WebClient client = clients.get(name);
+        if (client == null) {
+            throw new IllegalArgumentException("등록되지 않은 HTTP 클라이언트: " + name);
+        }
+        return client;
+    }
+
+    /**
+     * baseUrl, 코덱 등을 더 설정해야 할 때 사용하는 Builder (같은 커넥션 풀을 공유하는 복제본)
+     */
+    public WebClient.Builder builder(String name) {
+        get(name);
+        return builders.get(name).clone();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+}
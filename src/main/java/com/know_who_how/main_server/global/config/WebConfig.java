@@ -1,5 +1,9 @@
 package com.know_who_how.main_server.global.config;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.know_who_how.main_server.global.cache.SoftExpiring;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -9,4 +13,14 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class WebConfig {
 
+    // 캐시에 저장하는 값(SoftExpiring)의 갱신 판단용 시각은 HTTP 응답 JSON에서 제외
+    // (Redis 값 직렬화기(RedisValueCodec)는 별도 ObjectMapper를 사용하므로 캐시에는 그대로 저장됨)
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer cacheMetadataExclusion() {
+        return builder -> builder.mixIn(SoftExpiring.class, SoftExpiringHttpView.class);
+    }
+
+    @JsonIgnoreProperties({"fetchedAt", "softExpiresAt"})
+    private abstract static class SoftExpiringHttpView {
+    }
 }
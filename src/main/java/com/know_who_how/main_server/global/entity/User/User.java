@@ -92,6 +92,30 @@ public class User implements UserDetails {
         this.roles.add("ROLE_USER"); // 회원가입 시 기본 권한
     }
 
+    /**
+     * 인증 필터에서 사용하는 비영속 principal을 생성합니다.
+     * DB 조회 없이 캐시된 스냅샷과 토큰의 권한으로 구성되며, password와 연관관계는 비어 있습니다.
+     */
+    public static User principalOf(Long userId, String loginId, String name, String phoneNum, LocalDate birth,
+                                   Gender gender, Long assetTotal, InvestmentTendancy investmentTendancy,
+                                   String provider, boolean userMydataRegistration,
+                                   boolean userInheritanceRegistration, List<String> roles) {
+        User user = new User();
+        user.userId = userId;
+        user.loginId = loginId;
+        user.name = name;
+        user.phoneNum = phoneNum;
+        user.birth = birth;
+        user.gender = gender;
+        user.assetTotal = assetTotal;
+        user.investmentTendancy = investmentTendancy;
+        user.provider = provider;
+        user.userMydataRegistration = userMydataRegistration;
+        user.userInheritanceRegistration = userInheritanceRegistration;
+        user.roles = new ArrayList<>(roles);
+        return user;
+    }
+
     // 소셜 로그인 정보를 업데이트하는 메서드
     public void updateSocialInfo(String provider, String providerId) {
         this.provider = provider;
@@ -102,6 +126,11 @@ public class User implements UserDetails {
         this.assetTotal = assetTotal;
     }
 
+    // 비밀번호 해시 업데이트 (로그인 시 해시 알고리즘/cost 재적용)
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     // 전화번호 업데이트 메서드 추가
     public void updatePhoneNum(String phoneNum) {
         this.phoneNum = phoneNum;
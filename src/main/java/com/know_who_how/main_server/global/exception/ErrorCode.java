@@ -44,6 +44,8 @@ public enum ErrorCode {
     SIGNUP_TOKEN_INVALID(HttpStatus.BAD_REQUEST, "AUTH_016", "유효하지 않은 회원가입 토큰입니다."),
     SOCIAL_ACCOUNT_ALREADY_REGISTERED(HttpStatus.CONFLICT, "AUTH_017", "이미 해당 소셜 계정으로 가입된 유저입니다."),
     OAUTH_LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "AUTH_018", "소셜 로그인에 실패했습니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "AUTH_019", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+    LOGIN_TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "AUTH_020", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Common Exception
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON_001", "입력값이 유효하지 않습니다."),
@@ -62,6 +64,8 @@ public enum ErrorCode {
     EXTERNAL_API_NOT_FOUND(HttpStatus.NOT_FOUND, "EXTERNAL_003", "Open API 서비스가 존재하지 않습니다.(URL 확인 필요)"),
     EXTERNAL_API_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "EXTERNAL_004","Open API 일일 호출 허용량을 초과했습니다."),
     EXTERNAL_API_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "EXTERNAL_005", "기관 API 서버로부터 응답을 받지 못했습니다."),
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EXTERNAL_006", "기관 API 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    EXTERNAL_API_EMPTY_RESPONSE(HttpStatus.BAD_GATEWAY, "EXTERNAL_007", "기관 API 응답에 데이터가 없습니다."),
 
     // Mydata Exception
     MYDATA_EXPIRED(HttpStatus.UNAUTHORIZED, "MYDATA_001", "마이데이터 연동 토큰이 만료되었습니다. 재연동이 필요합니다."),
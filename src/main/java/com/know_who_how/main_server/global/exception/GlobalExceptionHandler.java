@@ -2,6 +2,7 @@ package com.know_who_how.main_server.global.exception;
 
 import com.know_who_how.main_server.global.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -73,6 +74,21 @@ public class GlobalExceptionHandler {
                 errorCode.getStatus());
     }
 
+    /**
+     * 일시적 과부하로 거절된 요청을 처리합니다. (Retry-After 헤더 포함)
+     *
+     * @param e RetryLaterException
+     * @return 429 Too Many Requests 등 ErrorCode에 정의된 상태의 에러 응답
+     */
+    @ExceptionHandler(RetryLaterException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleRetryLaterException(RetryLaterException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.warn("RetryLaterException: {} - retry after {}s", errorCode.getCode(), e.getRetryAfterSeconds());
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.onFailure(errorCode.getCode(), errorCode.getMessage()));
+    }
+
     /**
      * 서비스 로직에서 발생하는 모든 CustomException을 처리합니다.
      *
@@ -0,0 +1,18 @@
+package com.know_who_how.main_server.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 일시적인 과부하로 요청을 처리하지 못했을 때 던지는 예외입니다.
+ * 응답에 Retry-After 헤더를 포함합니다.
+ */
+@Getter
+public class RetryLaterException extends CustomException {
+
+    private final int retryAfterSeconds;
+
+    public RetryLaterException(ErrorCode errorCode, int retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,8 +1,9 @@
 package com.know_who_how.main_server.global.jwt;
 
-import com.know_who_how.main_server.global.util.RedisUtil; // New import
+import com.know_who_how.main_server.global.config.SecurityConfig;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -15,20 +16,33 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final RedisUtil redisUtil; // Replaced RedisTemplate with RedisUtil
+    private final TokenBlacklist tokenBlacklist;
 
     // 헤더 이름
     public static final String AUTHORIZATION_HEADER = "Authorization";
 
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    // 인증이 필요 없는 경로는 토큰 파싱 자체를 생략
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return Arrays.stream(SecurityConfig.AUTH_WHITELIST)
+                .anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -38,16 +52,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             if (token != null) {
-                // Redis 블랙리스트 확인: 이미 로그아웃된 토큰인지 검사
-                if (redisUtil.get(token) != null) { // Use redisUtil.get
+                // 토큰 검증 (검증된 Claims는 캐시되어 재파싱하지 않음)
+                Claims claims = jwtUtil.parseAccessClaims(token);
+
+                // 블랙리스트 확인: 이미 로그아웃된 토큰인지 검사 (로컬 필터 양성일 때만 Redis 조회)
+                if (tokenBlacklist.isRevoked(token, claims.getId())) {
                     throw new CustomException(ErrorCode.ALREADY_LOGGED_OUT);
                 }
 
-                // 토큰 검증
-                jwtUtil.validateAccessToken(token);
-
                 // 인증 정보 SecurityContext에 저장
-                Authentication authentication = jwtUtil.getAuthenticationFromAccessToken(token);
+                Authentication authentication = jwtUtil.getAuthentication(token, claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (CustomException e) {
@@ -0,0 +1,132 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 Access Token의 Claims를 보관하는 프로세스 내 캐시입니다.
+ * - 키: 토큰 원문의 SHA-256 digest (토큰 원문은 메모리에 보관하지 않음)
+ * - 만료: 토큰의 exp 시각에 맞춰 자동으로 무효화 (항목별 만료)
+ * - 크기: jwt.claims-cache-max-size 를 넘지 않도록 제한 (넘으면 Caffeine이 자주 쓰이지 않는 항목부터 제거)
+ */
+@Slf4j
+@Component
+public class JwtClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final Cache<String, CachedClaims> cache;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JwtClaimsCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.maxSize = jwtProperties.getClaimsCacheMaxSize();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new TokenExpiry())
+                .build();
+
+        FunctionCounter.builder("jwt.claims.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("검증된 JWT Claims 캐시 적중 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.claims.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("검증된 JWT Claims 캐시 미적중 횟수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 Claims를 조회합니다. 없거나 만료된 경우 null을 반환합니다.
+     */
+    public Claims get(String token) {
+        CachedClaims cached = cache.getIfPresent(digest(token));
+        // 만료 처리는 Caffeine이 비동기로 하므로 exp가 지난 항목이 남아 있을 수 있음
+        if (cached == null || cached.isExpired(System.currentTimeMillis())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached.claims();
+    }
+
+    /**
+     * 서명 검증을 통과한 Claims를 저장합니다. exp가 없는 토큰은 저장하지 않습니다.
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || maxSize <= 0) {
+            return;
+        }
+        cache.put(digest(token), new CachedClaims(claims, expiration.getTime()));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // 대기 중인 만료/크기 제한 처리를 반영한 뒤의 항목 수
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    // 저장 시점부터 토큰의 exp까지 보관 (조회해도 연장하지 않음)
+    private static final class TokenExpiry implements Expiry<String, CachedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedClaims cached, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(cached.expiresAtMillis() - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedClaims cached, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedClaims cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
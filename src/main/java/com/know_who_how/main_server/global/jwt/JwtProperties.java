@@ -16,5 +16,11 @@ public class JwtProperties {
     private String refreshSecret; // New property for refresh token
     private long accessTokenValidityInSeconds;
     private long refreshTokenValidityInSeconds;
+    private int claimsCacheMaxSize = 10_000; // 검증된 Access Token Claims 캐시 최대 크기 (0이면 비활성화)
+    private int principalCacheMaxSize = 10_000; // 인증 principal 스냅샷 로컬 캐시 최대 크기
+    private long principalLocalTtlInSeconds = 60; // 로컬(L1) 캐시 유지 시간
+    private long principalRedisTtlInSeconds = 1800; // Redis(L2) 캐시 유지 시간
+    private int blacklistExpectedInsertions = 100_000; // 로그아웃 토큰 Bloom filter 예상 개수
+    private double blacklistFalsePositiveRate = 0.001; // 로그아웃 토큰 Bloom filter 허용 오탐률
 
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.springframework.util.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,12 +30,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JwtUtil {
     private final JwtProperties jwtProperties;
-    private final com.know_who_how.main_server.user.repository.UserRepository userRepository;
+    private final JwtClaimsCache claimsCache;
+    private final UserPrincipalCache principalCache;
+
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
 
     // 서명 키
     private Key accessKey;
     private Key refreshKey;
 
+    // 키별로 한 번만 생성해 재사용하는 파서 (JwtParser는 불변이며 thread-safe)
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
+
     @PostConstruct
     public void init() throws Exception {
         if (jwtProperties.getSecret() == null) {
@@ -54,6 +62,9 @@ public class JwtUtil {
         // Refresh Token Key
         byte[] refreshKeyBytes = Decoders.BASE64.decode(jwtProperties.getRefreshSecret());
         this.refreshKey = Keys.hmacShaKeyFor(refreshKeyBytes);
+
+        this.accessParser = Jwts.parser().verifyWith((SecretKey) accessKey).build();
+        this.refreshParser = Jwts.parser().verifyWith((SecretKey) refreshKey).build();
     }
 
     // AccessToken - 일반 요청 인증용
@@ -67,6 +78,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
+                .id(newTokenId())
                 .claim("authorities", String.join(",", authorities))
                 .setExpiration(expiration)
                 .signWith(accessKey, SignatureAlgorithm.HS512)
@@ -74,50 +86,80 @@ public class JwtUtil {
     }
 
     // RefreshToken - 재발급용
+    // exp는 초 단위이므로 같은 초에 재발급해도 이전 토큰과 달라지도록 jti를 붙임 (같으면 회전 후에도 이전 토큰이 현재 토큰으로 일치함)
     public String createRefreshToken(Long userId) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setSubject(String.valueOf(userId))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getRefreshTokenValidityInSeconds() * 1000L))
+                .id(newTokenId())
+                .issuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtProperties.getRefreshTokenValidityInSeconds() * 1000L))
                 .signWith(refreshKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // accessToken 인증정보 추출
+    // accessToken 인증정보 추출 (권한은 토큰 claims, 사용자 정보는 principal 캐시에서 구성)
     public Authentication getAuthenticationFromAccessToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith((SecretKey) accessKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getAuthentication(token, parseAccessClaims(token));
+    }
 
+    // 이미 검증한 Claims로 인증정보 구성 (필터가 parseAccessClaims 결과를 넘겨 토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(String token, Claims claims) {
         Long userId = Long.parseLong(claims.getSubject());
-        com.know_who_how.main_server.global.entity.User.User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        com.know_who_how.main_server.global.entity.User.User user = principalCache.get(userId)
+                .toPrincipal(extractAuthorities(claims));
 
         return new UsernamePasswordAuthenticationToken(user, token, user.getAuthorities());
     }
 
+    private List<String> extractAuthorities(Claims claims) {
+        String authorities = claims.get("authorities", String.class);
+        if (!StringUtils.hasText(authorities)) {
+            return List.of();
+        }
+        return Arrays.stream(authorities.split(","))
+                .filter(StringUtils::hasText)
+                .toList();
+    }
+
     // 유효성 검사 (용도별 분리)
     public boolean validateAccessToken(String token) {
-        return validate(token, accessKey);
+        parseAccessClaims(token);
+        return true;
     }
 
     public boolean validateRefreshToken(String token) {
-        return validate(token, refreshKey);
+        validate(token, refreshParser);
+        return true;
+    }
+
+    /**
+     * Access Token을 검증하고 Claims를 반환합니다.
+     * 한 번 검증된 토큰은 만료 시각까지 캐시된 Claims를 재사용하여 서명 검증을 반복하지 않습니다.
+     */
+    public Claims parseAccessClaims(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new CustomException(ErrorCode.EMPTY_TOKEN_ERROR);
+        }
+
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = validate(token, accessParser);
+        claimsCache.put(token, claims);
+        return claims;
     }
 
     // 유효성 검사
-    public boolean validate(String token, Key key) {
+    private Claims validate(String token, JwtParser parser) {
         if (token == null || token.trim().isEmpty()) {
             throw new CustomException(ErrorCode.EMPTY_TOKEN_ERROR);
         }
 
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SignatureException | SecurityException e) {
             log.error("JWT 서명 검증 실패", e);
             throw new CustomException(ErrorCode.INVALID_TOKEN_SIGNATURE);
@@ -137,33 +179,40 @@ public class JwtUtil {
 
     //  토큰에서 userId(subject) 추출 (만료된 토큰에서도 추출 가능하도록 수정)
     public Long extractUserId(String token, boolean isRefresh) {
-        Key key = isRefresh ? refreshKey : accessKey;
-        try {
-            return Long.parseLong(Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject());
-        } catch (ExpiredJwtException e) {
-            // 만료된 토큰의 경우에도 subject(userId)는 반환
-            return Long.parseLong(e.getClaims().getSubject());
-        }
+        return Long.parseLong(extractClaims(token, isRefresh).getSubject());
+    }
+
+    // 토큰에서 jti 추출 (jti 도입 이전에 발급된 토큰은 null)
+    public String extractTokenId(String token) {
+        return extractClaims(token, false).getId();
+    }
+
+    // 블랙리스트 키로 쓰이는 짧은 토큰 ID (128bit 난수, Base64url 22자)
+    private String newTokenId() {
+        byte[] bytes = new byte[16];
+        TOKEN_ID_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
     // 토큰에서 만료 시간 추출 (만료된 토큰에서도 추출 가능하도록 수정)
     public Date extractExpiration(String token, boolean isRefresh) {
-        Key key = isRefresh ? refreshKey : accessKey;
+        return extractClaims(token, isRefresh).getExpiration();
+    }
+
+    // 서명은 검증하되 만료된 토큰의 Claims도 반환 (Access Token은 캐시 우선 조회)
+    private Claims extractClaims(String token, boolean isRefresh) {
+        if (!isRefresh) {
+            Claims cached = claimsCache.get(token);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        JwtParser parser = isRefresh ? refreshParser : accessParser;
         try {
-            return Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
-            // 만료된 토큰의 경우에도 만료 시간은 반환
-            return e.getClaims().getExpiration();
+            // 만료된 토큰의 경우에도 Claims는 반환
+            return e.getClaims();
         }
     }
 
@@ -0,0 +1,65 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.know_who_how.main_server.global.entity.User.Gender;
+import com.know_who_how.main_server.global.entity.User.InvestmentTendancy;
+import com.know_who_how.main_server.global.entity.User.User;
+import com.know_who_how.main_server.global.util.RedisTypeId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 인증 주체(principal)를 만들기 위해 캐시하는 사용자 정보 스냅샷입니다.
+ * 컨트롤러/서비스가 principal에서 읽는 값만 담으며, password와 연관관계는 포함하지 않습니다.
+ */
+@RedisTypeId(1)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrincipalSnapshot implements Serializable {
+    private Long userId;
+    private String loginId;
+    private String name;
+    private String phoneNum;
+    private String birth; // yyyy-MM-dd (Redis 값 직렬화기에 JavaTime 모듈이 없어 문자열로 보관)
+    private Gender gender;
+    private Long assetTotal;
+    private InvestmentTendancy investmentTendancy;
+    private String provider;
+    private boolean userMydataRegistration;
+    private boolean userInheritanceRegistration;
+
+    public static PrincipalSnapshot from(User user) {
+        return PrincipalSnapshot.builder()
+                .userId(user.getUserId())
+                .loginId(user.getLoginId())
+                .name(user.getName())
+                .phoneNum(user.getPhoneNum())
+                .birth(user.getBirth() != null ? user.getBirth().toString() : null)
+                .gender(user.getGender())
+                .assetTotal(user.getAssetTotal())
+                .investmentTendancy(user.getInvestmentTendancy())
+                .provider(user.getProvider())
+                .userMydataRegistration(user.isUserMydataRegistration())
+                .userInheritanceRegistration(user.isUserInheritanceRegistration())
+                .build();
+    }
+
+    /**
+     * 토큰의 권한(roles)과 합쳐 비영속 User principal을 생성합니다.
+     */
+    public User toPrincipal(List<String> roles) {
+        return User.principalOf(
+                userId, loginId, name, phoneNum,
+                birth != null ? LocalDate.parse(birth) : null,
+                gender, assetTotal, investmentTendancy, provider,
+                userMydataRegistration, userInheritanceRegistration,
+                roles);
+    }
+}
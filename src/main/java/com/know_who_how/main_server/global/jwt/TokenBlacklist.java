@@ -0,0 +1,130 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.know_who_how.main_server.global.util.BloomFilter;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트입니다.
+ * - Redis 키: blacklist:{jti} (토큰 원문 대신 짧은 jti 사용)
+ * - 노드 로컬 Bloom filter로 대부분의 "블랙리스트에 없음" 판정을 Redis 호출 없이 처리하고,
+ *   필터가 양성일 때만 Redis를 조회
+ * - 다른 노드의 로그아웃은 Pub/Sub으로 전파받고, 기동 시/주기적으로 Redis에서 필터를 재구성
+ *   (구독이 끊겨 놓친 메시지도 다음 재구성 시 반영됨)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "token:blacklist";
+    private static final String KEY_PREFIX = "blacklist:";
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재구성 중 들어온 jti를 새 필터에도 반영하기 위한 참조
+    private volatile BloomFilter rebuilding;
+    // Redis에서 필터를 재구성하지 못한 경우 false → 모든 요청을 Redis로 확인
+    private volatile boolean ready = false;
+
+    public TokenBlacklist(RedisUtil redisUtil, RedisMessageListenerContainer listenerContainer,
+                          JwtProperties jwtProperties) {
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = jwtProperties.getBlacklistExpectedInsertions();
+        this.falsePositiveRate = jwtProperties.getBlacklistFalsePositiveRate();
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void init() {
+        // 재구성 중 발생한 로그아웃을 놓치지 않도록 구독을 먼저 등록
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
+
+    /**
+     * 토큰을 남은 유효시간만큼 블랙리스트에 등록하고 다른 노드에 전파합니다.
+     * jti가 없는 (배포 이전에 발급된) 토큰은 기존과 같이 토큰 원문을 키로 저장합니다.
+     */
+    public void revoke(String accessToken, String tokenId, Duration ttl) {
+        if (tokenId == null) {
+            redisUtil.save(accessToken, "logout", ttl);
+            return;
+        }
+        redisUtil.save(KEY_PREFIX + tokenId, "logout", ttl);
+        add(tokenId);
+        redisUtil.publish(CHANNEL, tokenId);
+    }
+
+    /**
+     * 블랙리스트 등록 여부를 확인합니다. 로컬 필터가 음성이면 Redis를 조회하지 않습니다.
+     */
+    public boolean isRevoked(String accessToken, String tokenId) {
+        if (tokenId == null) {
+            return redisUtil.get(accessToken) != null;
+        }
+        if (ready && !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisUtil.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object tokenId = redisUtil.readMessage(message);
+        if (tokenId instanceof String jti) {
+            add(jti);
+        }
+    }
+
+    /**
+     * Redis의 blacklist:* 키로 필터를 새로 만듭니다.
+     * Bloom filter는 삭제가 불가능하므로 만료된 jti를 정리하기 위해 주기적으로 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist-rebuild-interval-ms:600000}",
+            initialDelayString = "${jwt.blacklist-rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        BloomFilter rebuilt = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        AtomicInteger count = new AtomicInteger();
+        rebuilding = rebuilt;
+        try {
+            redisUtil.scanKeys(KEY_PREFIX + "*", key -> {
+                rebuilt.put(key.substring(KEY_PREFIX.length()));
+                count.incrementAndGet();
+            });
+            // 교체를 마친 뒤에 rebuilding을 비워야 그 사이 추가된 jti가 유실되지 않음
+            this.filter = rebuilt;
+            ready = true;
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 필터 재구성 실패 - Redis 직접 조회로 동작합니다.", e);
+            ready = false;
+            return;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("블랙리스트 필터 재구성 완료 - {}건", count.get());
+    }
+
+    // rebuilding을 먼저 읽어, 재구성 중 교체가 일어나도 새 필터에 반영되도록 함
+    private void add(String tokenId) {
+        BloomFilter next = rebuilding;
+        filter.put(tokenId);
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.know_who_how.main_server.global.entity.User.User;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인증 principal 스냅샷 캐시입니다. 요청마다 users 테이블을 조회하지 않도록
+ * 로컬(L1) → Redis(L2) → DB 순서로 조회합니다.
+ * - 무효화: UserPrincipalChangedEvent 수신 시(커밋 이후) L1/L2를 삭제하고 다른 노드에 Pub/Sub으로 전파
+ * - 버전: 무효화마다 사용자별 버전을 올려, 무효화 이전에 시작된 조회 결과가 L1에 다시 저장되지 않도록 방지
+ *   L2도 무효화마다 버전 Key를 새 값으로 바꾸고, DB 조회 전에 읽은 버전과 같을 때만 저장 (커밋 전 값으로 L2를 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "user:principal:evict";
+    private static final String KEY_PREFIX = "user:principal:";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+
+    private final UserRepository userRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Cache<Long, Entry> local;
+    private final Duration redisTtl;
+
+    public UserPrincipalCache(UserRepository userRepository, RedisUtil redisUtil,
+                              RedisMessageListenerContainer listenerContainer, JwtProperties jwtProperties) {
+        this.userRepository = userRepository;
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(jwtProperties.getPrincipalLocalTtlInSeconds()))
+                .build();
+        this.redisTtl = Duration.ofSeconds(jwtProperties.getPrincipalRedisTtlInSeconds());
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * userId의 principal 스냅샷을 조회합니다. 캐시에 없으면 DB에서 한 번 조회하여 L1/L2에 저장합니다.
+     */
+    public PrincipalSnapshot get(Long userId) {
+        Entry entry = local.getIfPresent(userId);
+        if (entry != null && entry.snapshot() != null) {
+            return entry.snapshot();
+        }
+        long version = entry != null ? entry.version() : 0L;
+
+        PrincipalSnapshot snapshot = loadFromRedis(userId);
+        if (snapshot == null) {
+            // DB 조회 전에 읽어 두어야, 조회와 무효화가 겹쳤을 때 버전이 달라져 저장이 거절됨
+            Object redisVersion = redisUtil.get(versionKey(userId));
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            snapshot = PrincipalSnapshot.from(user);
+            redisUtil.saveIfVersion(key(userId), snapshot, redisTtl, versionKey(userId), redisVersion);
+        }
+
+        putLocal(userId, snapshot, version);
+        return snapshot;
+    }
+
+    /**
+     * 사용자 정보 변경 트랜잭션이 커밋된 후 캐시를 무효화합니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserPrincipalChanged(UserPrincipalChangedEvent event) {
+        evict(event.userId());
+        // 버전을 먼저 바꾼 뒤 삭제 (그 사이 시작된 조회도 이전 버전을 읽었으면 저장하지 못함)
+        redisUtil.save(versionKey(event.userId()), UUID.randomUUID().toString(), redisTtl);
+        redisUtil.delete(key(event.userId()));
+        redisUtil.publish(EVICT_CHANNEL, event.userId());
+    }
+
+    // 다른 노드에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisUtil.readMessage(message);
+        if (body instanceof Number userId) {
+            evict(userId.longValue());
+        }
+    }
+
+    // 로컬 캐시 항목을 버전이 올라간 툼스톤으로 교체
+    void evict(Long userId) {
+        local.asMap().compute(userId, (id, cur) -> new Entry(null, (cur != null ? cur.version() : 0L) + 1));
+    }
+
+    private PrincipalSnapshot loadFromRedis(Long userId) {
+        Object cached = redisUtil.get(key(userId));
+        return cached instanceof PrincipalSnapshot snapshot ? snapshot : null;
+    }
+
+    // 조회를 시작한 시점의 버전과 같을 때만 저장 (그 사이 무효화가 있었다면 버리기)
+    private void putLocal(Long userId, PrincipalSnapshot snapshot, long version) {
+        Entry fresh = new Entry(snapshot, version);
+        local.asMap().compute(userId, (id, cur) -> cur == null || cur.version() == version ? fresh : cur);
+    }
+
+    // 값과 버전 Key가 Redis Cluster에서도 같은 슬롯에 위치하도록 해시 태그 사용
+    private static String key(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private static String versionKey(Long userId) {
+        return key(userId) + VERSION_KEY_SUFFIX;
+    }
+
+    private record Entry(PrincipalSnapshot snapshot, long version) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.know_who_how.main_server.global.jwt;
+
+/**
+ * principal 스냅샷에 포함된 사용자 정보(전화번호, 투자성향, 연동 플래그 등)가 변경되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 UserPrincipalCache가 해당 사용자의 캐시를 무효화합니다.
+ */
+public record UserPrincipalChangedEvent(Long userId) {
+}
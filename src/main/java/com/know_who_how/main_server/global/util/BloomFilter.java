@@ -0,0 +1,106 @@
+package com.know_who_how.main_server.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 thread-safe Bloom filter.
+ * - mightContain 이 false 이면 확실히 없는 키, true 이면 오탐(false positive)일 수 있음
+ * - 삭제를 지원하지 않으므로, 만료된 키를 정리하려면 새 필터로 재구성해야 함
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    /**
+     * 예상 삽입 개수와 허용 오탐률로 비트 수/해시 함수 개수를 계산하여 생성합니다.
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        long m = optimalBitSize(expectedInsertions, falsePositiveRate);
+        return new BloomFilter(m, optimalHashCount(expectedInsertions, m));
+    }
+
+    public void put(String key) {
+        long hash = murmur64(key);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(hash, i, bitSize));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = murmur64(key);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(hash, i, bitSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long optimalBitSize(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        return Math.max(64, Math.min(m, (long) Integer.MAX_VALUE));
+    }
+
+    static int optimalHashCount(int expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / Math.max(expectedInsertions, 1) * Math.log(2)));
+    }
+
+    // 키가 차지하는 비트 위치 hashCount개를 계산 (Redis에 저장하는 RedisBloomFilter와 공유)
+    static long[] indexes(String key, long bitSize, int hashCount) {
+        long hash = murmur64(key);
+        long[] indexes = new long[hashCount];
+        for (int i = 1; i <= hashCount; i++) {
+            indexes[i - 1] = index(hash, i, bitSize);
+        }
+        return indexes;
+    }
+
+    // 이중 해싱: 64비트 해시를 h1/h2로 나누어 i번째 위치를 h1 + i*h2 로 계산
+    private static long index(long hash, int i, long bitSize) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // MurmurHash3 fmix64 기반의 간단한 64비트 해시
+    private static long murmur64(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h = 0x9E3779B97F4A7C15L ^ bytes.length;
+        for (byte b : bytes) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE53B87CDL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,44 @@
+package com.know_who_how.main_server.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출의 동시 진행 수를 maxConcurrentCalls개로 제한합니다.
+ * 자리가 없으면 기다리지 않고 rejection으로 만든 예외로 즉시 실패하며, 호출이 끝나거나 구독이 취소되면 자리를 반납합니다.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final Supplier<RuntimeException> rejection;
+    private final Counter rejections;
+
+    public Bulkhead(String name, int maxConcurrentCalls, Supplier<RuntimeException> rejection,
+                    MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.rejection = rejection;
+        this.rejections = Counter.builder("bulkhead.rejections")
+                .description("동시 호출 수 상한에 걸려 거절한 횟수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", permits, semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+                .description("진행 중인 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> decorate(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejections.increment();
+                return Mono.error(rejection.get());
+            }
+            return call.doFinally(signal -> permits.release());
+        });
+    }
+}
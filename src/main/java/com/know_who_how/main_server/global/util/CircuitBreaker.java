@@ -0,0 +1,188 @@
+package com.know_who_how.main_server.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 외부 호출용 count 기반 서킷 브레이커입니다.
+ * - CLOSED: 최근 windowSize개 호출 중 실패율 또는 느린 호출 비율이 기준 이상이면 OPEN (minimumCalls개 이상 기록된 뒤부터)
+ * - OPEN: openDuration 동안 호출하지 않고 즉시 거절 (rejection으로 만든 예외로 실패)
+ * - HALF_OPEN: halfOpenCalls개만 시험 호출, 하나라도 실패하거나 느리면 다시 OPEN, 모두 성공하면 CLOSED
+ * 실패로 셀 예외는 isFailure로 정합니다 (ex. 4xx 응답은 원본 장애가 아니므로 제외). 구독 취소된 호출은 기록하지 않습니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public record Config(int windowSize, int minimumCalls, int failureRateThreshold,
+                         Duration slowCallDuration, int slowCallRateThreshold,
+                         Duration openDuration, int halfOpenCalls) {
+    }
+
+    private final String name;
+    private final Config config;
+    private final Predicate<Throwable> isFailure;
+    private final Function<Duration, RuntimeException> rejection;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private final Counter openRejections;
+
+    public CircuitBreaker(String name, Config config, Predicate<Throwable> isFailure,
+                          Function<Duration, RuntimeException> rejection, MeterRegistry meterRegistry) {
+        this(name, config, isFailure, rejection, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Config config, Predicate<Throwable> isFailure,
+                   Function<Duration, RuntimeException> rejection, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.config = config;
+        this.isFailure = isFailure;
+        this.rejection = rejection;
+        this.nanoClock = nanoClock;
+        this.failed = new boolean[config.windowSize()];
+        this.slow = new boolean[config.windowSize()];
+        this.openRejections = Counter.builder("circuit-breaker.rejections")
+                .description("서킷이 열려 있어 호출하지 않고 거절한 횟수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("circuit-breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독할 때마다 호출 허가를 확인하고, 허가된 호출의 결과(실패, 소요 시간)를 기록합니다.
+     */
+    public <T> Mono<T> decorate(Mono<T> call) {
+        return Mono.defer(() -> {
+            Duration retryAfter = tryAcquirePermission();
+            if (retryAfter != null) {
+                openRejections.increment();
+                return Mono.error(rejection.apply(retryAfter));
+            }
+            long start = nanoClock.getAsLong();
+            boolean[] done = {false};
+            return call
+                    .doOnEach(signal -> {
+                        if (!done[0] && (signal.isOnNext() || signal.isOnComplete() || signal.isOnError())) {
+                            done[0] = true;
+                            boolean failure = signal.isOnError() && isFailure.test(signal.getThrowable());
+                            onResult(failure, nanoClock.getAsLong() - start);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (!done[0]) {
+                            done[0] = true;
+                            releasePermission();
+                        }
+                    });
+        });
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openUntil >= 0) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    // 허가되면 null, 거절되면 다시 시도해 볼 수 있을 때까지 남은 시간
+    synchronized Duration tryAcquirePermission() {
+        long now = nanoClock.getAsLong();
+        if (state == State.OPEN) {
+            if (now - openUntil < 0) {
+                return Duration.ofNanos(openUntil - now);
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= config.halfOpenCalls()) {
+                return Duration.ofNanos(Math.max(config.openDuration().toNanos() / 10, 1));
+            }
+            halfOpenPermits++;
+        }
+        return null;
+    }
+
+    synchronized void onResult(boolean failure, long elapsedNanos) {
+        boolean slowCall = elapsedNanos >= config.slowCallDuration().toNanos();
+        if (state == State.HALF_OPEN) {
+            if (failure || slowCall) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= config.halfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == failed.length) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        failures += failure ? 1 : 0;
+        slowCalls += slowCall ? 1 : 0;
+        next = (next + 1) % failed.length;
+
+        if (recorded >= config.minimumCalls()
+                && (failures * 100 >= config.failureRateThreshold() * recorded
+                || slowCalls * 100 >= config.slowCallRateThreshold() * recorded)) {
+            log.warn("서킷 OPEN - {}: 최근 {}건 중 실패 {}건, 느린 호출 {}건", name, recorded, failures, slowCalls);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 결과 없이 끝난(구독 취소된) 시험 호출의 허가 반납
+    private synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    private void transitionTo(State newState) {
+        if (state != newState) {
+            log.info("서킷 상태 변경 - {}: {} -> {}", name, state, newState);
+        }
+        state = newState;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openUntil = nanoClock.getAsLong() + config.openDuration().toNanos();
+        } else if (newState == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.know_who_how.main_server.global.util;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Redis 비트맵에 저장하는 여러 노드 공용 Bloom filter입니다. (비트 위치 계산은 BloomFilter와 동일)
+ * - {name}          : 필터 비트맵 (재구성이 한 번이라도 끝나야 생성됨 → 없으면 "판단 불가")
+ * - {name}:building : 재구성 중 표시 겸 락
+ * - {name}:loaded   : 재구성 시 DB 등 원본에서 만든 비트맵을 한 번에 올려두는 임시 키
+ * - {name}:recent   : 최근 추가된 값의 비트 위치 (score = 추가 시각)
+ *   추가는 가입 트랜잭션 안에서 일어나므로, 재구성 시작 전후에 추가된 값의 행이 원본 조회 뒤에 커밋될 수 있음
+ *   → 교체 시 재구성 시작(- IN_FLIGHT_GRACE) 이후 추가된 값을 원본 비트맵에 다시 반영하여 거짓 음성이 생기지 않게 함
+ * 키에 해시 태그({})를 사용하여 Redis Cluster에서도 스크립트의 키가 같은 슬롯에 위치합니다.
+ */
+public class RedisBloomFilter {
+
+    // KEYS[1]=필터 / ARGV=비트 위치 → -1=필터 없음, 0=확실히 없음, 1=있을 수 있음
+    private static final RedisScript<Long> MIGHT_CONTAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            for i = 1, #ARGV do
+                if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then
+                    return 0
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=필터, KEYS[2]=최근 추가 ZSET / ARGV[1]=현재 시각(ms), ARGV[2]=최근 추가 보관 시간(ms), ARGV[3..]=비트 위치
+    // 필터가 아직 없으면 일부만 채워진 필터가 만들어지지 않도록 필터에는 기록하지 않음 (재구성이 최근 추가와 원본에서 반영)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[2], ARGV[1], table.concat(ARGV, ',', 3))
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1] - ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 3, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=재구성 락, KEYS[2]=원본 비트맵, KEYS[3]=필터, KEYS[4]=최근 추가 ZSET / ARGV[1]=다시 반영할 추가 시각 하한(ms)
+    // 락이 만료되어 다른 노드가 재구성을 시작했을 수 있으면 교체하지 않음
+    private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('DEL', KEYS[2])
+                return 0
+            end
+            for _, offsets in ipairs(redis.call('ZRANGEBYSCORE', KEYS[4], ARGV[1], '+inf')) do
+                for offset in string.gmatch(offsets, '%d+') do
+                    redis.call('SETBIT', KEYS[2], offset, 1)
+                end
+            end
+            redis.call('RENAME', KEYS[2], KEYS[3])
+            redis.call('PERSIST', KEYS[3])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    // 재구성 시작 시점에 이미 열려 있던 가입 트랜잭션이 값을 추가했을 수 있는 시간 (노드 간 시계 차이 포함)
+    private static final Duration IN_FLIGHT_GRACE = Duration.ofMinutes(1);
+    // 최근 추가 보관 시간. 재구성 최대 소요 시간 + IN_FLIGHT_GRACE보다 길어야 함
+    private static final Duration RECENT_PUT_RETENTION = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String filterKey;
+    private final String buildingKey;
+    private final String loadedKey;
+    private final String recentKey;
+    private final long bitSize;
+    private final int hashCount;
+
+    private RedisBloomFilter(StringRedisTemplate stringRedisTemplate, String name, long bitSize, int hashCount) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.filterKey = "{" + name + "}";
+        this.buildingKey = filterKey + ":building";
+        this.loadedKey = filterKey + ":loaded";
+        this.recentKey = filterKey + ":recent";
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 삽입 개수와 허용 오탐률로 비트 수/해시 함수 개수를 계산하여 생성합니다.
+     * 같은 이름을 쓰는 모든 노드는 같은 설정값을 사용해야 합니다.
+     */
+    public static RedisBloomFilter create(StringRedisTemplate stringRedisTemplate, String name,
+                                          int expectedInsertions, double falsePositiveRate) {
+        long m = BloomFilter.optimalBitSize(expectedInsertions, falsePositiveRate);
+        return new RedisBloomFilter(stringRedisTemplate, name, m, BloomFilter.optimalHashCount(expectedInsertions, m));
+    }
+
+    /**
+     * @return false=확실히 없음, true=있을 수 있음, null=필터가 아직 만들어지지 않아 판단 불가
+     */
+    public Boolean mightContain(String value) {
+        Long result = stringRedisTemplate.execute(MIGHT_CONTAIN_SCRIPT, List.of(filterKey), (Object[]) offsets(value));
+        if (result == null || result < 0) {
+            return null;
+        }
+        return result == 1;
+    }
+
+    public void put(String value) {
+        String[] offsets = offsets(value);
+        String[] args = new String[offsets.length + 2];
+        args[0] = Long.toString(System.currentTimeMillis());
+        args[1] = Long.toString(RECENT_PUT_RETENTION.toMillis());
+        System.arraycopy(offsets, 0, args, 2, offsets.length);
+        stringRedisTemplate.execute(PUT_SCRIPT, List.of(filterKey, recentKey), (Object[]) args);
+    }
+
+    // 기록에 실패해 필터를 믿을 수 없게 된 경우 필터를 지워 다음 재구성 전까지 "판단 불가"로 동작하게 함
+    public void invalidate() {
+        stringRedisTemplate.delete(filterKey);
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(filterKey));
+    }
+
+    /**
+     * 재구성을 시작합니다. 다른 노드가 재구성 중이면 null을 반환합니다.
+     *
+     * @param timeout 재구성 최대 소요 시간 (이 시간이 지나면 락이 풀리고 결과는 버려짐)
+     */
+    public Rebuild startRebuild(Duration timeout) {
+        if (timeout.plus(IN_FLIGHT_GRACE).compareTo(RECENT_PUT_RETENTION) > 0) {
+            throw new IllegalArgumentException("재구성 최대 소요 시간이 최근 추가 보관 시간보다 김: " + timeout);
+        }
+        long startedAt = System.currentTimeMillis();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(buildingKey, Long.toString(startedAt), timeout);
+        return Boolean.TRUE.equals(acquired) ? new Rebuild(timeout, startedAt) : null;
+    }
+
+    private String[] offsets(String value) {
+        return Arrays.stream(BloomFilter.indexes(value, bitSize, hashCount))
+                .mapToObj(Long::toString)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 원본 데이터로 로컬 비트맵을 채운 뒤 commit()으로 한 번에 교체합니다.
+     */
+    public final class Rebuild {
+
+        private final Duration timeout;
+        private final long startedAt;
+        private final byte[] bitmap = new byte[(int) ((bitSize + 7) / 8)];
+
+        private Rebuild(Duration timeout, long startedAt) {
+            this.timeout = timeout;
+            this.startedAt = startedAt;
+        }
+
+        public void put(String value) {
+            for (long index : BloomFilter.indexes(value, bitSize, hashCount)) {
+                // Redis 비트맵은 바이트의 최상위 비트가 offset 0
+                bitmap[(int) (index >>> 3)] |= (byte) (0x80 >>> (index & 7));
+            }
+        }
+
+        /**
+         * @return 교체했으면 true, 락이 만료되어 결과를 버렸으면 false
+         */
+        public boolean commit() {
+            byte[] key = loadedKey.getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(key, bitmap, Expiration.from(timeout), SetOption.upsert()));
+            Long result = stringRedisTemplate.execute(COMMIT_SCRIPT, List.of(buildingKey, loadedKey, filterKey, recentKey),
+                    Long.toString(startedAt - IN_FLIGHT_GRACE.toMillis()));
+            return result != null && result == 1;
+        }
+
+        public void abort() {
+            stringRedisTemplate.delete(List.of(buildingKey, loadedKey));
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.know_who_how.main_server.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.know_who_how.main_server.global.config.RedisNearCacheProperties;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RedisUtil 앞단의 로컬 근접 캐시입니다. Redis 6의 CLIENT TRACKING(BCAST) 무효화 알림으로 노드 간 일관성을 유지합니다.
+ * - 설정한 prefix의 Key만 로컬에 보관하고, 전용 RESP3 연결로 해당 prefix의 변경/삭제/만료 알림을 받아 즉시 제거
+ * - 미스 시 GET과 PTTL을 한 번의 파이프라인으로 읽어, 로컬 보관 시간이 Redis TTL을 넘지 않게 함
+ * - 조회 전에 자리표시를 넣고 조회 도중 무효화되지 않았을 때만 값으로 교체 (무효화 직전 값이 남지 않도록)
+ * - 추적 연결이 끊긴 동안에는 무효화를 받을 수 없으므로 로컬 캐시를 비우고 Redis에서 직접 읽음
+ * 로컬에 보관한 값은 여러 요청이 같은 인스턴스를 공유하므로 읽기 전용으로 다뤄야 합니다.
+ */
+@Slf4j
+@Component
+public class RedisNearCache {
+
+    // 자리표시는 조회 한 번 동안만 필요
+    private static final long PENDING_TTL_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisNearCacheProperties properties;
+    private final List<String> prefixes;
+    private final Cache<String, Object> cache;
+
+    private final Map<String, Counter> hitCounters = new HashMap<>();
+    private final Map<String, Counter> missCounters = new HashMap<>();
+    private final Counter invalidationCounter;
+    private final Counter evictionCounter;
+
+    private volatile boolean active = false;
+    private RedisClient trackingClient;
+    private StatefulRedisConnection<String, String> trackingConnection;
+
+    public RedisNearCache(RedisTemplate<String, Object> redisTemplate, RedisNearCacheProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.prefixes = List.copyOf(properties.getPrefixes());
+        this.evictionCounter = Counter.builder("redis.near-cache.evictions")
+                .description("용량 상한으로 밀려난 로컬 캐시 항목 수")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("redis.near-cache.invalidations")
+                .description("Redis 무효화 알림으로 제거한 Key 수")
+                .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumBytes())
+                .weigher((String key, Object value) -> value instanceof Entry entry ? entry.weight() : key.length())
+                .expireAfter(new Expiry<String, Object>() {
+                    @Override
+                    public long expireAfterCreate(String key, Object value, long currentTime) {
+                        return value instanceof Entry entry ? entry.ttlNanos() : PENDING_TTL_NANOS;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((String key, Object value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictionCounter.increment();
+                    }
+                })
+                .build();
+
+        // prefix별 적중률: redis.near-cache.requests{result=hit} / 전체
+        for (String prefix : prefixes) {
+            hitCounters.put(prefix, requestCounter(meterRegistry, prefix, "hit"));
+            missCounters.put(prefix, requestCounter(meterRegistry, prefix, "miss"));
+        }
+        Gauge.builder("redis.near-cache.size", cache, Cache::estimatedSize)
+                .description("로컬 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("redis.near-cache.weighted-bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("로컬 캐시 값의 직렬화 크기 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String prefix, String result) {
+        return Counter.builder("redis.near-cache.requests")
+                .description("prefix별 로컬 캐시 조회 결과")
+                .tag("prefix", prefix)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || prefixes.isEmpty()) {
+            return;
+        }
+        if (!(redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory)) {
+            log.warn("Redis 근접 캐시 비활성화 - Lettuce 연결이 아닙니다.");
+            return;
+        }
+        try {
+            trackingClient = RedisClient.create(RedisURI.create(factory.getHostName(), factory.getPort()));
+            // 무효화 알림은 RESP3 push 메시지로만 같은 연결에 전달됨
+            trackingClient.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+            trackingConnection = trackingClient.connect();
+            trackingConnection.addListener(this::onPushMessage);
+            trackingConnection.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+                    deactivate();
+                    log.warn("Redis 근접 캐시 추적 연결 끊김 - 재연결 전까지 Redis에서 직접 조회합니다.");
+                }
+
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+                    // 재연결된 연결에는 추적 설정이 없으므로 다시 등록
+                    trackingConnection.async().clientTracking(trackingArgs()).whenComplete((ok, e) -> {
+                        if (e != null) {
+                            log.warn("Redis 근접 캐시 추적 재등록 실패", e);
+                        } else {
+                            onTrackingEnabled();
+                        }
+                    });
+                }
+            });
+            trackingConnection.sync().clientTracking(trackingArgs());
+            onTrackingEnabled();
+            log.info("Redis 근접 캐시 시작 - prefix: {}, 상한: {} bytes", prefixes, properties.getMaximumBytes());
+        } catch (RuntimeException e) {
+            log.warn("Redis 근접 캐시 비활성화 - CLIENT TRACKING을 사용할 수 없습니다.", e);
+            stop();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        deactivate();
+        if (trackingConnection != null) {
+            trackingConnection.close();
+            trackingConnection = null;
+        }
+        if (trackingClient != null) {
+            trackingClient.shutdown();
+            trackingClient = null;
+        }
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(prefixes.toArray(String[]::new));
+    }
+
+    // 추적이 켜지기 전에 들어온 값은 무효화를 놓쳤을 수 있으므로 비우고 시작
+    void onTrackingEnabled() {
+        cache.invalidateAll();
+        active = true;
+    }
+
+    private void deactivate() {
+        active = false;
+        cache.invalidateAll();
+    }
+
+    // 로컬 캐시로 조회할 Key인지 여부 (추적 중이고 설정한 prefix에 해당)
+    public boolean covers(String key) {
+        return active && prefixOf(key) != null;
+    }
+
+    public Object get(String key) {
+        return getAll(List.of(key)).get(0);
+    }
+
+    // keys 순서대로 값을 반환 (없는 Key는 null), 로컬에 없는 Key만 한 번의 파이프라인으로 조회
+    public List<Object> getAll(List<String> keys) {
+        Object[] values = new Object[keys.size()];
+        List<Integer> misses = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String prefix = active ? prefixOf(keys.get(i)) : null;
+            Object cached = prefix == null ? null : cache.getIfPresent(keys.get(i));
+            if (cached instanceof Entry entry) {
+                values[i] = entry.value();
+                hitCounters.get(prefix).increment();
+            } else {
+                if (prefix != null) {
+                    missCounters.get(prefix).increment();
+                }
+                misses.add(i);
+            }
+        }
+        if (!misses.isEmpty()) {
+            load(keys, misses, values);
+        }
+        return Arrays.asList(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(List<String> keys, List<Integer> misses, Object[] values) {
+        Pending[] tokens = new Pending[misses.size()];
+        for (int j = 0; j < misses.size(); j++) {
+            String key = keys.get(misses.get(j));
+            if (active && prefixOf(key) != null) {
+                Pending token = new Pending();
+                if (cache.asMap().putIfAbsent(key, token) == null) {
+                    tokens[j] = token;
+                }
+            }
+        }
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        List<Object> results;
+        try {
+            // [GET k1, PTTL k1, GET k2, PTTL k2, ...] 값은 직렬화 바이트 그대로 받아 크기를 함께 확인
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int index : misses) {
+                    byte[] rawKey = keySerializer.serialize(keys.get(index));
+                    connection.stringCommands().get(rawKey);
+                    connection.keyCommands().pTtl(rawKey);
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+        } catch (RuntimeException e) {
+            for (int j = 0; j < tokens.length; j++) {
+                if (tokens[j] != null) {
+                    cache.asMap().remove(keys.get(misses.get(j)), tokens[j]);
+                }
+            }
+            throw e;
+        }
+
+        RedisSerializer<?> valueSerializer = redisTemplate.getValueSerializer();
+        for (int j = 0; j < misses.size(); j++) {
+            String key = keys.get(misses.get(j));
+            byte[] raw = (byte[]) results.get(2 * j);
+            Object value = raw == null ? null : valueSerializer.deserialize(raw);
+            values[misses.get(j)] = value;
+            if (tokens[j] != null) {
+                fill(key, tokens[j], value, raw, (Long) results.get(2 * j + 1));
+            }
+        }
+    }
+
+    private void fill(String key, Pending token, Object value, byte[] raw, Long pttlMillis) {
+        long maxTtlMillis = Duration.ofSeconds(properties.getMaxTtlSeconds()).toMillis();
+        // PTTL: -1 = 만료 없음, -2 = Key 없음
+        long ttlMillis = pttlMillis == null || pttlMillis == -1 ? maxTtlMillis : Math.min(pttlMillis, maxTtlMillis);
+        if (value == null || raw.length > properties.getMaxEntryBytes() || ttlMillis <= 0) {
+            cache.asMap().remove(key, token);
+            return;
+        }
+        // 자리표시가 무효화로 지워졌다면 교체되지 않음
+        cache.asMap().replace(key, token,
+                new Entry(value, raw.length + key.length() * 2, Duration.ofMillis(ttlMillis).toNanos()));
+    }
+
+    // 이 노드에서 쓴 Key는 무효화 알림을 기다리지 않고 바로 제거
+    public void invalidate(String key) {
+        if (prefixOf(key) != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidateAll(Collection<String> keys) {
+        keys.forEach(this::invalidate);
+    }
+
+    void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof Collection<?> changed) {
+            changed.forEach(key -> cache.invalidate(String.valueOf(key)));
+            invalidationCounter.increment(changed.size());
+        } else {
+            // FLUSHDB/FLUSHALL은 Key 목록 없이 전달됨
+            cache.invalidateAll();
+        }
+    }
+
+    private String prefixOf(String key) {
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private record Entry(Object value, int weight, long ttlNanos) {
+    }
+
+    // 조회 중 자리표시 (equals는 동일 인스턴스 비교)
+    private static final class Pending {
+    }
+}
@@ -0,0 +1,19 @@
+package com.know_who_how.main_server.global.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Redis에 바이너리 형식(RedisValueCodec)으로 저장할 값 타입에 붙이는 고정 타입 ID입니다.
+ * 클래스 이름 대신 이 ID가 저장되므로, 한 번 배포한 ID는 다른 타입에 재사용하거나 변경하면 안 됩니다.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RedisTypeId {
+
+    int value();
+}
@@ -1,38 +1,264 @@
 package com.know_who_how.main_server.global.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
 
+    // KEYS[1]=Key / ARGV[1]=기대 값 → 값이 일치할 때만 삭제
+    private static final RedisScript<Long> DELETE_IF_VALUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=Key, KEYS[2]=버전 Key / ARGV[1]=값, ARGV[2]=기대 버전(없으면 빈 값), ARGV[3]=TTL(ms)
+    // 버전 Key의 값이 기대 버전과 같을 때만 저장 (없는 버전 Key는 빈 값으로 비교)
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[2] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    private final RedisNearCache nearCache;
 
     public void save(String key, Object value) {
         redisTemplate.opsForValue().set(key, value);
+        nearCache.invalidate(key);
     }
 
     // TTL을 설정하여 데이터를 저장하는 메소드 추가
     public void save(String key, Object value, Duration expireDuration) {
         redisTemplate.opsForValue().set(key, value, expireDuration);
+        nearCache.invalidate(key);
+    }
+
+    // Key가 없을 때만 TTL을 설정하여 저장하는 메소드 추가 (SET NX, 저장했으면 true)
+    public boolean saveIfAbsent(String key, Object value, Duration expireDuration) {
+        boolean saved = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, expireDuration));
+        if (saved) {
+            nearCache.invalidate(key);
+        }
+        return saved;
     }
 
-    // Key에 해당하는 값을 가져오는 메소드 추가
+    // Key에 해당하는 값을 가져오는 메소드 추가 (근접 캐시 대상 prefix면 로컬 캐시 우선)
     public Object get(String key) {
+        if (nearCache.covers(key)) {
+            return nearCache.get(key);
+        }
         return redisTemplate.opsForValue().get(key);
     }
 
     // Key에 해당하는 데이터를 삭제하는 메소드 추가
     public void delete(String key) {
         redisTemplate.delete(key);
+        nearCache.invalidate(key);
+    }
+
+    // 저장된 값이 expected와 같을 때만 삭제하는 메소드 추가 (락/임차 해제용, 삭제했으면 true)
+    public boolean deleteIfValue(String key, Object expected) {
+        Long deleted = redisTemplate.execute(DELETE_IF_VALUE_SCRIPT, List.of(key), expected);
+        nearCache.invalidate(key);
+        return deleted != null && deleted > 0;
+    }
+
+    // 조회 시작 시점에 읽은 버전(versionKey의 값, 없으면 null)이 그대로일 때만 저장하는 메소드 추가 (캐시 적재와 무효화 경쟁 방지, 저장했으면 true)
+    // TTL은 Integer로 넘겨 JSON 숫자 그대로 직렬화되게 함 (Long은 타입 정보가 붙음)
+    public boolean saveIfVersion(String key, Object value, Duration expireDuration, String versionKey, Object expectedVersion) {
+        Long saved = redisTemplate.execute(SAVE_IF_VERSION_SCRIPT, List.of(key, versionKey),
+                value, expectedVersion, Math.toIntExact(expireDuration.toMillis()));
+        nearCache.invalidate(key);
+        return saved != null && saved > 0;
+    }
+
+    // 여러 Key의 값을 한 번의 MGET으로 가져오는 메소드 추가 (keys 순서대로, 없는 Key는 null)
+    public List<Object> multiGet(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (keys.stream().anyMatch(nearCache::covers)) {
+            return nearCache.getAll(List.copyOf(keys));
+        }
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    // 같은 TTL로 여러 데이터를 파이프라인으로 한 번에 저장하는 메소드 추가
+    public void saveAll(Map<String, ?> values, Duration expireDuration) {
+        saveAll(values, key -> expireDuration);
+    }
+
+    // Key별 TTL로 여러 데이터를 파이프라인으로 한 번에 저장하는 메소드 추가 (Key마다 왕복하지 않음)
+    public void saveAll(Map<String, ?> values, Function<String, Duration> expireDurationOf) {
+        if (values.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> ops.opsForValue().set(key, value, expireDurationOf.apply(key)));
+                return null;
+            }
+        });
+        nearCache.invalidateAll(values.keySet());
+    }
+
+    // 여러 Key를 한 번의 DEL로 삭제하는 메소드 추가
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+        nearCache.invalidateAll(keys);
+    }
+
+    // Sorted Set 멤버들의 점수를 파이프라인으로 한 번에 올리는 메소드 추가 (ZINCRBY)
+    public void incrementScores(String key, Map<String, Double> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                increments.forEach((member, delta) -> ops.opsForZSet().incrementScore(key, member, delta));
+                return null;
+            }
+        });
+    }
+
+    // Sorted Set의 모든 점수에 factor를 곱하고, 점수 상위 maxSize개만 남기는 메소드 추가 (오래된 인기도 감쇠)
+    public void decayScores(String key, double factor, long maxSize) {
+        redisTemplate.opsForZSet().unionAndStore(key, Collections.emptyList(), key,
+                Aggregate.SUM, Weights.of(factor));
+        redisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1));
+    }
+
+    // Sorted Set에서 점수가 높은 순으로 최대 count개의 멤버를 가져오는 메소드 추가
+    public List<Object> topByScore(String key, long count) {
+        Set<Object> members = redisTemplate.opsForZSet().reverseRange(key, 0, count - 1);
+        return members != null ? List.copyOf(members) : List.of();
+    }
+
+    // --- 논블로킹 메소드 (Mono를 반환하는 호출 흐름에서 사용, 근접 캐시는 거치지 않고 쓰기 시 무효화만 함) ---
+
+    // Key에 해당하는 값을 가져오는 메소드 추가 (없으면 빈 Mono)
+    public Mono<Object> getAsync(String key) {
+        return reactiveRedisTemplate.opsForValue().get(key);
+    }
+
+    // 여러 Key의 값을 한 번의 MGET으로 가져오는 메소드 추가 (keys 순서대로, 없는 Key는 null)
+    public Mono<List<Object>> multiGetAsync(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return reactiveRedisTemplate.opsForValue().multiGet(keys);
+    }
+
+    // TTL을 설정하여 데이터를 저장하는 메소드 추가
+    public Mono<Void> saveAsync(String key, Object value, Duration expireDuration) {
+        return reactiveRedisTemplate.opsForValue().set(key, value, expireDuration)
+                .doOnSuccess(saved -> nearCache.invalidate(key))
+                .then();
+    }
+
+    // 여러 데이터를 저장하는 메소드 추가 (한 연결에서 응답을 기다리지 않고 연달아 보내므로 파이프라인과 같은 효과)
+    public Mono<Void> saveAllAsync(Map<String, ?> values, Duration expireDuration) {
+        return saveAllAsync(values, key -> expireDuration);
+    }
+
+    // Key마다 TTL을 달리하여 여러 데이터를 저장하는 메소드 추가
+    public Mono<Void> saveAllAsync(Map<String, ?> values, Function<String, Duration> expireDurationOf) {
+        return Flux.fromIterable(values.entrySet())
+                .flatMap(entry -> reactiveRedisTemplate.opsForValue()
+                        .set(entry.getKey(), entry.getValue(), expireDurationOf.apply(entry.getKey())))
+                .then(Mono.fromRunnable(() -> nearCache.invalidateAll(values.keySet())));
+    }
+
+    // 직렬화 없이 저장된 바이트를 그대로 가져오는 메소드 추가 (없으면 빈 Mono)
+    public Mono<byte[]> getBytesAsync(String key) {
+        return reactiveBytesRedisTemplate.opsForValue().get(key);
+    }
+
+    // 바이트를 직렬화 없이 TTL을 설정하여 저장하는 메소드 추가 (근접 캐시 대상이 아닌 Key에만 사용)
+    public Mono<Void> saveBytesAsync(String key, byte[] value, Duration expireDuration) {
+        return reactiveBytesRedisTemplate.opsForValue().set(key, value, expireDuration).then();
+    }
+
+    // Key가 없을 때만 TTL을 설정하여 저장하는 메소드 추가 (SET NX, 저장했으면 true)
+    public Mono<Boolean> saveIfAbsentAsync(String key, Object value, Duration expireDuration) {
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(key, value, expireDuration)
+                .map(Boolean.TRUE::equals)
+                .defaultIfEmpty(false)
+                .doOnSuccess(saved -> {
+                    if (Boolean.TRUE.equals(saved)) {
+                        nearCache.invalidate(key);
+                    }
+                });
+    }
+
+    // 저장된 값이 expected와 같을 때만 삭제하는 메소드 추가 (락/임차 해제용)
+    public Mono<Boolean> deleteIfValueAsync(String key, Object expected) {
+        return reactiveRedisTemplate.execute(DELETE_IF_VALUE_SCRIPT, List.of(key), List.of(expected))
+                .next()
+                .map(deleted -> deleted > 0)
+                .defaultIfEmpty(false)
+                .doOnSuccess(deleted -> nearCache.invalidate(key));
     }
 
     // Key의 존재 여부를 확인하는 메소드 추가
     public Boolean hasKey(String key) {
         return redisTemplate.hasKey(key);
     }
+
+    // 채널에 메시지를 발행하는 메소드 추가 (노드 간 로컬 캐시 무효화 등)
+    public void publish(String channel, Object message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    // 구독한 메시지 본문을 값 직렬화기로 역직렬화하는 메소드 추가
+    public Object readMessage(Message message) {
+        return redisTemplate.getValueSerializer().deserialize(message.getBody());
+    }
+
+    // 패턴에 맞는 Key를 SCAN으로 순회하는 메소드 추가 (KEYS 명령처럼 Redis를 블로킹하지 않음)
+    public void scanKeys(String pattern, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
 }
@@ -0,0 +1,159 @@
+package com.know_who_how.main_server.global.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RedisTemplate 값 직렬화기입니다. 버전이 있는 바이너리 형식과 기존 JSON 형식을 모두 읽습니다.
+ * <pre>
+ * [0xB7][버전 1][플래그][타입 ID 2바이트]([원본 길이 4바이트] LZ4 압축 시)[Smile 본문]
+ * </pre>
+ * - 타입 정보는 클래스 이름 대신 @RedisTypeId로 지정한 2바이트 ID로 저장
+ * - 본문이 compressionThreshold 이상이면 LZ4로 압축 (압축 후 더 작을 때만)
+ * - 첫 바이트가 0xB7이 아니면 기존 GenericJackson2JsonRedisSerializer 형식으로 읽음 (JSON은 ASCII로 시작)
+ * - @RedisTypeId가 없는 타입(String, Long 등)과 WriteFormat.JSON 모드에서는 기존 JSON 형식으로 저장
+ * 여러 노드에 순차 배포할 때는 JSON 모드로 먼저 배포하여 모든 노드가 바이너리 형식을 읽을 수 있게 된 뒤
+ * BINARY로 전환합니다. 기존 JSON 값은 TTL이 지나거나 다시 저장될 때 자연스럽게 바뀝니다.
+ */
+public class RedisValueCodec implements RedisSerializer<Object> {
+
+    public enum WriteFormat { JSON, BINARY }
+
+    static final byte MAGIC = (byte) 0xB7;
+    static final byte VERSION_1 = 1;
+    static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 5;
+
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final Map<Integer, Class<?>> typesById;
+    private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+    private final WriteFormat writeFormat;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public RedisValueCodec(Map<Integer, Class<?>> typesById, WriteFormat writeFormat, int compressionThreshold) {
+        this.typesById = Map.copyOf(typesById);
+        typesById.forEach((id, type) -> {
+            if (id < 0 || id > 0xFFFF) {
+                throw new IllegalArgumentException("Redis 타입 ID는 0~65535 범위여야 합니다: " + type.getName());
+            }
+            idsByType.put(type, id);
+        });
+        this.writeFormat = writeFormat;
+        this.compressionThreshold = compressionThreshold;
+        this.smileMapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                // 필드가 추가/삭제된 DTO의 기존 값도 읽을 수 있도록
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.fastDecompressor();
+    }
+
+    /**
+     * basePackage 아래에서 @RedisTypeId가 붙은 타입을 찾아 ID → 타입 맵을 만듭니다.
+     * 같은 ID를 두 타입이 사용하면 기동 시 실패합니다.
+     */
+    public static Map<Integer, Class<?>> scanTypes(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RedisTypeId.class));
+
+        Map<Integer, Class<?>> types = new HashMap<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), RedisValueCodec.class.getClassLoader());
+            int id = type.getAnnotation(RedisTypeId.class).value();
+            Class<?> previous = types.putIfAbsent(id, type);
+            if (previous != null) {
+                throw new IllegalStateException("Redis 타입 ID " + id + " 중복: " + previous.getName() + ", " + type.getName());
+            }
+        }
+        return types;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        Integer typeId = writeFormat == WriteFormat.BINARY ? idsByType.get(value.getClass()) : null;
+        if (typeId == null) {
+            return jsonSerializer.serialize(value);
+        }
+
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+
+        if (body.length >= compressionThreshold) {
+            byte[] compressed = new byte[compressor.maxCompressedLength(body.length)];
+            int compressedLength = compressor.compress(body, 0, body.length, compressed, 0, compressed.length);
+            if (compressedLength < body.length) {
+                return ByteBuffer.allocate(HEADER_SIZE + 4 + compressedLength)
+                        .put(MAGIC).put(VERSION_1).put(FLAG_LZ4).putShort((short) typeId.intValue())
+                        .putInt(body.length)
+                        .put(compressed, 0, compressedLength)
+                        .array();
+            }
+        }
+        return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                .put(MAGIC).put(VERSION_1).put((byte) 0).putShort((short) typeId.intValue())
+                .put(body)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION_1) {
+            throw new SerializationException("지원하지 않는 Redis 값 형식 버전: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(2);
+        byte flags = buffer.get();
+        int typeId = Short.toUnsignedInt(buffer.getShort());
+        Class<?> type = typesById.get(typeId);
+        if (type == null) {
+            throw new SerializationException("등록되지 않은 Redis 타입 ID: " + typeId);
+        }
+
+        try {
+            if ((flags & FLAG_LZ4) != 0) {
+                int originalLength = buffer.getInt();
+                byte[] body = decompressor.decompress(bytes, buffer.position(), originalLength);
+                return smileMapper.readValue(body, type);
+            }
+            return smileMapper.readValue(bytes, buffer.position(), bytes.length - buffer.position(), type);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Redis 값 역직렬화 실패: " + type.getName(), e);
+        }
+    }
+}
@@ -7,12 +7,14 @@ import com.know_who_how.main_server.global.entity.Inheritance.InheritanceVideo;
 import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.jwt.UserPrincipalChangedEvent;
 import com.know_who_how.main_server.inheritance.dto.*;
 import com.know_who_how.main_server.inheritance.repository.InheritanceRecipientRepository;
 import com.know_who_how.main_server.inheritance.repository.InheritanceRepository;
 import com.know_who_how.main_server.inheritance.repository.InheritanceVideoRepository;
 import com.know_who_how.main_server.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class InheritanceService {
     private final InheritanceVideoRepository videoRepository;
     private final InheritanceRecipientRepository recipientRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     // --- 상속 조회 및 계획 관리 ---
 
@@ -70,6 +73,7 @@ public class InheritanceService {
         // 상속 계획 등록 완료 후 User 상태 업데이트
         if (!user.isUserInheritanceRegistration()) {
             user.markInheritanceRegistered();
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
         }
 
         return savedInheritance.getInheritanceId();
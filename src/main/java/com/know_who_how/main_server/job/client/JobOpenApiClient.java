@@ -2,11 +2,17 @@ package com.know_who_how.main_server.job.client;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.config.OpenApiResilienceProperties;
+import com.know_who_how.main_server.global.config.WebClientRegistry;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.exception.RetryLaterException;
+import com.know_who_how.main_server.global.util.Bulkhead;
+import com.know_who_how.main_server.global.util.CircuitBreaker;
 import com.know_who_how.main_server.job.dto.external.ExternalApiResponse;
 import com.know_who_how.main_server.job.dto.external.ExternalJobDetailItemWrapper;
 import com.know_who_how.main_server.job.dto.external.ExternalJobListItems;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
@@ -16,25 +22,34 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 
 // Web Client를 사용해 외부 Open API를 실제로 호출하는 Client
+// 모든 호출은 동시 호출 제한(Bulkhead)과 서킷 브레이커를 거침 - 기관 서버 장애 시 응답을 기다리지 않고 즉시 503(Retry-After)
 @Slf4j
 @Component
 public class JobOpenApiClient {
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+
     private final WebClient webClient; // 비동기 HTTP 클라이언트
     private final String serviceKey; // application.yml에서 주입받는 키
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
 
-    // WebClient.Builder를 주입받아 생성자에서 초기화
+    // 공용 HTTP 클라이언트(커넥션 풀/타임아웃은 http-client.clients.job-open-api 설정)로 생성자에서 초기화
     public JobOpenApiClient(
-            WebClient.Builder webClientBuilder,
+            WebClientRegistry webClientRegistry,
             @Value("${open-api.base-url}") String baseUrl,
-            @Value("${open-api.service-key}") String serviceKey
+            @Value("${open-api.service-key}") String serviceKey,
+            OpenApiResilienceProperties resilience,
+            MeterRegistry meterRegistry
     ) {
 
         // Open API 응답으로 빈 문자열이 올 경우 null로 처리하기 위함.
@@ -64,27 +79,52 @@ public class JobOpenApiClient {
                 }).build();
 
         // webClient 인스턴스 생성
-        this.webClient = webClientBuilder.baseUrl(baseUrl).exchangeStrategies(strategies).build();
+        this.webClient = webClientRegistry.builder(WebClientRegistry.JOB_OPEN_API)
+                .baseUrl(baseUrl).exchangeStrategies(strategies).build();
         this.serviceKey = serviceKey;
+
+        // 4xx 응답(429 제외)은 기관 서버 장애가 아니므로 서킷 실패율에 넣지 않음
+        this.circuitBreaker = new CircuitBreaker("open-api", resilience.toCircuitBreakerConfig(),
+                throwable -> !(throwable instanceof CustomException customException)
+                        || !customException.getErrorCode().getStatus().is4xxClientError()
+                        || customException.getErrorCode() == ErrorCode.EXTERNAL_API_RATE_LIMIT,
+                retryAfter -> new RetryLaterException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                        (int) Math.max(1, (retryAfter.toMillis() + 999) / 1000)),
+                meterRegistry);
+        this.bulkhead = new Bulkhead("open-api", resilience.getMaxConcurrentCalls(),
+                () -> new RetryLaterException(ErrorCode.EXTERNAL_API_UNAVAILABLE, 1), meterRegistry);
+    }
+
+    // 자리가 없으면 서킷 상태와 관계없이 거절, 서킷이 열려 있으면 자리를 바로 반납
+    // 응답 시간 초과/연결 실패는 기관 서버 오류로 바꾸어 전달 (캐시가 이전 값으로 응답할 수 있도록)
+    private <T> Mono<T> guarded(String operation, Mono<T> call) {
+        return bulkhead.decorate(circuitBreaker.decorate(call
+                .onErrorMap(e -> e instanceof TimeoutException || e instanceof WebClientRequestException, e -> {
+                    log.warn("Open API '{}' 응답 없음: {}", operation, e.toString());
+                    return new CustomException(ErrorCode.EXTERNAL_API_SERVER_ERROR);
+                })));
     }
 
     /**
      * 1. 채용 공고 리스트 조회 (getJobList)
      *
-     * @param search 검색어(지역)
+     * @param search 검색어(지역), null이면 전체 목록
      */
-    public ExternalApiResponse<ExternalJobListItems> fetchJobs(String search, String empType, int page, int size) {
-        // .get()부터 .block()까지가 하나의 비동기 요청 파이프라인
-        return webClient.get()// 1. HTTP GET요청 시작
+    public Mono<ExternalApiResponse<ExternalJobListItems>> fetchJobs(String search, String empType, int page, int size) {
+        // .get()부터 .timeout()까지가 하나의 비동기 요청 파이프라인 (구독 시 실행되며 요청 스레드를 점유하지 않음)
+        return guarded("getJobList", webClient.get()// 1. HTTP GET요청 시작
                 .uri(uriBuilder -> {
                     var builder = uriBuilder //2. URL 구성
                             .path("/SenuriService/getJobList")
                             .queryParam("serviceKey", serviceKey) //2-1. 쿼리파라미터
                             .queryParam("pageNo", page)
                             .queryParam("numOfRows", size)
-                            .queryParam("search", search)
                             .queryParam("type", "json");// 응답 형식 json으로 고정
 
+                    // 검색어가 없으면 전체 목록 (색인 수집 시)
+                    if (search != null) {
+                        builder.queryParam("search", search);
+                    }
                     if (empType != null && !empType.isBlank() && !"ALL".equalsIgnoreCase(empType)) {
                         builder.queryParam("emplymShp", empType);
                     }
@@ -136,15 +176,15 @@ public class JobOpenApiClient {
                 // [재시도도 실패한 경우]
                 .doOnError(e -> log.error("Open API 'getJobList' 호출 실패", e))
 
-                // 15초간 대기 후 결과 반환
-                .block(Duration.ofSeconds(15));
+                // 재시도를 포함해 15초 안에 응답이 없으면 실패
+                .timeout(REQUEST_TIMEOUT));
     }
 
     /**
      * 2. 채용 공고 상세 조회 (getJobInfo)
      */
-    public ExternalApiResponse<ExternalJobDetailItemWrapper> fetchJobDetail(String jobId) {
-        return webClient.get()
+    public Mono<ExternalApiResponse<ExternalJobDetailItemWrapper>> fetchJobDetail(String jobId) {
+        return guarded("getJobInfo", webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/SenuriService/getJobInfo")
                         .queryParam("serviceKey", serviceKey)
@@ -186,7 +226,7 @@ public class JobOpenApiClient {
                         .filter(throwable -> throwable instanceof CustomException &&
                                 ((CustomException) throwable).getErrorCode() == ErrorCode.EXTERNAL_API_SERVER_ERROR)) // 4xx 클라이언트 오류는 재시도해도 성공할 가능성이 낮으므로, 재시도 대상에서 제외
                 .doOnError(e -> log.error("Open API 'getJobInfo' 호출 실패", e))
-                .block(Duration.ofSeconds(15));
+                .timeout(REQUEST_TIMEOUT));
     }
 
 }
\ No newline at end of file
@@ -1,21 +1,36 @@
 package com.know_who_how.main_server.job.controller;
 
+import com.know_who_how.main_server.global.cache.ResponseBytesCache;
+import com.know_who_how.main_server.global.config.ResponseCacheProperties;
 import com.know_who_how.main_server.global.dto.ApiResponse;
-import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
-import com.know_who_how.main_server.job.dto.JobListResponseDto;
+import com.know_who_how.main_server.job.service.JobDeadlines;
+import com.know_who_how.main_server.job.service.JobDetailPrefetcher;
+import com.know_who_how.main_server.job.service.JobSearchPopularity;
+import com.know_who_how.main_server.job.service.JobSearchService;
 import com.know_who_how.main_server.job.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
 
 // HTTP 요청을 받아 JobService에 전달
+// 응답은 직렬화·압축한 바이트로 캐시 (ResponseBytesCache, ETag/If-None-Match 지원)
+// 인기도/선조회 집계는 캐시 적중 시에도 필요하므로 필터가 아닌 컨트롤러에서 캐시를 거침
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/jobs")
 @Tag(name = "6. 일자리 찾기")
 public class JobController {
     private final JobService jobService;
+    private final JobSearchPopularity jobSearchPopularity;
+    private final JobSearchService jobSearchService;
+    private final JobDetailPrefetcher jobDetailPrefetcher;
+    private final ResponseBytesCache responseBytesCache;
 
     /**
      * 채용 공고 리스트 조회
@@ -23,17 +38,23 @@ public class JobController {
      */
     @Operation(
             summary = "채용 공고 리스트 조회 및 검색",
-            description = "지역(검색어), 고용 형태 필터, 페이지네이션 정보를 사용하여 채용 공고 목록을 조회합니다. 이 API는 Redis 캐싱을 통해 응답 속도를 최적화합니다."
+            description = "검색어(지역, 제목, 기업명, 직종), 고용 형태 필터, 페이지네이션 정보를 사용하여 채용 공고 목록을 마감일 순으로 조회합니다. 주기적으로 수집한 로컬 검색 색인에서 조회하며, 색인이 준비되기 전에는 Redis 캐싱을 거쳐 Open API에서 조회합니다."
     )
     @GetMapping
-    public ApiResponse<JobListResponseDto> getJobs(
+    public Mono<ResponseEntity<byte[]>> getJobs(
             @RequestParam String search,
             @RequestParam String employmentType,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader HttpHeaders headers
     ){
-        JobListResponseDto data = jobService.getJobList(search, employmentType,page, size);
-        return ApiResponse.onSuccess(data);
+        // 캐시 적중 여부와 관계없이 검색 인기도 집계 (인기 검색은 JobCacheWarmer가 만료 전에 갱신)
+        jobSearchPopularity.record(search, employmentType, page, size);
+        // 응답이 준비될 때까지 요청 스레드를 반납 (Servlet 비동기 처리)
+        return responseBytesCache.serve(ResponseCacheProperties.JOB_LIST,
+                ResponseBytesCache.key(search, employmentType, page, size, today()), headers,
+                () -> jobSearchService.search(search, employmentType, page, size)
+                        .map(ApiResponse::onSuccess));
     }
 
     /**
@@ -44,8 +65,16 @@ public class JobController {
             description = "고유 Job ID를 사용하여 상세 정보를 조회합니다. 리스트 조회 시 캐시된 '고용 형태' 및 '직종' 정보와 상세 API 응답을 조합하여 제공합니다."
     )
     @GetMapping("/{jobId}")
-    public ApiResponse<JobDetailResponseDto> getJobDetail(@PathVariable String jobId){
-        JobDetailResponseDto data = jobService.getJobDetail(jobId);
-        return ApiResponse.onSuccess(data);
+    public Mono<ResponseEntity<byte[]>> getJobDetail(@PathVariable String jobId,
+                                                     @RequestHeader HttpHeaders headers){
+        jobDetailPrefetcher.recordRequested(jobId);
+        return responseBytesCache.serve(ResponseCacheProperties.JOB_DETAIL, ResponseBytesCache.key(jobId, today()), headers,
+                () -> jobService.getJobDetail(jobId)
+                        .map(ApiResponse::onSuccess));
+    }
+
+    // 마감 상태("오늘 마감", "D-3" 등)가 날짜에 따라 바뀌므로 응답 캐시 Key에 오늘 날짜를 포함
+    private static LocalDate today() {
+        return JobDeadlines.SYSTEM.today();
     }
 }
@@ -1,25 +1,46 @@
 package com.know_who_how.main_server.job.dto;
 
+import com.know_who_how.main_server.global.cache.DeadlineBound;
+import com.know_who_how.main_server.global.cache.SoftExpiring;
+import com.know_who_how.main_server.global.util.RedisTypeId;
+import com.know_who_how.main_server.job.service.JobDeadlines;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 // 채용 공고 상세 정보 반환 DTO
+@RedisTypeId(4)
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class JobDetailResponseDto {
+public class JobDetailResponseDto implements SoftExpiring, DeadlineBound {
     private String id;
     private String title;
     private String companyName;
     private String location;
     private String employmentType;
-    private String deadlineStatus; // 오늘 마감, 접수중, 접수 마감
-    private String endDate; // 종료 접수일
+    private String deadlineStatus; // D-7, 오늘 마감, 접수 마감 (캐시에서 꺼낼 때 endDate로 다시 계산)
+    private String endDate; // 종료 접수일 (yyyy-MM-dd)
     private String jobCategory;
     private String description;
     private String applyMethod;
     private String homepageUrl;
+
+    // 캐시 갱신 판단용 (epoch ms) - TwoLevelCache가 원본 조회 직후 기록
+    private long fetchedAt; // Open API에서 가져온 시각
+    private long softExpiresAt; // 이 시각 이후 조회되면 캐시 값을 반환하면서 백그라운드로 갱신
+
+    @Override
+    public void markFetched(long fetchedAt, long softExpiresAt) {
+        this.fetchedAt = fetchedAt;
+        this.softExpiresAt = softExpiresAt;
+    }
+
+    // 캐시 보관 기한: 접수 종료일이 끝나는 시각 (상시 모집 등 날짜가 없으면 0)
+    @Override
+    public long deadlineMillis() {
+        return JobDeadlines.SYSTEM.endOfDayMillis(endDate, JobDeadlines.YYYY_MM_DD);
+    }
 }
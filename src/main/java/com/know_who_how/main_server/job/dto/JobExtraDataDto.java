@@ -9,7 +9,7 @@ import java.io.Serializable;
 
 /**
  * 상세보기 API에 없는 '고용형태', '직종' 데이터를
- * 리스트 API에서 조회하여 Redis에 캐시하기 위한 DTO
+ * 리스트 API의 공고(jobPosting 캐시)에서 꺼내 상세 응답에 조합하기 위한 DTO
  */
 @Getter
 @Builder
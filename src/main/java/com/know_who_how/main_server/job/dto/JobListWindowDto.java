@@ -0,0 +1,37 @@
+package com.know_who_how.main_server.job.dto;
+
+import com.know_who_how.main_server.global.cache.SoftExpiring;
+import com.know_who_how.main_server.global.util.RedisTypeId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 채용 공고 목록 묶음(Open API 한 페이지) 캐시 DTO
+// 공고 내용은 jobPosting 영역에 jobId별로 저장하고, 여기에는 순서대로 jobId와 전체 건수만 저장
+@RedisTypeId(9)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobListWindowDto implements SoftExpiring {
+    private int totalCount; // 검색 조건에 해당하는 전체 공고 수
+    private List<String> jobIds; // 묶음에 포함된 공고 ID (Open API 응답 순서)
+
+    // 캐시 갱신 판단용 (epoch ms) - TwoLevelCache가 원본 조회 직후 기록
+    private long fetchedAt; // Open API에서 가져온 시각
+    private long softExpiresAt; // 이 시각 이후 조회되면 캐시 값을 반환하면서 백그라운드로 갱신
+
+    public JobListWindowDto(int totalCount, List<String> jobIds) {
+        this.totalCount = totalCount;
+        this.jobIds = jobIds;
+    }
+
+    @Override
+    public void markFetched(long fetchedAt, long softExpiresAt) {
+        this.fetchedAt = fetchedAt;
+        this.softExpiresAt = softExpiresAt;
+    }
+}
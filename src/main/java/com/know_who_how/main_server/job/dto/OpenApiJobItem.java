@@ -2,14 +2,19 @@ package com.know_who_how.main_server.job.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.know_who_how.main_server.global.cache.DeadlineBound;
+import com.know_who_how.main_server.global.util.RedisTypeId;
+import com.know_who_how.main_server.job.service.JobDeadlines;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 // Open API 목록 조회 응답(item 배열)의 개별 항목 매핑 DTO
+// jobPosting 캐시 영역에 jobId별로 한 번만 저장 (목록 묶음은 jobId 목록만 보관)
+@RedisTypeId(8)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
 @NoArgsConstructor
-public class OpenApiJobItem {
+public class OpenApiJobItem implements DeadlineBound {
 
     @JsonProperty("jobId")
     private String jobId;
@@ -30,8 +35,14 @@ public class OpenApiJobItem {
     private String emplymShpNm; // 근무형태명 (정규직/계약직/시간제일자리/일당직/기타)
 
     @JsonProperty("toDd")
-    private String toDd; // 종료접수일(yyyyMMdd)
+    private String toDd; // 종료접수일(yyyy-MM-dd)
 
     @JsonProperty("jobclsNm")
     private String jobclsNm; // 직종명
-}
\ No newline at end of file
+
+    // 캐시 보관 기한: 접수 종료일이 끝나는 시각 (마감 상태는 저장하지 않고 조회 시 계산)
+    @Override
+    public long deadlineMillis() {
+        return JobDeadlines.SYSTEM.endOfDayMillis(toDd, JobDeadlines.YYYY_MM_DD);
+    }
+}
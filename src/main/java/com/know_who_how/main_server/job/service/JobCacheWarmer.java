@@ -0,0 +1,145 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.cache.SoftExpiring;
+import com.know_who_how.main_server.global.cache.TwoLevelCache;
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
+import com.know_who_how.main_server.global.config.JobCacheWarmerProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인기 채용공고 검색의 목록 캐시를 만료 전에 미리 갱신합니다.
+ * - 인기 상위 topK개 검색 중 L2에 없거나 soft 만료까지 refreshAhead보다 적게 남은 항목을 인기순으로 갱신
+ * - 한 번 실행할 때 Open API 호출은 maxUpstreamCalls회까지 (실패한 호출도 포함), 동시에 concurrency개씩
+ * - Redis 락(SET NX)을 얻은 노드 하나만 실행
+ * - 검색 색인이 준비된 동안에는 목록 요청이 묶음 캐시를 읽지 않으므로(JobSearchService) 갱신하지 않음
+ */
+@Slf4j
+@Component
+public class JobCacheWarmer {
+
+    static final String LOCK_KEY = "jobs:warmer:lock";
+
+    private final JobService jobService;
+    private final JobSearchPopularity popularity;
+    private final TwoLevelCacheManager cacheManager;
+    private final JobIndexIngester jobIndexIngester;
+    private final RedisUtil redisUtil;
+    private final JobCacheWarmerProperties properties;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final Counter refreshedCounter;
+    private final Counter failedCounter;
+    private final Counter overBudgetCounter;
+
+    public JobCacheWarmer(JobService jobService, JobSearchPopularity popularity, TwoLevelCacheManager cacheManager,
+                          JobIndexIngester jobIndexIngester, RedisUtil redisUtil, JobCacheWarmerProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.jobService = jobService;
+        this.popularity = popularity;
+        this.cacheManager = cacheManager;
+        this.jobIndexIngester = jobIndexIngester;
+        this.redisUtil = redisUtil;
+        this.properties = properties;
+        this.refreshedCounter = warmerCounter(meterRegistry, "refreshed");
+        this.failedCounter = warmerCounter(meterRegistry, "failed");
+        this.overBudgetCounter = warmerCounter(meterRegistry, "over-budget");
+    }
+
+    private static Counter warmerCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("job.cache-warmer.entries")
+                .description("사전 갱신 대상 목록 캐시 항목의 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // 스케줄러 스레드는 Open API 응답을 기다리지 않음 (갱신이 끝나면 락 해제, 락 TTL 안에 끝나지 않으면 중단)
+    @Scheduled(fixedDelayString = "${job.cache-warmer.interval-ms:120000}",
+            initialDelayString = "${job.cache-warmer.interval-ms:120000}")
+    public void warm() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // 묶음 캐시는 색인이 없을 때(적재 전, 비활성화)만 읽히는 대체 경로 - 아무도 읽지 않는 묶음에 Open API 호출을 쓰지 않음
+        if (jobIndexIngester.current() != null) {
+            log.debug("검색 색인 사용 중 - 목록 캐시 사전 갱신은 건너뜀");
+            return;
+        }
+        if (!redisUtil.saveIfAbsent(LOCK_KEY, lockOwner, properties.getLockTtl())) {
+            log.debug("다른 노드가 목록 캐시 사전 갱신 중 - 이번 실행은 건너뜀");
+            return;
+        }
+        Mono<Void> warming;
+        try {
+            warming = warmTopSearches();
+        } catch (RuntimeException e) {
+            log.warn("목록 캐시 사전 갱신 실패", e);
+            redisUtil.deleteIfValue(LOCK_KEY, lockOwner);
+            return;
+        }
+        warming.timeout(properties.getLockTtl())
+                .doFinally(signal -> redisUtil.deleteIfValue(LOCK_KEY, lockOwner))
+                .subscribe(null, e -> log.warn("목록 캐시 사전 갱신 중단", e));
+    }
+
+    Mono<Void> warmTopSearches() {
+        List<JobSearchPopularity.Query> top = popularity.decayAndGetTop(properties.getTopK());
+        if (top.isEmpty()) {
+            return Mono.empty();
+        }
+        TwoLevelCache cache = cacheManager.getCache(JobService.CACHE_JOB_LIST);
+        List<Object> cached = cache.peekAll(top.stream().map(JobSearchPopularity.Query::cacheKey).toList());
+
+        // 인기순으로 갱신이 필요한 항목 중 호출 상한까지만
+        long refreshBefore = System.currentTimeMillis() + properties.getRefreshAhead().toMillis();
+        List<JobSearchPopularity.Query> targets = new ArrayList<>();
+        for (int i = 0; i < top.size(); i++) {
+            if (!needsRefresh(cached.get(i), refreshBefore)) {
+                continue;
+            }
+            if (targets.size() >= properties.getMaxUpstreamCalls()) {
+                overBudgetCounter.increment();
+                continue;
+            }
+            targets.add(top.get(i));
+        }
+
+        return Flux.fromIterable(targets)
+                .flatMap(query -> jobService.fetchJobListWindow(query.search(), query.empType(), query.page(), query.size())
+                        .timeout(properties.getFetchTimeout())
+                        // 캐시 저장/무효화 알림은 블로킹 호출이므로 HTTP 클라이언트 스레드 밖에서
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(fresh -> {
+                            cache.put(query.cacheKey(), fresh);
+                            refreshedCounter.increment();
+                        })
+                        .onErrorResume(e -> {
+                            failedCounter.increment();
+                            log.warn("목록 캐시 사전 갱신 실패 - 이전 값을 유지합니다. key: {}", query.cacheKey(), e);
+                            return Mono.empty();
+                        }), properties.getConcurrency())
+                .count()
+                .doOnNext(refreshed -> log.info("목록 캐시 사전 갱신 - 인기 검색 {}개 중 {}개 갱신 (Open API {}회 호출)",
+                        top.size(), refreshed, targets.size()))
+                .then();
+    }
+
+    // L2에 없거나, soft 만료 시각이 refreshBefore 이전인 항목 (soft 만료가 없는 값은 건드리지 않음)
+    private static boolean needsRefresh(Object cached, long refreshBefore) {
+        if (cached == null) {
+            return true;
+        }
+        return cached instanceof SoftExpiring softExpiring && softExpiring.getSoftExpiresAt() < refreshBefore;
+    }
+}
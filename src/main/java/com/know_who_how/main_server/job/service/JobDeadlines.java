@@ -0,0 +1,70 @@
+package com.know_who_how.main_server.job.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 채용공고 마감일 계산
+ * - 날짜 형식(DateTimeFormatter)은 미리 만들어 두고 재사용
+ * - 오늘 날짜는 하루에 한 번만 계산하여 목록/상세 응답의 마감 상태(D-day)를 조회할 때마다 계산해도 부담이 없도록
+ * 캐시에는 마감일 원본만 저장하고 마감 상태는 조회 시 계산하므로, 자정이 지나도 캐시 값이 틀려지지 않습니다.
+ */
+public class JobDeadlines {
+
+    public static final DateTimeFormatter YYYY_MM_DD = DateTimeFormatter.ISO_LOCAL_DATE; // 목록 API toDd, 상세 응답 endDate
+    public static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.BASIC_ISO_DATE; // 상세 API toAcptDd
+
+    public static final JobDeadlines SYSTEM = new JobDeadlines(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Today today = new Today(LocalDate.MIN, Long.MIN_VALUE);
+
+    private record Today(LocalDate date, long nextDayStartsAt) {
+    }
+
+    JobDeadlines(Clock clock) {
+        this.clock = clock;
+    }
+
+    // 오늘 날짜 (다음 날 0시가 지나면 다시 계산)
+    public LocalDate today() {
+        Today cached = today;
+        long now = clock.millis();
+        if (now < cached.nextDayStartsAt()) {
+            return cached.date();
+        }
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(now), clock.getZone());
+        today = new Today(date, startOfDayMillis(date.plusDays(1)));
+        return date;
+    }
+
+    // 마감일까지 남은 일수 (오늘 마감이면 0, 지났으면 음수)
+    public long daysLeft(LocalDate endDate) {
+        return endDate.toEpochDay() - today().toEpochDay();
+    }
+
+    // 마감일이 끝나는 시각 (epoch ms, 마감일 다음 날 0시) - 날짜가 없거나 형식이 다르면 0
+    public long endOfDayMillis(String date, DateTimeFormatter formatter) {
+        LocalDate endDate = parse(date, formatter);
+        return endDate != null ? startOfDayMillis(endDate.plusDays(1)) : 0;
+    }
+
+    // 날짜 문자열 파싱 (비어 있거나 형식이 다르면 null)
+    public static LocalDate parse(String date, DateTimeFormatter formatter) {
+        if (date == null || date.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date, formatter);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private long startOfDayMillis(LocalDate date) {
+        return date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,161 @@
+package com.know_who_how.main_server.job.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
+import com.know_who_how.main_server.global.config.JobDetailPrefetchProperties;
+import com.know_who_how.main_server.job.dto.JobItemDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 목록 조회 직후 앞쪽 공고들의 상세 캐시(jobDetail)를 백그라운드로 미리 채웁니다.
+ * - 최근 recheckAfter 안에 확인한 공고와 이미 L2에 있는 공고는 건너뜀 (L2 확인은 한 번의 MGET)
+ *   확인한 것으로 표시하는 시점은 L2에 있음을 확인했거나 상세 조회를 실제로 시작했을 때 (busy/over-budget으로 건너뛴 공고는 다음 목록 조회에서 다시 시도)
+ * - 동시 호출은 maxConcurrent개까지, 분당 호출은 budgetPerMinute회까지 (넘으면 대기하지 않고 건너뜀)
+ * - 상세 조회는 JobService.getJobDetail(jobDetail 캐시 경유)을 그대로 호출하므로 동시 미스 합치기/부정 캐시가 그대로 적용
+ * - 미리 채운 공고가 trackUsageFor 안에 상세 조회되면 used로 집계 (prefetched 대비 used 비율로 효과 확인)
+ */
+@Slf4j
+@Component
+public class JobDetailPrefetcher {
+
+    private static final long BUDGET_WINDOW_MILLIS = 60_000;
+
+    private final JobService jobService;
+    private final TwoLevelCacheManager cacheManager;
+    private final JobDetailPrefetchProperties properties;
+    private final Semaphore permits;
+    private final Cache<String, Boolean> recentlyChecked;
+    private final Cache<String, Boolean> prefetched;
+
+    private long budgetWindowStart;
+    private int budgetUsed;
+
+    private final Counter prefetchedCounter;
+    private final Counter usedCounter;
+    private final Counter cachedCounter;
+    private final Counter busyCounter;
+    private final Counter overBudgetCounter;
+    private final Counter failedCounter;
+
+    public JobDetailPrefetcher(JobService jobService, TwoLevelCacheManager cacheManager,
+                               JobDetailPrefetchProperties properties, MeterRegistry meterRegistry) {
+        this.jobService = jobService;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+        this.recentlyChecked = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getRecheckAfter())
+                .maximumSize(10_000)
+                .build();
+        this.prefetched = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTrackUsageFor())
+                .maximumSize(10_000)
+                .build();
+        this.prefetchedCounter = prefetchCounter(meterRegistry, "prefetched");
+        this.usedCounter = prefetchCounter(meterRegistry, "used");
+        this.cachedCounter = prefetchCounter(meterRegistry, "already-cached");
+        this.busyCounter = prefetchCounter(meterRegistry, "busy");
+        this.overBudgetCounter = prefetchCounter(meterRegistry, "over-budget");
+        this.failedCounter = prefetchCounter(meterRegistry, "failed");
+    }
+
+    private static Counter prefetchCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("job.detail-prefetch.entries")
+                .description("상세 캐시 미리 채우기 대상 공고의 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // 목록 응답 직후 호출 (요청 스레드에서는 후보만 고르고 바로 반환)
+    public void prefetch(List<JobItemDto> jobs) {
+        if (!properties.isEnabled() || jobs == null || jobs.isEmpty()) {
+            return;
+        }
+        List<String> candidates = jobs.stream()
+                .limit(properties.getTopN())
+                .map(JobItemDto::getId)
+                .filter(Objects::nonNull)
+                .filter(jobId -> recentlyChecked.getIfPresent(jobId) == null)
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        // L2 확인은 블로킹 호출이므로 요청 스레드 밖에서
+        Mono.fromCallable(() -> cacheManager.getCache(JobService.CACHE_JOB_DETAIL).peekAll(candidates))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(cached -> Flux.range(0, candidates.size())
+                        .filter(i -> {
+                            if (cached.get(i) == null) {
+                                return true;
+                            }
+                            recentlyChecked.put(candidates.get(i), Boolean.TRUE);
+                            cachedCounter.increment();
+                            return false;
+                        })
+                        .map(candidates::get))
+                .flatMap(this::prefetchOne)
+                .subscribe(null, e -> log.warn("상세 캐시 미리 채우기 실패 - jobIds: {}", candidates, e));
+    }
+
+    private Mono<Void> prefetchOne(String jobId) {
+        if (!permits.tryAcquire()) {
+            busyCounter.increment();
+            return Mono.empty();
+        }
+        // 다른 목록 조회가 먼저 시작한 공고는 건너뜀
+        if (recentlyChecked.asMap().putIfAbsent(jobId, Boolean.TRUE) != null) {
+            permits.release();
+            return Mono.empty();
+        }
+        if (!tryConsumeBudget()) {
+            recentlyChecked.invalidate(jobId);
+            permits.release();
+            overBudgetCounter.increment();
+            return Mono.empty();
+        }
+        return Mono.defer(() -> jobService.getJobDetail(jobId))
+                .doOnNext(detail -> {
+                    prefetched.put(jobId, Boolean.TRUE);
+                    prefetchedCounter.increment();
+                })
+                .onErrorResume(e -> {
+                    failedCounter.increment();
+                    log.debug("상세 캐시 미리 채우기 실패 - jobId: {}", jobId, e);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> permits.release())
+                .then();
+    }
+
+    // 상세 조회 요청마다 호출 - 미리 채운 공고면 사용된 것으로 한 번만 집계
+    public void recordRequested(String jobId) {
+        if (prefetched.asMap().remove(jobId) != null) {
+            usedCounter.increment();
+        }
+    }
+
+    // 분 단위 고정 구간으로 호출 수 제한
+    private synchronized boolean tryConsumeBudget() {
+        long now = System.currentTimeMillis();
+        if (now - budgetWindowStart >= BUDGET_WINDOW_MILLIS) {
+            budgetWindowStart = now;
+            budgetUsed = 0;
+        }
+        if (budgetUsed >= properties.getBudgetPerMinute()) {
+            return false;
+        }
+        budgetUsed++;
+        return true;
+    }
+}
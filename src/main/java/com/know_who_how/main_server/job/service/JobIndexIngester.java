@@ -0,0 +1,183 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.config.JobIndexProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.job.client.JobOpenApiClient;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import com.know_who_how.main_server.job.dto.external.ExternalApiResponse;
+import com.know_who_how.main_server.job.dto.external.ExternalJobListItems;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Open API 채용공고 전체 목록을 주기적으로 수집하여 로컬 검색 색인(JobSearchIndex)을 만듭니다.
+ * - Redis 락(SET NX)을 얻은 노드 하나만 수집하고, 색인 원본(JobIndexSnapshot)과 생성 시각을 Redis에 저장
+ * - 모든 노드는 생성 시각이 바뀌면 원본을 읽어 색인을 새로 만든 뒤 한 번에 교체 (검색 중인 요청은 이전 색인을 계속 사용)
+ * - 기동 시 Redis의 원본으로 바로 색인을 만들고, 원본이 없을 때만 수집
+ * - 수집 중 한 페이지라도 실패하면 이번 수집은 버리고 이전 색인을 유지
+ */
+@Slf4j
+@Component
+public class JobIndexIngester {
+
+    static final String SNAPSHOT_KEY = "jobs:index:snapshot";
+    static final String BUILT_AT_KEY = "jobs:index:built-at";
+    static final String LOCK_KEY = "jobs:index:lock";
+
+    private final JobOpenApiClient apiClient;
+    private final RedisUtil redisUtil;
+    private final JobIndexProperties properties;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final Counter ingestSuccesses;
+    private final Counter ingestFailures;
+
+    private volatile JobSearchIndex current;
+
+    public JobIndexIngester(JobOpenApiClient apiClient, RedisUtil redisUtil, JobIndexProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.apiClient = apiClient;
+        this.redisUtil = redisUtil;
+        this.properties = properties;
+        this.ingestSuccesses = ingestCounter(meterRegistry, "success");
+        this.ingestFailures = ingestCounter(meterRegistry, "failure");
+        Gauge.builder("job.index.size", this, ingester -> ingester.current != null ? ingester.current.size() : 0)
+                .description("로컬 검색 색인의 공고 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter ingestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("job.index.ingests")
+                .description("채용공고 전체 목록 수집 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색에 사용할 현재 색인 (아직 없거나 색인을 끈 경우 null)
+     */
+    public JobSearchIndex current() {
+        return properties.isEnabled() ? current : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!reloadIfChanged()) {
+                ingest();
+            }
+        } catch (RuntimeException e) {
+            log.warn("채용공고 검색 색인 초기화 실패 - 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    // 다른 노드가 새로 만든 색인 반영
+    @Scheduled(fixedDelayString = "${job.index.reload-interval-ms:60000}",
+            initialDelayString = "${job.index.reload-interval-ms:60000}")
+    public void reload() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            reloadIfChanged();
+        } catch (RuntimeException e) {
+            log.warn("채용공고 검색 색인 갱신 확인 실패", e);
+        }
+    }
+
+    // Redis의 원본이 현재 색인보다 새로우면 색인을 다시 만들어 교체 (원본이 있으면 true)
+    boolean reloadIfChanged() {
+        Object builtAt = redisUtil.get(BUILT_AT_KEY);
+        if (!(builtAt instanceof Number version)) {
+            return false;
+        }
+        if (current != null && current.getBuiltAt() >= version.longValue()) {
+            return true;
+        }
+        if (!(redisUtil.get(SNAPSHOT_KEY) instanceof JobIndexSnapshot snapshot)) {
+            return false;
+        }
+        swap(JobSearchIndex.build(snapshot.builtAt(), snapshot.items()));
+        return true;
+    }
+
+    // 스케줄러 스레드는 Open API 응답을 기다리지 않음 (수집이 끝나면 락 해제)
+    @Scheduled(fixedDelayString = "${job.index.ingest-interval-ms:1800000}",
+            initialDelayString = "${job.index.ingest-interval-ms:1800000}")
+    public void ingest() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!redisUtil.saveIfAbsent(LOCK_KEY, lockOwner, properties.getLockTtl())) {
+            log.debug("다른 노드가 채용공고 목록 수집 중 - 이번 실행은 건너뜀");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        fetchAll()
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(items -> publish(startedAt, items))
+                .timeout(properties.getLockTtl())
+                .doFinally(signal -> redisUtil.deleteIfValue(LOCK_KEY, lockOwner))
+                .subscribe(null, e -> {
+                    ingestFailures.increment();
+                    log.warn("채용공고 목록 수집 실패 - 이전 색인을 유지합니다.", e);
+                });
+    }
+
+    // 첫 페이지의 totalCount로 페이지 수를 정한 뒤 나머지 페이지를 차례로 수집 (Open API에 부담을 주지 않도록 순차)
+    Mono<List<OpenApiJobItem>> fetchAll() {
+        int pageSize = properties.getPageSize();
+        return fetchPage(1).flatMap(first -> {
+            int pages = Math.min((int) Math.ceil((double) first.getTotalCount() / pageSize), properties.getMaxPages());
+            if (first.getTotalCount() > (long) pageSize * properties.getMaxPages()) {
+                log.warn("채용공고 {}건 중 최대 {}페이지까지만 수집합니다.", first.getTotalCount(), properties.getMaxPages());
+            }
+            return Flux.range(2, Math.max(pages - 1, 0))
+                    .concatMap(this::fetchPage)
+                    .startWith(first)
+                    .collectList();
+        }).map(pages -> {
+            List<OpenApiJobItem> items = new ArrayList<>();
+            pages.forEach(page -> items.addAll(page.getItem()));
+            return items;
+        });
+    }
+
+    private Mono<ExternalJobListItems> fetchPage(int page) {
+        return apiClient.fetchJobs(null, null, page, properties.getPageSize())
+                .timeout(properties.getFetchTimeout())
+                .mapNotNull(ExternalApiResponse::getBody)
+                .filter(body -> body.getItem() != null)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("채용공고 목록 " + page + "페이지 응답이 비어 있습니다.")));
+    }
+
+    private void publish(long builtAt, List<OpenApiJobItem> items) {
+        JobSearchIndex index = JobSearchIndex.build(builtAt, items);
+        // 원본을 먼저 저장해야 다른 노드가 새 생성 시각을 보고 읽을 때 원본이 있음
+        redisUtil.save(SNAPSHOT_KEY, new JobIndexSnapshot(builtAt, index.items()), properties.getSnapshotTtl());
+        redisUtil.save(BUILT_AT_KEY, builtAt, properties.getSnapshotTtl());
+        swap(index);
+        ingestSuccesses.increment();
+    }
+
+    private void swap(JobSearchIndex index) {
+        current = index;
+        log.info("채용공고 검색 색인 교체 - 공고 {}건, 생성 시각 {}", index.size(), index.getBuiltAt());
+    }
+}
@@ -0,0 +1,13 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.util.RedisTypeId;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+
+import java.util.List;
+
+/**
+ * 검색 색인의 원본 공고 목록 - Redis에 저장해두고 재기동/다른 노드에서 Open API 수집 없이 색인을 다시 만듦
+ */
+@RedisTypeId(7)
+public record JobIndexSnapshot(long builtAt, List<OpenApiJobItem> items) {
+}
@@ -0,0 +1,194 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import com.know_who_how.main_server.job.type.EmploymentType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 채용공고 목록 전체로 만든 읽기 전용 검색 색인입니다. 만든 뒤에는 바뀌지 않으므로 여러 요청이 잠금 없이 공유합니다.
+ * - 공고는 마감일 순으로 번호를 매김 (접수중 → 마감일 없음 → 마감, 같은 순서면 jobId 순) - 결과 순서와 페이지가 항상 같음
+ * - 제목/기업명/근무지/직종의 단어마다 앞부분(최대 MAX_PREFIX자)을 Key로 공고 번호 목록을 저장
+ *   (검색어의 각 단어로 시작하는 단어가 있는 공고의 교집합, ex. "대전 중구" → "대전광역시 중구" 포함)
+ * - 고용형태는 EmploymentType별 공고 번호 목록으로 필터
+ */
+public final class JobSearchIndex {
+
+    private static final int MAX_PREFIX = 12;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<OpenApiJobItem> DEADLINE_ORDER = Comparator
+            .comparingInt(JobSearchIndex::deadlineGroup)
+            .thenComparing(item -> normalizeDate(item.getToDd()))
+            .thenComparing(item -> item.getJobId() != null ? item.getJobId() : "");
+
+    private final long builtAt;
+    private final OpenApiJobItem[] items;
+    private final Map<String, int[]> postings;
+    private final Map<EmploymentType, int[]> byEmploymentType;
+    private final Map<String, Integer> byJobId;
+
+    public record Result(int totalCount, List<OpenApiJobItem> items) {
+    }
+
+    private JobSearchIndex(long builtAt, OpenApiJobItem[] items, Map<String, int[]> postings,
+                           Map<EmploymentType, int[]> byEmploymentType, Map<String, Integer> byJobId) {
+        this.builtAt = builtAt;
+        this.items = items;
+        this.postings = postings;
+        this.byEmploymentType = byEmploymentType;
+        this.byJobId = byJobId;
+    }
+
+    public static JobSearchIndex build(long builtAt, List<OpenApiJobItem> source) {
+        // 같은 공고가 여러 페이지에 걸쳐 오면 마지막 것을 사용
+        Map<String, OpenApiJobItem> unique = new LinkedHashMap<>();
+        source.stream().filter(item -> item.getJobId() != null).forEach(item -> unique.put(item.getJobId(), item));
+        OpenApiJobItem[] items = unique.values().toArray(OpenApiJobItem[]::new);
+        Arrays.sort(items, DEADLINE_ORDER);
+
+        Map<String, IntList> postings = new HashMap<>();
+        Map<EmploymentType, IntList> byEmploymentType = new EnumMap<>(EmploymentType.class);
+        Map<String, Integer> byJobId = new HashMap<>(items.length * 2);
+        for (int doc = 0; doc < items.length; doc++) {
+            OpenApiJobItem item = items[doc];
+            byJobId.put(item.getJobId(), doc);
+            byEmploymentType.computeIfAbsent(EmploymentType.fromCode(item.getEmplymShpNm()), type -> new IntList())
+                    .add(doc);
+            for (String field : new String[]{item.getRecrtTitle(), item.getOranNm(), item.getWorkPlcNm(), item.getJobclsNm()}) {
+                for (String token : tokenize(field)) {
+                    for (int length = 1; length <= Math.min(token.length(), MAX_PREFIX); length++) {
+                        postings.computeIfAbsent(token.substring(0, length), prefix -> new IntList()).add(doc);
+                    }
+                }
+            }
+        }
+
+        Map<String, int[]> frozenPostings = new HashMap<>(postings.size() * 2);
+        postings.forEach((prefix, docs) -> frozenPostings.put(prefix, docs.toArray()));
+        Map<EmploymentType, int[]> frozenTypes = new EnumMap<>(EmploymentType.class);
+        byEmploymentType.forEach((type, docs) -> frozenTypes.put(type, docs.toArray()));
+        return new JobSearchIndex(builtAt, items, frozenPostings, frozenTypes, byJobId);
+    }
+
+    /**
+     * @param search  검색어 (비어 있으면 전체)
+     * @param empType 고용형태 코드 (null 또는 "ALL"이면 전체)
+     * @param page    1부터 시작하는 페이지 번호
+     */
+    public Result search(String search, String empType, int page, int size) {
+        List<int[]> filters = new ArrayList<>();
+        for (String token : tokenize(search)) {
+            int[] docs = postings.get(token.length() > MAX_PREFIX ? token.substring(0, MAX_PREFIX) : token);
+            if (docs == null) {
+                return new Result(0, List.of());
+            }
+            filters.add(docs);
+        }
+        if (empType != null && !"ALL".equalsIgnoreCase(empType)) {
+            filters.add(byEmploymentType.getOrDefault(EmploymentType.fromCode(empType), new int[0]));
+        }
+
+        int[] matched = filters.isEmpty() ? null : intersect(filters);
+        int totalCount = matched != null ? matched.length : items.length;
+        int from = (int) Math.min((long) Math.max(page - 1, 0) * size, totalCount);
+        int to = Math.min(from + size, totalCount);
+        List<OpenApiJobItem> pageItems = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageItems.add(items[matched != null ? matched[i] : i]);
+        }
+        return new Result(totalCount, pageItems);
+    }
+
+    public OpenApiJobItem findById(String jobId) {
+        Integer doc = byJobId.get(jobId);
+        return doc != null ? items[doc] : null;
+    }
+
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public List<OpenApiJobItem> items() {
+        return List.of(items);
+    }
+
+    // 정렬된 번호 목록들의 교집합 (짧은 목록부터)
+    private static int[] intersect(List<int[]> lists) {
+        lists.sort(Comparator.comparingInt(docs -> docs.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            int[] other = lists.get(i);
+            int[] merged = new int[result.length];
+            int count = 0;
+            for (int a = 0, b = 0; a < result.length && b < other.length; ) {
+                if (result[a] == other[b]) {
+                    merged[count++] = result[a];
+                    a++;
+                    b++;
+                } else if (result[a] < other[b]) {
+                    a++;
+                } else {
+                    b++;
+                }
+            }
+            result = Arrays.copyOf(merged, count);
+        }
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static int deadlineGroup(OpenApiJobItem item) {
+        String deadline = item.getDeadline();
+        if (deadline != null && (deadline.contains("마감") || deadline.contains("종료"))) {
+            return 2;
+        }
+        return item.getToDd() == null || item.getToDd().isBlank() ? 1 : 0;
+    }
+
+    // yyyy-MM-dd, yyyyMMdd 모두 yyyyMMdd로 (문자열 순서 = 날짜 순서)
+    private static String normalizeDate(String date) {
+        return date != null ? date.replace("-", "") : "";
+    }
+
+    // 공고 번호 목록 (번호는 증가하는 순서로만 추가되므로 직전 값과 같으면 생략)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.config.JobCacheWarmerProperties;
+import com.know_who_how.main_server.global.config.JobListProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채용공고 목록 검색의 인기도를 집계합니다.
+ * - 요청마다 노드 메모리의 Space-Saving 스케치(최대 sketchCapacity개 Key)에 세고, 주기적으로 Redis Sorted Set에 합산
+ *   (요청마다 Redis에 쓰지 않음, 스케치가 가득 차면 가장 적게 센 Key를 새 Key로 교체하여 자주 나오는 Key는 남음)
+ *   횟수 순으로 정렬된 집합을 함께 유지하여 셀 때마다 O(log sketchCapacity) (가장 적게 센 Key를 찾으려고 전체를 훑지 않음)
+ * - 멤버는 클라이언트 페이지가 걸치는 목록 묶음의 jobList 캐시 Key(JobService.listCacheKey)이므로 사전 갱신 시 그대로 캐시 조회에 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchPopularity {
+
+    static final String POPULARITY_KEY = "jobs:popular";
+    private static final Pattern CACHE_KEY_PATTERN = Pattern.compile("^search:(.*):emp:([^:]*):p:(\\d+):s:(\\d+)$");
+
+    private final RedisUtil redisUtil;
+    private final JobCacheWarmerProperties properties;
+    private final JobListProperties listProperties;
+
+    // 이번 주기 동안 센 횟수
+    private Sketch sketch = new Sketch();
+
+    public record Query(String search, String empType, int page, int size) {
+
+        // listCacheKey 형식에서 검색 조건을 복원 (형식이 다르면 null)
+        static Query fromCacheKey(String cacheKey) {
+            Matcher matcher = CACHE_KEY_PATTERN.matcher(cacheKey);
+            if (!matcher.matches()) {
+                return null;
+            }
+            String empType = "null".equals(matcher.group(2)) ? null : matcher.group(2);
+            return new Query(matcher.group(1), empType,
+                    Integer.parseInt(matcher.group(3)), Integer.parseInt(matcher.group(4)));
+        }
+
+        String cacheKey() {
+            return JobService.listCacheKey(search, empType, page, size);
+        }
+    }
+
+    // 클라이언트 페이지가 걸치는 묶음마다 셈 (같은 묶음을 읽는 여러 페이지의 인기도가 합쳐짐)
+    public synchronized void record(String search, String empType, int page, int size) {
+        if (page < 1 || size < 1) {
+            return;
+        }
+        int windowSize = listProperties.getWindowSize();
+        int lastWindow = Math.min(JobService.lastWindowPage(page, size, windowSize),
+                JobService.firstWindowPage(page, size, windowSize) + listProperties.getMaxWindowsPerRequest() - 1);
+        for (int window = JobService.firstWindowPage(page, size, windowSize); window <= lastWindow; window++) {
+            sketch.count(JobService.listCacheKey(search, empType, window, windowSize), properties.getSketchCapacity());
+        }
+    }
+
+    // 이번 주기의 집계를 Redis에 합산 (실패하면 이번 주기 집계는 버림)
+    @Scheduled(fixedDelayString = "${job.cache-warmer.flush-interval-ms:30000}")
+    public void flush() {
+        Sketch flushing;
+        synchronized (this) {
+            if (sketch.counters.isEmpty()) {
+                return;
+            }
+            flushing = sketch;
+            sketch = new Sketch();
+        }
+        Map<String, Double> increments = new HashMap<>();
+        flushing.counters.forEach((key, counter) -> increments.put(key, (double) counter.count));
+        try {
+            redisUtil.incrementScores(POPULARITY_KEY, increments);
+        } catch (RuntimeException e) {
+            log.warn("검색 인기도 집계 반영 실패 - {}개 Key", increments.size(), e);
+        }
+    }
+
+    // 기존 인기도를 감쇠시킨 뒤 상위 topK개 검색 조건을 인기순으로 반환 (한 노드에서만 호출)
+    public List<Query> decayAndGetTop(int topK) {
+        redisUtil.decayScores(POPULARITY_KEY, properties.getDecayFactor(), properties.getMaxTracked());
+        return redisUtil.topByScore(POPULARITY_KEY, topK).stream()
+                .map(member -> Query.fromCacheKey(member.toString()))
+                .filter(query -> query != null)
+                .toList();
+    }
+
+    // Space-Saving 스케치: Key별 카운터와, 같은 카운터를 (횟수, 생성 순서)로 정렬한 집합
+    private static final class Sketch {
+
+        private final Map<String, Counter> counters = new HashMap<>();
+        private final TreeSet<Counter> byCount = new TreeSet<>(
+                Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.seq));
+        private long nextSeq;
+
+        void count(String key, int capacity) {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                // 정렬 기준이 바뀌므로 빼고 다시 넣음
+                byCount.remove(counter);
+                counter.count++;
+                byCount.add(counter);
+                return;
+            }
+            long count = 1;
+            if (counters.size() >= capacity) {
+                // 가장 적게 센 Key를 내보내고 그 횟수를 이어받음 (실제 횟수보다 크게 셀 수는 있어도 작게 세지는 않음)
+                Counter min = byCount.pollFirst();
+                counters.remove(min.key);
+                count = min.count + 1;
+            }
+            Counter added = new Counter(key, count, nextSeq++);
+            counters.put(key, added);
+            byCount.add(added);
+        }
+    }
+
+    private static final class Counter {
+
+        private final String key;
+        private final long seq;
+        private long count;
+
+        Counter(String key, long count, long seq) {
+            this.key = key;
+            this.count = count;
+            this.seq = seq;
+        }
+    }
+}
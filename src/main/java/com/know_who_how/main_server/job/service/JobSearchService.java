@@ -0,0 +1,32 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.job.dto.JobListResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+// 채용공고 목록 검색 - 로컬 검색 색인이 준비되어 있으면 색인에서, 아니면 Open API(목록 캐시 경유)에서 조회
+@Service
+@RequiredArgsConstructor
+public class JobSearchService {
+
+    private final JobService jobService;
+    private final JobIndexIngester jobIndexIngester;
+    private final JobDetailPrefetcher jobDetailPrefetcher;
+
+    // 목록을 받은 사용자는 대개 앞쪽 공고를 열어보므로 그 상세 캐시를 미리 채움
+    public Mono<JobListResponseDto> search(String search, String empType, int page, int size) {
+        return searchPage(search, empType, page, size)
+                .doOnNext(result -> jobDetailPrefetcher.prefetch(result.getJobs()));
+    }
+
+    private Mono<JobListResponseDto> searchPage(String search, String empType, int page, int size) {
+        JobSearchIndex index = jobIndexIngester.current();
+        if (index == null) {
+            return jobService.getJobList(search, empType, page, size);
+        }
+        // 색인 검색은 메모리 안에서 끝나므로 요청 스레드에서 바로 처리
+        JobSearchIndex.Result result = index.search(search, empType, page, size);
+        return Mono.just(jobService.toJobListDto(result.items(), result.totalCount(), page, size));
+    }
+}
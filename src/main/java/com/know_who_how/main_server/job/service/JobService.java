@@ -1,25 +1,27 @@
 package com.know_who_how.main_server.job.service;
 
+import com.know_who_how.main_server.global.config.JobListProperties;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
-import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
 import com.know_who_how.main_server.job.client.JobOpenApiClient;
 import com.know_who_how.main_server.job.dto.*;
 import com.know_who_how.main_server.job.dto.external.ExternalApiResponse;
 import com.know_who_how.main_server.job.dto.external.ExternalJobDetailItemWrapper;
-import com.know_who_how.main_server.job.dto.external.ExternalJobListItems;
 import com.know_who_how.main_server.job.type.ApplyMethod;
 import com.know_who_how.main_server.job.type.EmploymentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
-import java.util.Collections;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -30,149 +32,224 @@ import java.util.stream.Collectors;
 public class JobService {
 
     private final JobOpenApiClient apiClient;
-    private final RedisUtil redisUtil;
-
-    // Redis 키 접두사
-    private static final String KEY_JOB_LIST = "jobs:list:"; // 목록 페이지 전체 캐시
-        // ex. jobs:list:search:서울:emp:CM0101:p:1:s:10
-    private static final String KEY_JOB_DETAIL = "job:detail:"; // 상세 페이지 전체 캐시
-        // ex. job:detail:{jobId}
-    private static final String KEY_JOB_EXTRA = "job:extra:"; // 고용형태, 직종 캐시용
-        // ex. job:extra:{jobId}
-        // getJobList(목록 조회)가 캐시해두면 getJobDetail(상세 조회)에서 사용
-
-
-    // 1. 채용공고 리스트 조회
-    public JobListResponseDto getJobList(String search, String empType, int page, int size) {
-        if("ALL".equalsIgnoreCase(empType)) {
-            empType = null;
+    private final TwoLevelCacheManager cacheManager;
+    private final JobIndexIngester jobIndexIngester;
+    private final JobListProperties listProperties;
+    private final JobDeadlines deadlines = JobDeadlines.SYSTEM;
+
+    // 캐시 영역 (TTL/크기는 cache.regions.* 설정, Redis Key 접두사도 영역 설정에 있음)
+    public static final String CACHE_JOB_LIST = "jobList"; // 목록 묶음(Open API 한 페이지, windowSize개)의 jobId 목록 캐시 (ex. jobs:window:search:서울:emp:CM0101:p:1:s:100)
+    public static final String CACHE_JOB_DETAIL = "jobDetail"; // 상세 페이지 전체 캐시, 마감 상태는 조회 시 endDate로 다시 계산 (ex. job:detail:{jobId})
+    // 목록 API의 공고 항목 캐시 (ex. job:posting:{jobId}), 공고당 한 번만 저장
+    // 여러 검색/페이지 크기의 묶음이 같은 공고를 공유하고, getJobDetail(상세 조회)의 '고용형태', '직종'도 여기서 가져옴
+    public static final String CACHE_JOB_POSTING = "jobPosting";
+
+
+    // 1. 채용공고 리스트 조회 (검색 색인이 없을 때의 대체 경로 - 색인이 준비되면 JobSearchService가 색인에서 조회)
+    // Open API는 windowSize개 묶음(window) 단위로 조회하여 jobList 영역에 캐시하고, 클라이언트 페이지는 묶음을 잘라서 응답
+    // (ex. windowSize 100이면 size 10의 1~10페이지는 Open API 호출 한 번, 갱신/만료도 묶음 단위)
+    // 묶음에는 jobId 목록만 있으므로, 잘라낸 jobId의 공고 내용은 jobPosting 영역에서 한 번의 MGET으로 가져와 조합
+    // Mono를 반환하므로 캐시 조회/외부 API 호출 동안 요청 스레드를 점유하지 않음 (TwoLevelCache.retrieve 경로)
+    public Mono<JobListResponseDto> getJobList(String search, String empType, int page, int size) {
+        int windowSize = listProperties.getWindowSize();
+        if (page < 1 || size < 1) {
+            return Mono.error(new CustomException(ErrorCode.INVALID_PARAMETER));
         }
-        String cacheKey = String.format("%ssearch:%s:emp:%s:p:%d:s:%d",
-                KEY_JOB_LIST, search, empType, page, size);
-
-        // 1. 캐시 확인 (유지)
-        JobListResponseDto cachedData = (JobListResponseDto) redisUtil.get(cacheKey);
-        if (cachedData != null) {
-            // 캐시된 값이 있으면 Open API 호출 없이 해당 값으로 반환
-            log.info("[Cache HIT] Key: {}", cacheKey);
-            return cachedData;
+        int firstWindow = firstWindowPage(page, size, windowSize);
+        int windows = lastWindowPage(page, size, windowSize) - firstWindow + 1;
+        if (windows > listProperties.getMaxWindowsPerRequest()) {
+            return Mono.error(new CustomException(ErrorCode.INVALID_PARAMETER));
         }
+        // 페이지가 두 묶음에 걸치면 두 묶음을 동시에 조회하고 순서대로 이어 붙임
+        return Flux.range(firstWindow, windows)
+                .flatMapSequential(windowPage -> getJobListWindow(search, empType, windowPage, windowSize))
+                .collectList()
+                .flatMap(fetched -> {
+                    int totalCount = fetched.get(0).getTotalCount();
+                    return getPostings(sliceWindows(fetched, firstWindow, windowSize, page, size))
+                            .map(items -> toJobListDto(items, totalCount, page, size));
+                });
+    }
 
-        log.info("[Cache MISS] Key: {}", cacheKey);
-
-        // 2. Open API 호출
-        ExternalApiResponse<ExternalJobListItems> openApiDataWrapper = apiClient.fetchJobs(search, empType, page, size);
-
-        // openApiDataWrapper에서 body만 꺼내서 openApiData에 담기.
-        // (openApiDataWrappper == null이면 NullPointerException 나는걸 방지)
-        ExternalJobListItems openApiData = (openApiDataWrapper != null) ? openApiDataWrapper.getBody() : null;
-
-
-        if (openApiData == null || openApiData.getItem() == null) {
-            log.warn("Open API 'getJobList' 응답이 비어있거나 'item' 리스트가 null입니다.");
-            // 빈 응답 객체 반환
-            return new JobListResponseDto(
-                    PaginationDto.builder().totalCount(0).currentPage(page).itemsPerPage(size).totalPages(0).build(),
-                    Collections.emptyList()
-            );
-        }
-
-        // 실제 리스트 가져오기
-        List<OpenApiJobItem> items = openApiData.getItem(); // 위에서 null 체크 했으므로 바로 사용
-
-        // 3. 상세보기를 위한 '고용형태', '직종' 정보 캐싱
-        cacheExtraJobData(items);
+    // 묶음 하나 조회 (캐시 미스일 때만 Open API 호출, 같은 Key의 동시 미스는 노드당 한 번만 실행)
+    private Mono<JobListWindowDto> getJobListWindow(String search, String empType, int windowPage, int windowSize) {
+        String key = listCacheKey(search, empType, windowPage, windowSize);
+        return Mono.fromFuture(() -> cacheManager.getCache(CACHE_JOB_LIST).retrieve(key, () -> {
+            log.info("[Cache MISS] Key: {}", key);
+            return fetchJobListWindow(search, empType, windowPage, windowSize).toFuture();
+        }))
+                // 응답 body/item이 비어 있던 경우(일시적 오류)는 캐시하지 않고 이번 요청만 빈 목록으로 응답
+                // (빈 묶음이 캐시되면 모든 사용자에게 빈 페이지가 보이고 마지막으로 저장한 정상 묶음도 덮어씀)
+                .onErrorResume(JobService::isEmptyResponse, e -> Mono.just(new JobListWindowDto(0, List.of())));
+    }
 
-        // 4. 클라이언트 응답 DTO로 매핑
-        JobListResponseDto responseDto = mapToJobListDto(openApiData, items, page, size);
+    private static boolean isEmptyResponse(Throwable e) {
+        return e instanceof CustomException customException
+                && customException.getErrorCode() == ErrorCode.EXTERNAL_API_EMPTY_RESPONSE;
+    }
 
-        // 5. 리스트 결과 캐시 저장 (10분) - 최신성이 중요하고 자주 바뀌기 때문에
-        redisUtil.save(cacheKey, responseDto, Duration.ofMinutes(10));
+    // 클라이언트 페이지가 걸치는 첫/마지막 묶음 번호 (Open API 페이지 번호, 1부터)
+    public static int firstWindowPage(int page, int size, int windowSize) {
+        return (int) ((long) (page - 1) * size / windowSize) + 1;
+    }
 
-        return responseDto;
+    public static int lastWindowPage(int page, int size, int windowSize) {
+        return (int) (((long) page * size - 1) / windowSize) + 1;
     }
 
+    // 이어 붙인 묶음에서 클라이언트 페이지 부분의 jobId만 잘라냄 (캐시된 묶음은 여러 요청이 공유하므로 수정하지 않음)
+    List<String> sliceWindows(List<JobListWindowDto> windows, int firstWindow, int windowSize, int page, int size) {
+        List<String> jobIds = new ArrayList<>();
+        windows.forEach(window -> jobIds.addAll(window.getJobIds()));
+        long offset = (long) (page - 1) * size - (long) (firstWindow - 1) * windowSize;
+        int from = (int) Math.min(offset, jobIds.size());
+        int to = Math.min(from + size, jobIds.size());
+        return List.copyOf(jobIds.subList(from, to));
+    }
 
-    // 2. 채용 공고 상세 조회
-    public JobDetailResponseDto getJobDetail(String jobId) {
-        String cacheKey = KEY_JOB_DETAIL + jobId;
-
-        // 1. 상세보기 캐시 확인
-        JobDetailResponseDto cachedData = (JobDetailResponseDto) redisUtil.get(cacheKey);
-        if (cachedData != null) {
-            log.info("[Cache HIT] Key: {}", cacheKey);
-            return cachedData;
+    // jobId 순서대로 공고 조회 (L1에 없는 공고만 한 번의 MGET으로 L2에서 조회)
+    // 캐시에 없는 공고(메모리 부족으로 제거된 경우 등)는 검색 색인에서, 색인에도 없으면 목록에서 제외
+    private Mono<List<OpenApiJobItem>> getPostings(List<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Mono.just(List.of());
         }
+        return Mono.fromFuture(() -> cacheManager.getCache(CACHE_JOB_POSTING).retrieveAll(jobIds))
+                .map(cached -> {
+                    List<OpenApiJobItem> items = new ArrayList<>(jobIds.size());
+                    for (int i = 0; i < jobIds.size(); i++) {
+                        OpenApiJobItem item = cached.get(i) instanceof OpenApiJobItem posting
+                                ? posting
+                                : postingFromIndex(jobIds.get(i));
+                        if (item != null) {
+                            items.add(item);
+                        } else {
+                            log.warn("[Cache MISS] 'job:posting' 데이터 없음 - 목록에서 제외. Key: {}", jobIds.get(i));
+                        }
+                    }
+                    return items;
+                });
+    }
 
-        log.info("[Cache MISS] Key: {}", cacheKey);
+    // 캐시를 거치지 않고 Open API에서 목록 묶음을 가져옴 (묶음 캐시 미스, JobCacheWarmer의 사전 갱신에서 사용)
+    // 공고 내용은 jobPosting 영역에 저장하고, jobId 목록과 전체 건수를 반환 (반환값은 jobList 영역에 저장됨)
+    // 응답 body나 item이 없으면 EXTERNAL_API_EMPTY_RESPONSE로 실패 (캐시/사전 갱신이 이전 값을 덮어쓰지 않도록)
+    public Mono<JobListWindowDto> fetchJobListWindow(String search, String empType, int page, int size) {
+        String normalizedEmpType = "ALL".equalsIgnoreCase(empType) ? null : empType;
 
-        // 2. [API 호출] 상세보기 API 호출
-        ExternalApiResponse<ExternalJobDetailItemWrapper> detailWrapper = apiClient.fetchJobDetail(jobId);
+        // 2. Open API 호출
+        return apiClient.fetchJobs(search, normalizedEmpType, page, size)
+                // openApiDataWrapper에서 body만 꺼내서 openApiData에 담기. (body가 없으면 빈 Mono)
+                .mapNotNull(ExternalApiResponse::getBody)
+                .filter(openApiData -> openApiData.getItem() != null)
+                .flatMap(openApiData -> {
+                    // 실제 리스트 가져오기
+                    List<OpenApiJobItem> items = openApiData.getItem(); // 위에서 null 체크 했으므로 바로 사용
+
+                    // 3. 공고 내용을 jobPosting 영역에 먼저 저장 (묶음을 읽은 요청이 공고를 찾을 수 있도록)
+                    // 4. 묶음에는 jobId 목록과 전체 건수만
+                    return cachePostings(items)
+                            .thenReturn(new JobListWindowDto(openApiData.getTotalCount(),
+                                    items.stream().map(OpenApiJobItem::getJobId).toList()));
+                })
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Open API 'getJobList' 응답이 비어있거나 'item' 리스트가 null입니다.");
+                    return new CustomException(ErrorCode.EXTERNAL_API_EMPTY_RESPONSE);
+                }));
+    }
 
-        if (detailWrapper == null || detailWrapper.getBody() == null || detailWrapper.getBody().getItem() == null) {
-            // 상세보기 API가 데이터를 못 찾는 경우 JOB_NOT_FOUND
-            throw new CustomException(ErrorCode.JOB_NOT_FOUND);
+    // 목록 캐시 Key ("ALL"과 미지정 고용형태는 같은 Key)
+    public static String listCacheKey(String search, String empType, int page, int size) {
+        if ("ALL".equalsIgnoreCase(empType)) {
+            empType = null;
         }
-        OpenApiDetailItem detailItem = detailWrapper.getBody().getItem();
-
+        return String.format("search:%s:emp:%s:p:%d:s:%d", search, empType, page, size);
+    }
 
-        // 3. [Redis 조회] 리스트 조회 시 캐싱해둔 '고용형태', '직종' 데이터 조회
-        String extraDataKey = KEY_JOB_EXTRA + jobId;
-        JobExtraDataDto extraData = (JobExtraDataDto) redisUtil.get(extraDataKey);
 
-        JobExtraDataDto transformedExtraData;
+    // 2. 채용 공고 상세 조회
+    // 캐시 미스일 때만 Open API 호출 (같은 Key의 동시 미스는 노드당 한 번만 실행, JOB_NOT_FOUND는 부정 캐시)
+    // 캐시된 상세의 마감 상태(D-day)는 저장 시점 기준이므로, 꺼낼 때마다 오늘 날짜로 다시 계산
+    public Mono<JobDetailResponseDto> getJobDetail(String jobId) {
+        return Mono.fromFuture(() -> cacheManager.getCache(CACHE_JOB_DETAIL).retrieve(jobId, () -> {
+                    log.info("[Cache MISS] Key: {}", jobId);
+                    return fetchJobDetail(jobId).toFuture();
+                }))
+                .map(this::withDeadlineStatus);
+    }
 
-        if (extraData == null) {
-            // 사용자가 리스트 조회를 거치지 않고 상세 URL로 바로 접근한 경우
-            // '고용 형태', '직종'은 정보 없음으로 처리
-            log.warn("[Cache MISS] 'job:extra' 데이터 없음. Key: {}", extraDataKey);
-            transformedExtraData = new JobExtraDataDto(EmploymentType.UNKNOWN.getDisplayName(), "정보 없음");
-        }else{
-            log.info("[Cache HIT] Key: {}", extraDataKey);
-            transformedExtraData = JobExtraDataDto.builder()
-                    .employmentType(mapEmploymentType(extraData.getEmploymentType()))
-                    .jobCategory(extraData.getJobCategory())
-                    .build();
+    // 캐시를 거치지 않고 Open API 상세 응답과 캐시된 공고 정보를 조합 (반환값은 jobDetail 영역에 저장됨)
+    private Mono<JobDetailResponseDto> fetchJobDetail(String jobId) {
+        // 2. [API 호출] 상세보기 API 호출
+        Mono<OpenApiDetailItem> detailItem = apiClient.fetchJobDetail(jobId)
+                .mapNotNull(ExternalApiResponse::getBody)
+                .mapNotNull(ExternalJobDetailItemWrapper::getItem)
+                // 상세보기 API가 데이터를 못 찾는 경우 JOB_NOT_FOUND
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.JOB_NOT_FOUND)));
+
+        // 3. 리스트 조회 시 캐싱해둔 공고의 '고용형태', '직종' 데이터 (상세 API 호출과 동시에 조회)
+        Mono<JobExtraDataDto> extraData = Mono.fromFuture(() -> cacheManager.getCache(CACHE_JOB_POSTING).retrieve(jobId))
+                .cast(OpenApiJobItem.class)
+                // 목록 캐시를 거치지 않은 공고도 검색 색인에 있으면 사용
+                .switchIfEmpty(Mono.fromSupplier(() -> postingFromIndex(jobId)))
+                .map(posting -> {
+                    log.info("[Cache HIT] 'job:posting' Key: {}", jobId);
+                    return JobExtraDataDto.builder()
+                            .employmentType(mapEmploymentType(posting.getEmplymShpNm()))
+                            .jobCategory(posting.getJobclsNm())
+                            .build();
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    // 사용자가 리스트 조회를 거치지 않고 상세 URL로 바로 접근한 경우
+                    // '고용 형태', '직종'은 정보 없음으로 처리
+                    log.warn("[Cache MISS] 'job:posting' 데이터 없음. Key: {}", jobId);
+                    return new JobExtraDataDto(EmploymentType.UNKNOWN.getDisplayName(), "정보 없음");
+                }));
+
+        // 4. 2개 데이터(API 응답 + 캐시)를 조합하여 DTO 매핑
+        return Mono.zip(detailItem, extraData)
+                .map(tuple -> mapToJobDetailDto(tuple.getT1(), tuple.getT2()));
+    }
 
+    // 오늘 기준 마감 상태를 채운 사본 (캐시 값은 여러 요청이 공유하므로 수정하지 않음)
+    // 종료일이 없거나(상시 모집) 형식이 다르면 저장된 상태 그대로
+    JobDetailResponseDto withDeadlineStatus(JobDetailResponseDto detail) {
+        LocalDate endDate = JobDeadlines.parse(detail.getEndDate(), JobDeadlines.YYYY_MM_DD);
+        if (endDate == null) {
+            return detail;
         }
-
-        // 4. 2개 데이터(API 응답 + Redis 캐시)를 조합하여 DTO 매핑
-        JobDetailResponseDto responseDto = mapToJobDetailDto(detailItem, transformedExtraData);
-
-        // 5. 최종 DTO 캐시 저장 (1시간)  - 앱 사용할 동안 불편함 없도록
-        redisUtil.save(cacheKey, responseDto, Duration.ofHours(1));
-
-        return responseDto;
+        return detail.toBuilder().deadlineStatus(ddayStatus(endDate)).build();
     }
 
 
     // --- 데이터 캐싱 헬퍼 메서드 ---
 
     /**
-     * 리스트 조회를 통해 얻은 '고용형태', '직종'을 Redis에 캐시
-     * (getJobDetail에서 사용하기 위함)
+     * 목록 조회로 얻은 공고를 jobId별로 Redis에 캐시
+     * (여러 묶음이 같은 공고를 공유하고, getJobDetail에서도 사용하기 위함)
      */
-    private void cacheExtraJobData(List<OpenApiJobItem> items) {
+    private Mono<Void> cachePostings(List<OpenApiJobItem> items) {
         if (items.isEmpty()) {
-            return;
+            return Mono.empty();
         }
 
-        log.info("[Redis Caching] {}개의 'job:extra' 데이터 저장 시도...", items.size());
-        items.forEach(item -> {
-            String cacheKey = KEY_JOB_EXTRA + item.getJobId();
-            JobExtraDataDto extraData = JobExtraDataDto.builder()
-                    .employmentType(item.getEmplymShpNm())
-                    .jobCategory(item.getJobclsNm())
-                    .build();
-            // TTL 24시간 (리스트에서 한번이라도 조회되면 24시간 동안 상세정보 보장) - 거의 바뀢지 않는 데이터 이기 때문에 24h로 설정
-            redisUtil.save(cacheKey, extraData, Duration.ofHours(24));
-        });
+        log.info("[Redis Caching] {}개의 'job:posting' 데이터 저장 시도...", items.size());
+        Map<String, OpenApiJobItem> postingsByJobId = new LinkedHashMap<>();
+        items.forEach(item -> postingsByJobId.put(item.getJobId(), item));
+        // TTL은 jobPosting 영역 설정 (기본 3일, 같은 공고가 다시 조회되면 최신 내용으로 덮어씀)
+        // 공고마다 응답을 기다리지 않고 연달아 저장
+        return Mono.fromFuture(() -> cacheManager.getCache(CACHE_JOB_POSTING).putAllAsync(postingsByJobId));
+    }
+
+    private OpenApiJobItem postingFromIndex(String jobId) {
+        JobSearchIndex index = jobIndexIngester.current();
+        return index != null ? index.findById(jobId) : null;
     }
 
     // --- 데이터 가공(Mapping) 헬퍼 메서드 ---
+    // JMH 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private
 
-    // 리스트 DTO 매핑 (OpenApiJobItem -> JobItemDto)
-    private JobListResponseDto mapToJobListDto(ExternalJobListItems openApiData, List<OpenApiJobItem> items, int page, int size) {
+    // 공고 목록과 전체 건수로 응답 DTO 생성 (OpenApiJobItem -> JobItemDto, 캐시된 묶음과 로컬 검색 색인 공통)
+    JobListResponseDto toJobListDto(List<OpenApiJobItem> items, int totalCount, int page, int size) {
 
         List<JobItemDto> jobs = items.stream()
                 .map(item -> JobItemDto.builder()
@@ -185,7 +262,6 @@ public class JobService {
                         .build())
                 .collect(Collectors.toList());
 
-        int totalCount = openApiData.getTotalCount();
         PaginationDto pagination = PaginationDto.builder()
                 .totalCount(totalCount)
                 .currentPage(page)
@@ -203,7 +279,7 @@ public class JobService {
      * @param extraData  Redis에서 가져온 추가 데이터 (고용형태, 직종)
      * @return JobDetailResponseDto
      */
-    private JobDetailResponseDto mapToJobDetailDto(OpenApiDetailItem detailItem, JobExtraDataDto extraData) {
+    JobDetailResponseDto mapToJobDetailDto(OpenApiDetailItem detailItem, JobExtraDataDto extraData) {
 
         // 마감일 계산 (yyyyMMdd -> D-day)
         String deadlineStatus = calculateDday(detailItem.getToAcptDd());
@@ -233,7 +309,7 @@ public class JobService {
      * @param deadline 리스트 API의 상태값 (마감/접수중)
      * @return "접수 마감", "접수중", "오늘 마감", "상시 모집" 중 하나
      */
-    private String calculateListDeadLineStatus(String toDd, String deadline) {
+    String calculateListDeadLineStatus(String toDd, String deadline) {
         // 1. 마감 상태가 명시적인 경우
         if (deadline != null && (deadline.contains("마감") || deadline.contains("종료"))) {
             return "접수 마감";
@@ -243,8 +319,8 @@ public class JobService {
         // 리스트 API의 toDd는 'yyyy-MM-dd' 형식
         if (toDd != null && !toDd.isEmpty()) {
             try {
-                LocalDate endDate = LocalDate.parse(toDd, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), endDate);
+                LocalDate endDate = LocalDate.parse(toDd, JobDeadlines.YYYY_MM_DD);
+                long daysLeft = deadlines.daysLeft(endDate);
 
                 if (daysLeft < 0) {
                     return "접수 마감"; // 날짜 지남
@@ -253,7 +329,7 @@ public class JobService {
                 }
                 // D-day가 1일 이상 남은 경우
                 return "접수중";
-            } catch (Exception e) {
+            } catch (DateTimeParseException e) {
                 log.warn("D-day parsing error for date: {}", toDd);
                 return "접수중"; // 파싱 실패 시 일단 접수중으로
             }
@@ -275,29 +351,32 @@ public class JobService {
      * @param toDd 상세 API의 종료일 (yyyyMMdd)
      * @return "D-7", "오늘 마감", "접수 마감", "상시 모집"
      */
-    private String calculateDday(String toDd) {
+    String calculateDday(String toDd) {
         // 상세 API의 toAcptDd는 'yyyyMMdd' 형식
         if (toDd == null || toDd.isEmpty()) {
             return "상시 모집";
         }
 
         try {
-            LocalDate endDate = LocalDate.parse(toDd, DateTimeFormatter.ofPattern("yyyyMMdd"));
-            long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), endDate);
-
-            if (daysLeft < 0) {
-                return "접수 마감"; // 날짜 지난 경우
-            } else if (daysLeft == 0) {
-                return "오늘 마감";
-            } else {
-                return "D-" + daysLeft;
-            }
-        } catch (Exception e) {
+            return ddayStatus(LocalDate.parse(toDd, JobDeadlines.YYYYMMDD));
+        } catch (DateTimeParseException e) {
             log.warn("D-day parsing error for date: {}", toDd);
             return "날짜 확인";
         }
     }
 
+    // 종료일 기준 D-day ("D-7", "오늘 마감", "접수 마감")
+    private String ddayStatus(LocalDate endDate) {
+        long daysLeft = deadlines.daysLeft(endDate);
+        if (daysLeft < 0) {
+            return "접수 마감"; // 날짜 지난 경우
+        } else if (daysLeft == 0) {
+            return "오늘 마감";
+        } else {
+            return "D-" + daysLeft;
+        }
+    }
+
     // 날짜 포맷 변환 (yyyyMMdd -> yyyy-MM-dd)
     private String formatDisplayDate(String yyyyMMdd) {
         if (yyyyMMdd == null || yyyyMMdd.isEmpty()) {
@@ -305,9 +384,9 @@ public class JobService {
         }
         try {
             // 상세 API는 yyyyMMdd 형식
-            LocalDate date = LocalDate.parse(yyyyMMdd, DateTimeFormatter.ofPattern("yyyyMMdd"));
-            return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        } catch (Exception e) {
+            LocalDate date = LocalDate.parse(yyyyMMdd, JobDeadlines.YYYYMMDD);
+            return date.format(JobDeadlines.YYYY_MM_DD);
+        } catch (DateTimeParseException e) {
             log.warn("D-date parsing error for date: {}", yyyyMMdd);
             return yyyyMMdd; // 파싱 실패시 원본 반환
         }
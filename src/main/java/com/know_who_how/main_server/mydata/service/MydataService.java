@@ -10,6 +10,7 @@ import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.entity.User.UserInfo;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.jwt.UserPrincipalChangedEvent;
 import com.know_who_how.main_server.global.util.RedisUtil;
 import com.know_who_how.main_server.mydata.dto.MydataDto;
 import com.know_who_how.main_server.mydata.dto.MydataResponse;
@@ -22,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,6 +52,7 @@ public class MydataService {
     private final PensionRepository pensionRepository;
 
     private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * RS(리소스 서버, MyData API) 호출용 WebClient
@@ -308,6 +311,7 @@ public class MydataService {
         // MyData 연동 여부 플래그
         managedUser.markMydataRegistered();
         userRepository.save(managedUser);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(managedUser.getUserId()));
 
         userInfoRepository.findByUser(managedUser).ifPresent(info -> {
             // CONNECTED, DISCONNECTED, NONE
@@ -12,4 +12,6 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByUser(User user);
     Optional<RefreshToken> findByTokenValue(String tokenValue);
     void deleteByUser(User user);
+    Optional<RefreshToken> findByUser_UserId(Long userId);
+    void deleteByUser_UserId(Long userId);
 }
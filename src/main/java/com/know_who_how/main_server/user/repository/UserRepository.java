@@ -1,9 +1,13 @@
 package com.know_who_how.main_server.user.repository;
 
 import com.know_who_how.main_server.global.entity.User.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +23,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // OAuth2 로그인용
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+
+    // 아이디/전화번호 Bloom filter 재구성용 (엔티티 대신 필요한 컬럼만, userId 기준 키셋 페이징)
+    @Query("select u.userId as userId, u.loginId as loginId, u.phoneNum as phoneNum from User u "
+            + "where u.userId > :afterUserId order by u.userId")
+    List<IdentifierView> findIdentifiersAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    interface IdentifierView {
+        Long getUserId();
+        String getLoginId();
+        String getPhoneNum();
+    }
 }
@@ -1,5 +1,8 @@
 package com.know_who_how.main_server.user.service;
 
+import com.know_who_how.main_server.auth.service.UserIdentifierFilter;
+import com.know_who_how.main_server.auth.token.RefreshTokenStore;
+import com.know_who_how.main_server.global.catalog.ReferenceCatalog;
 import com.know_who_how.main_server.global.entity.Asset.Asset;
 import com.know_who_how.main_server.global.entity.Asset.AssetType;
 import com.know_who_how.main_server.global.entity.Asset.Pension.Pension;
@@ -8,10 +11,10 @@ import com.know_who_how.main_server.global.entity.Keyword.UserKeyword;
 import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.jwt.UserPrincipalChangedEvent;
 import com.know_who_how.main_server.mydata.repository.MydataRepository;
 import com.know_who_how.main_server.user.dto.*;
 import com.know_who_how.main_server.user.repository.AssetsRepository;
-import com.know_who_how.main_server.user.repository.KeywordRepository;
 import com.know_who_how.main_server.user.repository.PensionRepository;
 import com.know_who_how.main_server.user.repository.RefreshTokenRepository;
 import com.know_who_how.main_server.user.repository.UserInfoRepository;
@@ -20,10 +23,12 @@ import com.know_who_how.main_server.user.repository.UserRepository;
 import com.know_who_how.main_server.user.repository.UserTermRepository;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,12 +40,15 @@ public class UserService {
     private final UserRepository userRepository;
     private final AssetsRepository assetsRepository;
     private final UserKeywordRepository userKeywordRepository;
-    private final KeywordRepository keywordRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final RefreshTokenStore refreshTokenStore;
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserTermRepository userTermRepository;
     private final UserInfoRepository userInfoRepository;
     private final PensionRepository pensionRepository;
     private final MydataRepository mydataRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserIdentifierFilter userIdentifierFilter;
 
     public UserResponseDto getUserInfo(User user) {
         return UserResponseDto.from(user);
@@ -86,11 +94,14 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         foundUser.updatePhoneNum(requestDto.getPhoneNum());
+        userIdentifierFilter.registerPhoneNum(requestDto.getPhoneNum());
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(foundUser.getUserId()));
     }
 
     public List<UserKeywordDto> getUserKeywords(User user) {
         return userKeywordRepository.findByUser(user).stream()
-                .map(userKeyword -> UserKeywordDto.from(userKeyword.getKeyword()))
+                .map(userKeyword -> UserKeywordDto.from(referenceCatalog.findKeyword(userKeyword.getKeyword().getId())
+                        .orElseGet(userKeyword::getKeyword)))
                 .collect(Collectors.toList());
     }
 
@@ -100,6 +111,7 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         foundUser.updateInvestmentTendancy(requestDto.getInvestmentTendancy());
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(foundUser.getUserId()));
     }
 
     @Transactional
@@ -107,7 +119,11 @@ public class UserService {
         User foundUser = userRepository.findById(user.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         userKeywordRepository.deleteAllByUser(foundUser);
-        List<Keyword> keywords = keywordRepository.findAllById(requestDto.getKeywordIds());
+        List<Keyword> keywords = requestDto.getKeywordIds().stream()
+                .distinct()
+                .map(referenceCatalog::findKeyword)
+                .flatMap(Optional::stream)
+                .toList();
         if (keywords.size() != requestDto.getKeywordIds().size()) {
             throw new IllegalArgumentException("존재하지 않는 키워드 ID가 포함되어 있습니다.");
         }
@@ -121,16 +137,21 @@ public class UserService {
     }
 
     @Transactional
-    public void withdrawUser(User user) {
+    public void withdrawUser(User principal) {
+        // 인증 principal은 캐시로 구성된 비영속 객체이므로 삭제 대상은 DB에서 다시 조회
+        User user = resolveUser(principal);
         // 연관된 자식 데이터부터 삭제
         userKeywordRepository.deleteAllByUser(user);
         userTermRepository.deleteAllByUser(user);
         assetsRepository.deleteAllByUser(user);
         userInfoRepository.deleteByUser(user);
+        // 저장소 설정과 관계없이 refresh_token 행도 삭제 (Redis 전환 이전에 발급된 행이 남아 있으면 FK 제약으로 탈퇴 실패)
         refreshTokenRepository.deleteByUser(user);
+        refreshTokenStore.deleteAll(user.getUserId());
         mydataRepository.deleteByUser(user);
         // 마지막으로 User 엔티티 삭제
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getUserId()));
     }
 
     public List<PensionAssetDto> getUserPensionAssets(User user) {
@@ -169,5 +190,6 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         user.markMydataRegistered();
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
     }
 }
\ No newline at end of file
@@ -48,6 +48,9 @@ class AssetManagementControllerTest {
         @MockBean
         private com.know_who_how.main_server.global.util.RedisUtil redisUtil;
 
+        @MockBean
+        private com.know_who_how.main_server.global.jwt.TokenBlacklist tokenBlacklist;
+
         @Test
         @DisplayName("[성공] 유효한 요청 시, 재무 설문 정보 저장 후 201 Created 반환")
         void savePortfolioInfo_should_returnCreated_when_requestIsValid() throws Exception {
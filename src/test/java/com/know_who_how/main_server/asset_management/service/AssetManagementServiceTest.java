@@ -3,6 +3,7 @@ package com.know_who_how.main_server.asset_management.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.know_who_how.main_server.asset_management.dto.PortfolioInfoRequest;
 import com.know_who_how.main_server.asset_management.dto.PortfolioResponse;
+import com.know_who_how.main_server.global.catalog.ReferenceCatalog;
 import com.know_who_how.main_server.global.entity.Asset.FinancialProduct;
 import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.entity.User.UserInfo;
@@ -20,6 +21,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -30,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @MockitoSettings(strictness = Strictness.LENIENT)
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +53,10 @@ class AssetManagementServiceTest {
         private com.know_who_how.main_server.user.repository.UserKeywordRepository userKeywordRepository;
         @Spy
         private ObjectMapper objectMapper;
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+        @Mock
+        private ReferenceCatalog referenceCatalog;
 
         @Mock
         private User mockUser;
@@ -80,6 +87,7 @@ class AssetManagementServiceTest {
                 // 월 순저축 여력 = 400만
                 given(mockUserInfo.getUser()).willReturn(mockUser);
                 given(mockUser.getBirth()).willReturn(LocalDate.now().minusYears(30)); // 나이 30세
+                given(mockUser.getAssetTotal()).willReturn(10000000L); // 저장된 총자산이 계산 결과와 같음
                 given(userRepository.findById(any())).willReturn(Optional.of(mockUser));
                 given(userInfoRepository.findByUser(mockUser)).willReturn(Optional.of(mockUserInfo));
 
@@ -108,6 +116,9 @@ class AssetManagementServiceTest {
                 assertThat(response.cashFlowDiagnostic().productName()).isEqualTo("WON플러스 예금");
                 assertThat(response.prediction().predictionType()).isEqualTo("예금 시뮬레이션");
                 assertThat(response.goalMetrics().totalAsset()).isEqualTo(10000000L);
+                // 총자산이 그대로면 저장/principal 캐시 무효화 없음
+                then(userRepository).should(never()).save(any(User.class));
+                then(eventPublisher).should(never()).publishEvent(any());
         }
 
         @Test
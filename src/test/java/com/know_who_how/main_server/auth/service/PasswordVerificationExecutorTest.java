@@ -0,0 +1,104 @@
+package com.know_who_how.main_server.auth.service;
+
+import com.know_who_how.main_server.global.config.PasswordProperties;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.exception.RetryLaterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordVerificationExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordVerificationExecutor verificationExecutor;
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setUp() {
+        PasswordProperties properties = new PasswordProperties();
+        properties.setVerifyPoolSize(1);
+        properties.setVerifyQueueCapacity(1);
+        properties.setVerifyTimeoutMillis(2000);
+        properties.setRetryAfterSeconds(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        verificationExecutor = new PasswordVerificationExecutor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        verificationExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("검증 결과와 소요 시간(성공/실패)을 기록하고, 인증 예외는 그대로 전달")
+    void execute_recordsTimerAndPropagatesException() {
+        // when
+        String result = verificationExecutor.execute(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThatThrownBy(() -> verificationExecutor.execute(() -> {
+            throw new BadCredentialsException("bad");
+        })).isInstanceOf(BadCredentialsException.class);
+
+        assertThat(meterRegistry.get("auth.password.verify").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.verify").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 즉시 LOGIN_TOO_MANY_REQUESTS(Retry-After) 예외")
+    void execute_rejectsWhenSaturated() throws Exception {
+        // given: 스레드 1개 + 대기열 1개를 모두 점유
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        callers.submit(() -> verificationExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> verificationExecutor.execute(() -> "queued"));
+        waitUntilQueued();
+
+        // when & then
+        assertThatThrownBy(() -> verificationExecutor.execute(() -> "rejected"))
+                .isInstanceOf(RetryLaterException.class)
+                .satisfies(e -> {
+                    RetryLaterException retryLater = (RetryLaterException) e;
+                    assertThat(retryLater.getErrorCode()).isEqualTo(ErrorCode.LOGIN_TOO_MANY_REQUESTS);
+                    assertThat(retryLater.getRetryAfterSeconds()).isEqualTo(2);
+                });
+        assertThat(meterRegistry.get("auth.password.verify.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (meterRegistry.get("executor.queued").tag("name", "password.verify").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.know_who_how.main_server.auth.service;
+
+import com.know_who_how.main_server.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentifierFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private UserIdentifierFilter userIdentifierFilter;
+
+    @BeforeEach
+    void setUp() {
+        userIdentifierFilter = new UserIdentifierFilter(userRepository, stringRedisTemplate, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("필터 음성이면 DB를 조회하지 않고 사용 가능으로 판단")
+    void isLoginIdTaken_skipsDatabaseWhenFilterNegative() {
+        // given
+        givenFilterResult(0L);
+
+        // when & then
+        assertThat(userIdentifierFilter.isLoginIdTaken("newbie")).isFalse();
+        then(userRepository).should(never()).existsByLoginId(anyString());
+    }
+
+    @Test
+    @DisplayName("필터 양성이면 exists 쿼리로 확인 (오탐은 사용 가능)")
+    void isLoginIdTaken_checksDatabaseWhenFilterPositive() {
+        // given
+        givenFilterResult(1L);
+        given(userRepository.existsByLoginId("tester")).willReturn(true);
+        given(userRepository.existsByLoginId("false-positive")).willReturn(false);
+
+        // when & then
+        assertThat(userIdentifierFilter.isLoginIdTaken("tester")).isTrue();
+        assertThat(userIdentifierFilter.isLoginIdTaken("false-positive")).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터가 아직 만들어지지 않았으면 DB로 확인")
+    void isPhoneNumTaken_checksDatabaseWhenFilterMissing() {
+        // given
+        givenFilterResult(-1L);
+        given(userRepository.existsByPhoneNum("01012345678")).willReturn(true);
+
+        // when & then
+        assertThat(userIdentifierFilter.isPhoneNumTaken("01012345678")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB로 확인")
+    void isPhoneNumTaken_fallsBackToDatabaseOnRedisFailure() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+
+        // when
+        userIdentifierFilter.isPhoneNumTaken("01012345678");
+
+        // then
+        then(userRepository).should().existsByPhoneNum("01012345678");
+    }
+
+    @Test
+    @DisplayName("필터 기록에 실패하면 거짓 음성을 막기 위해 필터를 무효화")
+    void registerLoginId_invalidatesFilterOnFailure() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+
+        // when
+        userIdentifierFilter.registerLoginId("newbie");
+
+        // then
+        then(stringRedisTemplate).should().delete("{user:login-id:bloom}");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenFilterResult(Long result) {
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(result);
+    }
+}
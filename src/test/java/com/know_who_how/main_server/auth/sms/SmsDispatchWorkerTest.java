@@ -0,0 +1,153 @@
+package com.know_who_how.main_server.auth.sms;
+
+import com.know_who_how.main_server.global.config.SmsProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class SmsDispatchWorkerTest {
+
+    @Mock
+    private SmsDispatchQueue queue;
+    @Mock
+    private SmsSender sender;
+
+    private SmsProperties properties;
+    private SmsDispatchWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SmsProperties();
+        properties.setMaxAttempts(3);
+        worker = new SmsDispatchWorker(queue, sender, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("꺼낸 메시지를 한 번의 다건 발송으로 보내고 SENT 기록 후 ACK")
+    void dispatch_sendsBatchAndAcknowledges() {
+        // given
+        List<SmsDispatchQueue.Delivery> deliveries = List.of(
+                delivery("1-0", new SmsMessage("a", "01011112222", "code 1", 0)),
+                delivery("2-0", new SmsMessage("b", "01033334444", "code 2", 0)));
+
+        // when
+        worker.dispatch(deliveries);
+
+        // then
+        then(sender).should().sendAll(List.of(deliveries.get(0).message(), deliveries.get(1).message()));
+        then(queue).should().updateStatus(List.of(
+                new SmsMessage("a", "01011112222", "code 1", 1),
+                new SmsMessage("b", "01033334444", "code 2", 1)), SmsDispatchStatus.SENT);
+        then(queue).should().acknowledge(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+        then(queue).should(never()).scheduleRetry(any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 백오프 후 재시도 예약, 최대 시도 횟수에 도달한 메시지는 FAILED")
+    void dispatch_schedulesRetryOrGivesUp() {
+        // given
+        SmsMessage firstTry = new SmsMessage("a", "01011112222", "code 1", 0);
+        SmsMessage lastTry = new SmsMessage("b", "01033334444", "code 2", 2);
+        willThrow(new CustomException(ErrorCode.SMS_SEND_FAILURE)).given(sender).sendAll(anyList());
+
+        // when
+        worker.dispatch(List.of(delivery("1-0", firstTry), delivery("2-0", lastTry)));
+
+        // then
+        then(queue).should().scheduleRetry(firstTry.nextAttempt(), Duration.ofMillis(1000));
+        then(queue).should().updateStatus(List.of(firstTry.nextAttempt()), SmsDispatchStatus.RETRYING);
+        then(queue).should().updateStatus(List.of(lastTry.nextAttempt()), SmsDispatchStatus.FAILED);
+        then(queue).should().acknowledge(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+    }
+
+    @Test
+    @DisplayName("묶음 중 접수되지 않은 메시지만 재시도 예약하고, 접수된 메시지는 SENT 기록 후 먼저 ACK")
+    void dispatch_retriesOnlyRejectedMessages() {
+        // given
+        SmsMessage accepted = new SmsMessage("a", "01011112222", "code 1", 0);
+        SmsMessage rejected = new SmsMessage("b", "01033334444", "code 2", 0);
+        given(sender.sendAll(anyList())).willReturn(List.of(rejected));
+
+        // when
+        worker.dispatch(List.of(delivery("1-0", accepted), delivery("2-0", rejected)));
+
+        // then
+        InOrder inOrder = inOrder(queue);
+        inOrder.verify(queue).updateStatus(List.of(accepted.nextAttempt()), SmsDispatchStatus.SENT);
+        inOrder.verify(queue).acknowledge(List.of(RecordId.of("1-0")));
+        inOrder.verify(queue).scheduleRetry(rejected.nextAttempt(), Duration.ofMillis(1000));
+        inOrder.verify(queue).updateStatus(List.of(rejected.nextAttempt()), SmsDispatchStatus.RETRYING);
+        inOrder.verify(queue).acknowledge(List.of(RecordId.of("2-0")));
+    }
+
+    @Test
+    @DisplayName("재시도 예약 저장에 실패하면 ACK하지 않고 pending으로 남김")
+    void dispatch_doesNotAcknowledgeWhenRetryCannotBeStored() {
+        // given
+        SmsMessage message = new SmsMessage("a", "01011112222", "code 1", 0);
+        willThrow(new CustomException(ErrorCode.SMS_SEND_FAILURE)).given(sender).sendAll(anyList());
+        willThrow(new RedisSystemException("connection lost", null)).given(queue).scheduleRetry(any(), any());
+
+        // when & then
+        assertThatThrownBy(() -> worker.dispatch(List.of(delivery("1-0", message))))
+                .isInstanceOf(RedisSystemException.class);
+        then(queue).should(never()).acknowledge(anyList());
+    }
+
+    @Test
+    @DisplayName("회수한 pending 메시지는 스케줄러 스레드에서 발송하지 않고 발송 스레드가 다음 조회 대신 처리")
+    void recoverPending_handsClaimedMessagesToDispatchThreads() {
+        // given
+        ReflectionTestUtils.setField(worker, "running", true);
+        SmsDispatchQueue.Delivery claimed = delivery("1-0", new SmsMessage("a", "01011112222", "code 1", 0));
+        given(queue.claimIdle(anyString(), any(), anyInt())).willReturn(List.of(claimed));
+
+        // when
+        worker.recoverPending();
+
+        // then
+        then(sender).should(never()).sendAll(anyList());
+        worker.pollOnce(Duration.ofMillis(10));
+        then(sender).should().sendAll(List.of(claimed.message()));
+        then(queue).should().acknowledge(List.of(RecordId.of("1-0")));
+        then(queue).should(never()).read(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 두 배로 늘어나고 상한을 넘지 않음")
+    void backoff_growsExponentiallyUpToMax() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(worker.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(worker.backoff(30)).isEqualTo(Duration.ofMillis(properties.getMaxBackoffMillis()));
+    }
+
+    private SmsDispatchQueue.Delivery delivery(String recordId, SmsMessage message) {
+        return new SmsDispatchQueue.Delivery(RecordId.of(recordId), message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.know_who_how.main_server.auth.token;
+
+import com.know_who_how.main_server.auth.token.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class MigratingRefreshTokenStoreTest {
+
+    @Mock
+    private JpaRefreshTokenStore jpaStore;
+    @Mock
+    private RedisRefreshTokenStore redisStore;
+
+    @InjectMocks
+    private MigratingRefreshTokenStore store;
+
+    private final Instant expiry = Instant.now().plusSeconds(3600);
+
+    @Test
+    @DisplayName("로그인 시 MySQL과 Redis 양쪽에 저장")
+    void save_writesBothStores() {
+        store.save(1L, "rt-1", expiry);
+
+        then(jpaStore).should().save(1L, "rt-1", expiry);
+        then(redisStore).should().save(1L, "rt-1", expiry);
+    }
+
+    @Test
+    @DisplayName("MySQL 기준으로 교체되면, Redis에 기존 토큰이 없어도 새 토큰으로 채움")
+    void rotate_backfillsRedisWhenMissing() {
+        // given
+        given(jpaStore.rotate(1L, "rt-1", "rt-2", expiry)).willReturn(RotationResult.ROTATED);
+        given(redisStore.rotate(1L, "rt-1", "rt-2", expiry)).willReturn(RotationResult.INVALID);
+
+        // when
+        RotationResult result = store.rotate(1L, "rt-1", "rt-2", expiry);
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.ROTATED);
+        then(redisStore).should().save(1L, "rt-2", expiry);
+    }
+
+    @Test
+    @DisplayName("MySQL 판정이 실패하면 Redis는 변경하지 않음")
+    void rotate_doesNotTouchRedisWhenPrimaryRejects() {
+        // given
+        given(jpaStore.rotate(1L, "stale", "rt-2", expiry)).willReturn(RotationResult.INVALID);
+        given(redisStore.revokeIfReused(1L, "stale")).willReturn(false);
+
+        // when
+        RotationResult result = store.rotate(1L, "stale", "rt-2", expiry);
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.INVALID);
+        then(redisStore).should(never()).rotate(anyLong(), anyString(), anyString(), any());
+        then(redisStore).should(never()).save(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 다시 제시하면 REUSED를 반환하고 양쪽 저장소의 현재 토큰을 폐기")
+    void rotate_detectsReuseFromRedisHistory() {
+        // given
+        given(jpaStore.rotate(1L, "rt-1", "rt-3", expiry)).willReturn(RotationResult.INVALID);
+        given(redisStore.revokeIfReused(1L, "rt-1")).willReturn(true);
+
+        // when
+        RotationResult result = store.rotate(1L, "rt-1", "rt-3", expiry);
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.REUSED);
+        then(jpaStore).should().deleteAll(1L);
+        then(redisStore).should(never()).save(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃은 MySQL에서 삭제된 경우에만 Redis도 정리")
+    void revoke_clearsRedisOnlyWhenPrimaryRevoked() {
+        given(jpaStore.revoke(1L, "rt-1")).willReturn(true);
+        given(jpaStore.revoke(2L, "wrong")).willReturn(false);
+
+        assertThat(store.revoke(1L, "rt-1")).isTrue();
+        assertThat(store.revoke(2L, "wrong")).isFalse();
+
+        then(redisStore).should().deleteAll(1L);
+        then(redisStore).should(never()).deleteAll(2L);
+    }
+}
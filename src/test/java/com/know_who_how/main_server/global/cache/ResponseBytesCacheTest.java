@@ -0,0 +1,151 @@
+package com.know_who_how.main_server.global.cache;
+
+import com.know_who_how.main_server.global.config.ResponseCacheProperties;
+import com.know_who_how.main_server.global.config.WebConfig;
+import com.know_who_how.main_server.global.dto.ApiResponse;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseBytesCacheTest {
+
+    private static final String CACHE = "test";
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    private ResponseCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setTtls(Map.of(CACHE, Duration.ofMinutes(1)));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 Redis에 저장한 응답 바이트는 bodyLoader 없이 그대로 응답하고, ETag가 같으면 304")
+    void serve_readsStoredBytesFromRedisWithoutLoading() {
+        // given - 한 노드가 미스로 응답을 만들어 Redis에 저장
+        given(redisUtil.getBytesAsync(anyString())).willReturn(Mono.empty());
+        given(redisUtil.saveBytesAsync(anyString(), any(), any())).willReturn(Mono.empty());
+        ResponseEntity<byte[]> loaded = newCache().serve(CACHE, "K1", new HttpHeaders(),
+                () -> Mono.just(ApiResponse.onSuccess(Map.of("id", "K1")))).block();
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        then(redisUtil).should().saveBytesAsync(eq("http:response:test:K1"), stored.capture(), eq(Duration.ofMinutes(1)));
+
+        // when - 로컬 캐시가 빈 다른 노드가 같은 Key를 조회
+        given(redisUtil.getBytesAsync("http:response:test:K1")).willReturn(Mono.just(stored.getValue()));
+        AtomicInteger loads = new AtomicInteger();
+        ResponseBytesCache otherNode = newCache();
+        HttpHeaders revalidate = new HttpHeaders();
+        revalidate.setIfNoneMatch(loaded.getHeaders().getETag());
+        ResponseEntity<byte[]> hit = otherNode.serve(CACHE, "K1", new HttpHeaders(),
+                () -> Mono.fromSupplier(loads::incrementAndGet)).block();
+        ResponseEntity<byte[]> notModified = otherNode.serve(CACHE, "K1", revalidate,
+                () -> Mono.fromSupplier(loads::incrementAndGet)).block();
+
+        // then
+        assertThat(new String(hit.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"isSuccess\":true,\"data\":{\"id\":\"K1\"}}");
+        assertThat(hit.getHeaders().getETag()).isEqualTo(loaded.getHeaders().getETag());
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(loads.get()).isZero();
+        assertThat(meterRegistry.get("cache.response.gets").tag("result", "redis-hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.response.gets").tag("result", "local-hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bodyLoader가 실패하면 저장하지 않고 예외를 그대로 전달하며, 등록되지 않은 캐시 이름은 거절")
+    void serve_propagatesLoaderErrorsWithoutCaching() {
+        // given
+        given(redisUtil.getBytesAsync(anyString())).willReturn(Mono.empty());
+        ResponseBytesCache cache = newCache();
+
+        // when & then
+        assertThatThrownBy(() -> cache.serve(CACHE, "K404", new HttpHeaders(),
+                () -> Mono.error(new CustomException(ErrorCode.JOB_NOT_FOUND))).block())
+                .isInstanceOf(CustomException.class);
+        then(redisUtil).should(never()).saveBytesAsync(anyString(), any(), any());
+        assertThatThrownBy(() -> cache.serve("unknown", "K1", new HttpHeaders(), Mono::empty))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 캐시 메타데이터(fetchedAt 등)가 달라도 같은 ETag이고, 본문에도 메타데이터가 없음")
+    void serve_etagIgnoresCacheMetadata() {
+        // given - 백그라운드 갱신으로 같은 내용이 다른 조회 시각으로 다시 적재된 경우
+        given(redisUtil.getBytesAsync(anyString())).willReturn(Mono.empty());
+        given(redisUtil.saveBytesAsync(anyString(), any(), any())).willReturn(Mono.empty());
+        JobDetailResponseDto before = JobDetailResponseDto.builder().id("K1").title("경비원 모집").build();
+        before.markFetched(1_000L, 2_000L);
+        JobDetailResponseDto refreshed = JobDetailResponseDto.builder().id("K1").title("경비원 모집").build();
+        refreshed.markFetched(5_000L, 6_000L);
+
+        // when
+        ResponseEntity<byte[]> first = newCache().serve(CACHE, "K1", new HttpHeaders(),
+                () -> Mono.just(ApiResponse.onSuccess(before))).block();
+        ResponseEntity<byte[]> second = newCache().serve(CACHE, "K1", new HttpHeaders(),
+                () -> Mono.just(ApiResponse.onSuccess(refreshed))).block();
+
+        // then
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).doesNotContain("fetchedAt");
+    }
+
+    @Test
+    @DisplayName("Key는 값마다 인코딩하여 구분자(:)가 들어 있는 값끼리 같은 Key가 되지 않음")
+    void key_escapesSeparators() {
+        assertThat(ResponseBytesCache.key("a:b", "c", 1)).isNotEqualTo(ResponseBytesCache.key("a", "b:c", 1));
+        assertThat(ResponseBytesCache.key("서울 중구", null)).isEqualTo("%EC%84%9C%EC%9A%B8+%EC%A4%91%EA%B5%AC:~");
+        assertThat(ResponseBytesCache.key("~")).isNotEqualTo(ResponseBytesCache.key((Object) null));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에서 q=0으로 거절한 gzip은 압축하지 않음")
+    void acceptsGzip() {
+        assertThat(ResponseBytesCache.acceptsGzip(List.of("gzip, deflate, br"))).isTrue();
+        assertThat(ResponseBytesCache.acceptsGzip(List.of("br;q=1.0, GZIP;q=0.5"))).isTrue();
+        assertThat(ResponseBytesCache.acceptsGzip(List.of("gzip;q=0", "identity"))).isFalse();
+        assertThat(ResponseBytesCache.acceptsGzip(null)).isFalse();
+    }
+
+    private ResponseBytesCache newCache() {
+        // 애플리케이션의 HTTP 응답용 ObjectMapper와 같은 설정
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new WebConfig().cacheMetadataExclusion().customize(builder);
+        return new ResponseBytesCache(redisUtil, builder.build(), properties, meterRegistry);
+    }
+}
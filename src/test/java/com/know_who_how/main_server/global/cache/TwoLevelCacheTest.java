@@ -0,0 +1,378 @@
+package com.know_who_how.main_server.global.cache;
+
+import com.know_who_how.main_server.global.config.TwoLevelCacheProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.dto.JobListWindowDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.setRegions(Map.of(
+                "jobDetail", TwoLevelCacheProperties.Region.of("job:detail:", Duration.ofHours(1), 100)
+                        .withNegativeCaching(Duration.ofMinutes(5), ErrorCode.JOB_NOT_FOUND),
+                "jobList", TwoLevelCacheProperties.Region.of("jobs:list:", Duration.ofMinutes(10), 100)
+                        .withLease(Duration.ofSeconds(5)),
+                "swr", TwoLevelCacheProperties.Region.of("swr:", Duration.ofHours(1), 100)
+                        .withSoftTtl(Duration.ofMinutes(10)),
+                "lastKnown", TwoLevelCacheProperties.Region.of("lk:", Duration.ofHours(1), 100)
+                        .withLastKnownFallback(Duration.ofDays(3), ErrorCode.EXTERNAL_API_UNAVAILABLE),
+                "deadline", TwoLevelCacheProperties.Region.of("dl:", Duration.ofDays(3), 100)
+                        .withDeadlineExpiry(Duration.ofHours(1))));
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(properties, redisUtil, listenerContainer, meterRegistry);
+        cache = cacheManager.getCache("jobDetail");
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 미스면 원본을 한 번 호출해 Redis에 영역 TTL로 저장하고, 이후 조회는 L1에서 반환")
+    void retrieve_loadsOnceThenServesFromLocal() {
+        // given
+        given(redisUtil.getAsync("job:detail:K000001")).willReturn(Mono.empty());
+        given(redisUtil.saveAsync(eq("job:detail:K000001"), any(), eq(Duration.ofHours(1)))).willReturn(Mono.empty());
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<CompletableFuture<String>> origin =
+                () -> CompletableFuture.completedFuture("detail-" + loads.incrementAndGet());
+
+        // when
+        String first = cache.retrieve("K000001", origin).join();
+        String second = cache.retrieve("K000001", origin).join();
+
+        // then
+        assertThat(first).isEqualTo("detail-1");
+        assertThat(second).isEqualTo("detail-1");
+        then(redisUtil).should(times(1)).getAsync("job:detail:K000001");
+        then(redisUtil).should().saveAsync("job:detail:K000001", "detail-1", Duration.ofHours(1));
+        assertThat(meterRegistry.get("cache.two-level.gets")
+                .tags("cache", "jobDetail", "level", "local", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.two-level.loads").tag("cache", "jobDetail").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L2에 있는 값은 원본을 호출하지 않고 L1에 채움")
+    void retrieve_fillsLocalFromRedis() {
+        // given
+        given(redisUtil.getAsync("job:detail:K000001")).willReturn(Mono.just("from-redis"));
+
+        // when
+        String value = cache.retrieve("K000001", () -> CompletableFuture.completedFuture("from-origin")).join();
+        Object again = cache.retrieve("K000001").join();
+
+        // then
+        assertThat(value).isEqualTo("from-redis");
+        assertThat(again).isEqualTo("from-redis");
+        then(redisUtil).should(times(1)).getAsync("job:detail:K000001");
+        then(redisUtil).should(times(0)).saveAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 Key 조회는 L1에 없는 Key만 한 번의 MGET으로 가져와 L1에 채우고, 없는 Key는 null")
+    void retrieveAll_readsLocalMissesInOneMultiGet() {
+        // given
+        cache.put("K1", "v1");
+        given(redisUtil.multiGetAsync(List.of("job:detail:K2", "job:detail:K3")))
+                .willReturn(Mono.just(Arrays.asList("v2", null)));
+
+        // when
+        List<Object> values = cache.retrieveAll(List.of("K1", "K2", "K3")).join();
+        List<Object> again = cache.retrieveAll(List.of("K2", "K1")).join();
+
+        // then
+        assertThat(values).containsExactly("v1", "v2", null);
+        assertThat(again).containsExactly("v2", "v1");
+        then(redisUtil).should(times(1)).multiGetAsync(any());
+        assertThat(meterRegistry.get("cache.two-level.gets")
+                .tags("cache", "jobDetail", "level", "redis", "result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("부정 캐시 대상이 아닌 원본 예외는 그대로 전달하고 아무것도 저장하지 않음")
+    void retrieve_propagatesLoaderFailureWithoutSaving() {
+        // given
+        given(redisUtil.getAsync("job:detail:K000001")).willReturn(Mono.empty());
+
+        // when & then
+        assertThatThrownBy(() -> cache.retrieve("K000001",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("upstream"))).join())
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        then(redisUtil).should(times(0)).saveAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동기 조회(@Cacheable(sync = true))도 같은 경로로 한 번만 적재하고, 부정 캐시 예외는 ValueRetrievalException으로 감쌈")
+    void get_loadsThroughRetrieveOnBoundedElastic() {
+        // given
+        given(redisUtil.getAsync(any())).willReturn(Mono.empty());
+        given(redisUtil.saveAsync(any(), any(), any())).willReturn(Mono.empty());
+        AtomicInteger loads = new AtomicInteger();
+        List<String> loaderThreads = new CopyOnWriteArrayList<>();
+
+        // when
+        String first = cache.get("K000001", () -> {
+            loaderThreads.add(Thread.currentThread().getName());
+            return "detail-" + loads.incrementAndGet();
+        });
+        String second = cache.get("K000001", () -> "detail-" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("detail-1");
+        assertThat(second).isEqualTo("detail-1");
+        assertThat(loaderThreads).singleElement().asString().startsWith("boundedElastic");
+        then(redisUtil).should().saveAsync("job:detail:K000001", "detail-1", Duration.ofHours(1));
+        assertThatThrownBy(() -> cache.get("K999999", () -> {
+            throw new CustomException(ErrorCode.JOB_NOT_FOUND);
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("저장 시 다른 노드에 무효화를 알리고, 다른 노드의 알림을 받으면 L1만 제거")
+    void put_publishesAndRemoteEvictionClearsLocal() {
+        // given
+        cache.put("K000001", "v1");
+
+        // when
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        CacheEvictMessage remote = new CacheEvictMessage("other-node", "jobDetail", List.of("K000001"));
+        given(redisUtil.readMessage(any())).willAnswer(invocation ->
+                serializer.deserialize(serializer.serialize(remote)));
+        cacheManager.onMessage(new DefaultMessage(new byte[0], new byte[0]), null);
+
+        // then
+        then(redisUtil).should().publish(eq(TwoLevelCacheManager.EVICT_CHANNEL), any(CacheEvictMessage.class));
+        assertThat(cache.get("K000001")).isNull();
+        then(redisUtil).should(times(0)).delete(any());
+    }
+
+    @Test
+    @DisplayName("원본에서 적재한 값에 조회 시각과 soft 만료 시각을 기록")
+    void retrieve_marksFetchedTimes() {
+        // given
+        given(redisUtil.getAsync("swr:page-1")).willReturn(Mono.empty());
+        given(redisUtil.saveAsync(eq("swr:page-1"), any(), eq(Duration.ofHours(1)))).willReturn(Mono.empty());
+        JobListWindowDto fresh = new JobListWindowDto(0, List.of());
+
+        // when
+        cacheManager.getCache("swr").retrieve("page-1", () -> CompletableFuture.completedFuture(fresh)).join();
+
+        // then
+        assertThat(fresh.getFetchedAt()).isPositive();
+        assertThat(fresh.getSoftExpiresAt() - fresh.getFetchedAt()).isEqualTo(Duration.ofMinutes(10).toMillis());
+    }
+
+    @Test
+    @DisplayName("softTtl이 지난 값은 즉시 반환하고 백그라운드로 한 번 갱신")
+    void retrieve_servesStaleAndRefreshesInBackground() {
+        // given
+        long now = System.currentTimeMillis();
+        JobListWindowDto stale = new JobListWindowDto(0, List.of());
+        stale.markFetched(now - Duration.ofMinutes(20).toMillis(), now - Duration.ofMinutes(10).toMillis());
+        JobListWindowDto fresh = new JobListWindowDto(0, List.of());
+        given(redisUtil.getAsync("swr:page-1")).willReturn(Mono.just(stale));
+        given(redisUtil.saveIfAbsentAsync(eq("swr:page-1:lease"), any(), any())).willReturn(Mono.just(true));
+        given(redisUtil.saveAsync("swr:page-1", fresh, Duration.ofHours(1))).willReturn(Mono.empty());
+        given(redisUtil.deleteIfValueAsync(eq("swr:page-1:lease"), any())).willReturn(Mono.just(true));
+        TwoLevelCache swr = cacheManager.getCache("swr");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        JobListWindowDto first = swr.retrieve("page-1", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(fresh);
+        }).join();
+
+        // then
+        assertThat(first).isSameAs(stale);
+        then(redisUtil).should(timeout(2000)).publish(eq(TwoLevelCacheManager.EVICT_CHANNEL), any(CacheEvictMessage.class));
+        then(redisUtil).should().deleteIfValueAsync(eq("swr:page-1:lease"), any());
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(swr.retrieve("page-1").join()).isSameAs(fresh);
+        assertThat(meterRegistry.get("cache.two-level.stale.age").tag("cache", "swr").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("논블로킹 조회는 원본 완료 전에 반환하고, 같은 Key의 동시 미스는 원본을 한 번만 호출")
+    void retrieve_returnsBeforeLoadCompletesAndCoalesces() {
+        // given
+        given(redisUtil.getAsync("job:detail:K000001")).willReturn(Mono.empty());
+        given(redisUtil.saveAsync(eq("job:detail:K000001"), any(), eq(Duration.ofHours(1)))).willReturn(Mono.empty());
+        CompletableFuture<String> origin = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> first = cache.retrieve("K000001", () -> {
+            loads.incrementAndGet();
+            return origin;
+        });
+        CompletableFuture<String> second = cache.retrieve("K000001", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        // then
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        origin.complete("detail");
+        assertThat(first.join()).isEqualTo("detail");
+        assertThat(second.join()).isEqualTo("detail");
+        assertThat(loads.get()).isEqualTo(1);
+        then(redisUtil).should().saveAsync("job:detail:K000001", "detail", Duration.ofHours(1));
+        assertThat(cache.retrieve("K000001").join()).isEqualTo("detail");
+    }
+
+    @Test
+    @DisplayName("논블로킹 조회도 다른 노드가 임차 중이면 스레드를 재우지 않고 L2에 저장되기를 기다림")
+    void retrieve_waitsForLeaseHolderWithoutBlocking() {
+        // given
+        given(redisUtil.getAsync("jobs:list:page-1")).willReturn(Mono.empty(), Mono.just("from-other-node"));
+        given(redisUtil.saveIfAbsentAsync(eq("jobs:list:page-1:lease"), any(), eq(Duration.ofSeconds(5))))
+                .willReturn(Mono.just(false));
+
+        // when
+        CompletableFuture<String> value = cacheManager.getCache("jobList")
+                .retrieve("page-1", () -> CompletableFuture.completedFuture("from-origin"));
+
+        // then
+        assertThat(value.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("from-other-node");
+        then(redisUtil).should(times(0)).saveAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("논블로킹 조회에서도 지정한 ErrorCode로 실패한 결과를 부정 캐시")
+    void retrieve_cachesNotFoundResult() {
+        // given
+        given(redisUtil.getAsync("job:detail:K999999")).willReturn(Mono.empty());
+        given(redisUtil.saveAsync(eq("job:detail:K999999"), any(), eq(Duration.ofMinutes(5)))).willReturn(Mono.empty());
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<CompletableFuture<String>> missingJob = () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.JOB_NOT_FOUND));
+        };
+
+        // when & then
+        assertThatThrownBy(() -> cache.retrieve("K999999", missingJob).join())
+                .hasCauseInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> cache.retrieve("K999999", missingJob).join())
+                .hasCauseInstanceOf(CustomException.class);
+        assertThat(loads.get()).isEqualTo(1);
+        then(redisUtil).should().saveAsync("job:detail:K999999", new CachedFailure(ErrorCode.JOB_NOT_FOUND),
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("마지막 값 대체 영역은 저장할 때 사본을 더 긴 TTL로 함께 저장")
+    void put_keepsLastKnownCopy() {
+        // when
+        cacheManager.getCache("lastKnown").put("page-1", "list");
+
+        // then
+        then(redisUtil).should().saveAll(eq(Map.of("lk:page-1", "list", "lk:page-1:last-known", "list")),
+                ArgumentMatchers.<Function<String, Duration>>argThat(ttlOf ->
+                        ttlOf.apply("lk:page-1").equals(Duration.ofHours(1))
+                                && ttlOf.apply("lk:page-1:last-known").equals(Duration.ofDays(3))));
+    }
+
+    @Test
+    @DisplayName("기한 만료 영역은 기한이 있는 값을 영역 TTL 대신 '기한 + deadlineGrace'까지만 보관")
+    void put_capsTtlAtDeadline() {
+        // given - 오늘 마감인 공고와 상시 모집 공고
+        TwoLevelCache deadline = cacheManager.getCache("deadline");
+        JobDetailResponseDto closingToday = JobDetailResponseDto.builder()
+                .id("K1").endDate(LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE)).build();
+        JobDetailResponseDto alwaysOpen = JobDetailResponseDto.builder().id("K2").endDate("상시 모집").build();
+
+        // when
+        deadline.put("K1", closingToday);
+        deadline.put("K2", alwaysOpen);
+
+        // then - 오늘 마감: 자정까지 남은 시간 + 1시간 (최대 25시간)
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        then(redisUtil).should().save(eq("dl:K1"), eq(closingToday), ttl.capture());
+        assertThat(ttl.getValue()).isGreaterThan(Duration.ofHours(1)).isLessThanOrEqualTo(Duration.ofHours(25));
+        then(redisUtil).should().save("dl:K2", alwaysOpen, Duration.ofDays(3));
+    }
+
+    @Test
+    @DisplayName("원본이 지정한 ErrorCode로 실패하면 hard TTL이 지나 L2에 없는 값이라도 마지막 값 사본을 반환")
+    void retrieve_fallsBackToLastKnownValue() {
+        // given
+        given(redisUtil.getAsync("lk:page-1")).willReturn(Mono.empty());
+        given(redisUtil.getAsync("lk:page-1:last-known")).willReturn(Mono.just("old-list"));
+        given(redisUtil.getAsync("lk:page-2")).willReturn(Mono.empty());
+        TwoLevelCache lastKnown = cacheManager.getCache("lastKnown");
+
+        // when
+        CompletableFuture<String> value = lastKnown.retrieve("page-1",
+                () -> CompletableFuture.failedFuture(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE)));
+
+        // then
+        assertThat(value.join()).isEqualTo("old-list");
+        assertThat(meterRegistry.get("cache.two-level.last-known.fallbacks").tag("cache", "lastKnown")
+                .counter().count()).isEqualTo(1);
+        then(redisUtil).should(times(0)).saveAsync(any(), any(), any());
+
+        // 대상이 아닌 실패는 그대로 전달
+        assertThatThrownBy(() -> lastKnown.retrieve("page-2",
+                () -> CompletableFuture.failedFuture(new CustomException(ErrorCode.JOB_NOT_FOUND))).join())
+                .hasCauseInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("설정에 없는 영역 이름은 null 대신 IllegalArgumentException")
+    void getCache_rejectsUnknownName() {
+        assertThatThrownBy(() -> cacheManager.getCache("jobDetial"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jobDetial");
+    }
+}
@@ -0,0 +1,113 @@
+package com.know_who_how.main_server.global.catalog;
+
+import com.know_who_how.main_server.global.entity.Keyword.Keyword;
+import com.know_who_how.main_server.global.entity.Term.Term;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.user.repository.KeywordRepository;
+import com.know_who_how.main_server.user.repository.TermRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceCatalogTest {
+
+    @Mock
+    private TermRepository termRepository;
+    @Mock
+    private KeywordRepository keywordRepository;
+    @Mock
+    private RedisUtil redisUtil;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ReferenceCatalog referenceCatalog;
+
+    @BeforeEach
+    void setUp() {
+        referenceCatalog = new ReferenceCatalog(termRepository, keywordRepository, redisUtil, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 뒤에는 id/이름 조회와 필수 약관 조회에 DB를 사용하지 않음")
+    void lookups_useLoadedSnapshot() {
+        // given
+        Term required = term(1L, true);
+        Term optional = term(2L, false);
+        Keyword travel = keyword(10L, "여행");
+        given(termRepository.findAll()).willReturn(List.of(required, optional));
+        given(keywordRepository.findAll()).willReturn(List.of(travel));
+
+        // when
+        referenceCatalog.onApplicationReady();
+
+        // then
+        assertThat(referenceCatalog.getRequiredTerms()).containsExactly(required);
+        assertThat(referenceCatalog.findTerm(2L)).contains(optional);
+        assertThat(referenceCatalog.findTerm(99L)).isEmpty();
+        assertThat(referenceCatalog.findKeyword(10L)).contains(travel);
+        assertThat(referenceCatalog.findKeywordByName("여행")).contains(travel);
+        then(termRepository).should(times(1)).findAll();
+        then(keywordRepository).should(times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("기동 시 적재에 실패하면 첫 조회 시 다시 적재")
+    void firstLookup_loadsWhenStartupFailed() {
+        // given
+        given(termRepository.findAll())
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(List.of(term(1L, true)));
+        given(keywordRepository.findAll()).willReturn(List.of());
+        referenceCatalog.onApplicationReady();
+
+        // when & then
+        assertThat(referenceCatalog.findTerm(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("갱신 요청 시 로컬 스냅샷을 교체하고 다른 노드에 전파, 수신한 노드도 다시 적재")
+    void requestRefresh_reloadsAndPublishes() {
+        // given
+        given(termRepository.findAll()).willReturn(List.of());
+        given(keywordRepository.findAll())
+                .willReturn(List.of())
+                .willReturn(List.of(keyword(11L, "귀농")));
+
+        // when
+        referenceCatalog.requestRefresh();
+        referenceCatalog.onMessage(mock(Message.class), null);
+
+        // then
+        then(redisUtil).should().publish(any(), any());
+        assertThat(referenceCatalog.findKeywordByName("귀농")).isPresent();
+    }
+
+    private Term term(Long id, boolean required) {
+        Term term = mock(Term.class);
+        given(term.getId()).willReturn(id);
+        given(term.isRequired()).willReturn(required);
+        return term;
+    }
+
+    private Keyword keyword(Long id, String name) {
+        Keyword keyword = mock(Keyword.class);
+        given(keyword.getId()).willReturn(id);
+        given(keyword.getName()).willReturn(name);
+        return keyword;
+    }
+}
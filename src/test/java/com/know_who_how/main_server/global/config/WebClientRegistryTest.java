@@ -0,0 +1,82 @@
+package com.know_who_how.main_server.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebClientRegistryTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private DisposableServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private WebClientRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .doOnChannelInit((observer, channel, remoteAddress) -> connections.incrementAndGet())
+                .route(routes -> routes.get("/ping", (request, response) -> response.sendString(Mono.just("pong"))))
+                .bindNow();
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setClients(Map.of(
+                // 커넥션 1개 풀 - 반납 전에 시작한 요청은 새로 연결하지 않고 반납을 기다림
+                "local", HttpClientProperties.Client.of(1, Duration.ofSeconds(2)),
+                // HTTP/2 설정이어도 HTTPS가 아닌 주소는 HTTP/1.1로 통신
+                "local-h2", HttpClientProperties.Client.of(2, Duration.ofSeconds(2)).withHttp2()));
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new WebClientRegistry(properties, WebClient.builder(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("같은 이름의 클라이언트는 커넥션 풀을 공유하여 연속 요청에 keep-alive 커넥션을 재사용")
+    void reusesPooledConnections() {
+        // given
+        String url = "http://localhost:" + server.port() + "/ping";
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(registry.get("local").get().uri(url).retrieve().bodyToMono(String.class).block())
+                    .isEqualTo("pong");
+        }
+        assertThat(registry.builder("local").build().get().uri(url).retrieve().bodyToMono(String.class).block())
+                .isEqualTo("pong");
+
+        // then
+        assertThat(connections.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.exchanges").tag("client", "local").tag("outcome", "success")
+                .timer().count()).isEqualTo(6);
+        assertThat(registry.get("local")).isSameAs(registry.get("local"));
+    }
+
+    @Test
+    @DisplayName("HTTP/2 클라이언트도 HTTP 주소를 호출할 수 있고, 등록되지 않은 이름은 거절")
+    void http2ClientAndUnknownName() {
+        // when
+        String body = registry.get("local-h2").get().uri("http://localhost:" + server.port() + "/ping")
+                .retrieve().bodyToMono(String.class).block();
+
+        // then
+        assertThat(body).isEqualTo("pong");
+        assertThatThrownBy(() -> registry.get("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.know_who_how.main_server.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.util.RedisValueCodec;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebConfigTest {
+
+    @Test
+    @DisplayName("캐시 갱신 판단용 시각(fetchedAt, softExpiresAt)은 HTTP 응답 JSON에서 빠지고, Redis 값에는 그대로 저장")
+    void cacheMetadataExclusion_hidesSoftExpiryFromHttpOnly() throws Exception {
+        // given
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new WebConfig().cacheMetadataExclusion().customize(builder);
+        ObjectMapper httpMapper = builder.build();
+        JobDetailResponseDto detail = JobDetailResponseDto.builder().id("K1").title("경비원 모집").build();
+        detail.markFetched(1_000L, 2_000L);
+        RedisValueCodec codec = new RedisValueCodec(Map.of(4, JobDetailResponseDto.class),
+                RedisValueCodec.WriteFormat.BINARY, 1024);
+
+        // when
+        String json = httpMapper.writeValueAsString(detail);
+        JobDetailResponseDto cached = (JobDetailResponseDto) codec.deserialize(codec.serialize(detail));
+
+        // then
+        assertThat(json).contains("\"id\":\"K1\"").doesNotContain("fetchedAt").doesNotContain("softExpiresAt");
+        assertThat(cached.getFetchedAt()).isEqualTo(1_000L);
+        assertThat(cached.getSoftExpiresAt()).isEqualTo(2_000L);
+    }
+}
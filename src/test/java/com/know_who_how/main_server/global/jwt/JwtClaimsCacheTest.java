@@ -0,0 +1,37 @@
+package com.know_who_how.main_server.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    @Test
+    @DisplayName("exp가 지난 Claims는 반환하지 않고, 항목 수는 최대 크기를 넘지 않음")
+    void put_expiresAtTokenExpAndStaysBounded() {
+        // given
+        JwtProperties props = new JwtProperties();
+        props.setClaimsCacheMaxSize(10);
+        JwtClaimsCache cache = new JwtClaimsCache(props, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        Claims expired = Jwts.claims().subject("1").expiration(new Date(now - 1_000)).build();
+        Claims valid = Jwts.claims().subject("2").expiration(new Date(now + 60_000)).build();
+
+        // when
+        cache.put("expired-token", expired);
+        cache.put("valid-token", valid);
+        for (int i = 0; i < 100; i++) {
+            cache.put("token-" + i, valid);
+        }
+
+        // then
+        assertThat(cache.get("expired-token")).isNull();
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+}
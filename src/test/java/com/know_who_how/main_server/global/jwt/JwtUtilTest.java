@@ -0,0 +1,128 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.know_who_how.main_server.global.entity.User.User;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class JwtUtilTest {
+
+    @Mock
+    private UserPrincipalCache principalCache;
+
+    private JwtClaimsCache claimsCache;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("c3ByaW5nLWJvb3QtdGVzdC1hdXRoLWtleS13aWxsLWJlLTQ4LWNoYXJhY3RlcnMtZm9yLWhzNTEyLXNpZ25pbmctYWxnb3JpdGhtLXRlc3Q=");
+        props.setRefreshSecret("c3ByaW5nLWJvb3QtcmVmcmVzaC1rZXktd2lsbC1iZS00OC1jaGFyYWN0ZXJzLWZmLWZvci1oczUxMi1zaWduaW5nLWFsZ29yaXRobS10ZXN0");
+        props.setAccessTokenValidityInSeconds(1800);
+        props.setRefreshTokenValidityInSeconds(604800);
+
+        claimsCache = new JwtClaimsCache(props, new SimpleMeterRegistry());
+        jwtUtil = new JwtUtil(props, claimsCache, principalCache);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("같은 Access Token은 두 번째 요청부터 캐시된 Claims를 재사용")
+    void parseAccessClaims_reusesCachedClaims() {
+        // given
+        String token = jwtUtil.createAccessToken(1L, List.of("ROLE_USER"));
+
+        // when
+        Claims first = jwtUtil.parseAccessClaims(token);
+        Claims second = jwtUtil.parseAccessClaims(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("1");
+        assertThat(claimsCache.getMissCount()).isEqualTo(1);
+        assertThat(claimsCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명이 위조된 토큰은 캐시되지 않고 INVALID_TOKEN_SIGNATURE 예외")
+    void parseAccessClaims_rejectsTamperedToken() {
+        // given
+        String token = jwtUtil.createAccessToken(1L, List.of("ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.parseAccessClaims(tampered))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN_SIGNATURE);
+        assertThat(claimsCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자에게 같은 초에 연속으로 재발급한 Refresh Token도 서로 다름")
+    void createRefreshToken_isUniqueWithinSameSecond() {
+        // given - 재발급(회전)을 같은 초 안에 두 번 연속 수행
+        String first = jwtUtil.createRefreshToken(1L);
+        String second = jwtUtil.createRefreshToken(1L);
+        String third = jwtUtil.createRefreshToken(1L);
+
+        // then
+        assertThat(List.of(first, second, third)).doesNotHaveDuplicates();
+        assertThat(jwtUtil.extractUserId(third, true)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 키로 서명된 토큰은 Access Token 검증을 통과하지 못함")
+    void parseAccessClaims_rejectsRefreshToken() {
+        String refreshToken = jwtUtil.createRefreshToken(1L);
+
+        assertThatThrownBy(() -> jwtUtil.parseAccessClaims(refreshToken))
+                .isInstanceOf(CustomException.class);
+        assertThat(jwtUtil.validateRefreshToken(refreshToken)).isTrue();
+        assertThat(jwtUtil.extractUserId(refreshToken, true)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("인증 정보는 principal 캐시 스냅샷과 토큰의 권한으로 구성하고, 검증한 Claims를 넘기면 토큰을 다시 조회하지 않음")
+    void getAuthentication_usesPrincipalSnapshot() {
+        // given
+        String token = jwtUtil.createAccessToken(1L, List.of("ROLE_USER"));
+        given(principalCache.get(1L)).willReturn(PrincipalSnapshot.builder()
+                .userId(1L)
+                .loginId("tester")
+                .birth("1960-05-01")
+                .userMydataRegistration(true)
+                .build());
+
+        // when
+        Claims claims = jwtUtil.parseAccessClaims(token);
+        Authentication authentication = jwtUtil.getAuthentication(token, claims);
+
+        // then
+        User principal = (User) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getBirth()).hasYear(1960);
+        assertThat(principal.isUserMydataRegistration()).isTrue();
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(claimsCache.getMissCount()).isEqualTo(1);
+        assertThat(claimsCache.getHitCount()).isZero();
+    }
+}
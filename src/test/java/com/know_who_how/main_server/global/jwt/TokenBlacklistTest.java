@@ -0,0 +1,102 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.know_who_how.main_server.global.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklist = new TokenBlacklist(redisUtil, listenerContainer, new JwtProperties());
+    }
+
+    @Test
+    @DisplayName("기동 시 Redis의 blacklist 키로 필터를 재구성하고, 필터 음성이면 Redis를 조회하지 않음")
+    void isRevoked_skipsRedisWhenFilterNegative() {
+        // given
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            consumer.accept("blacklist:revoked-jti");
+            return null;
+        }).given(redisUtil).scanKeys(eq("blacklist:*"), any());
+        given(redisUtil.hasKey("blacklist:revoked-jti")).willReturn(true);
+        tokenBlacklist.init();
+
+        // when & then
+        assertThat(tokenBlacklist.isRevoked("token", "active-jti")).isFalse();
+        assertThat(tokenBlacklist.isRevoked("token", "revoked-jti")).isTrue();
+        then(redisUtil).should(never()).hasKey("blacklist:active-jti");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 jti는 로컬 필터에 추가되어 Redis로 확인")
+    void onMessage_addsTokenIdToFilter() {
+        // given
+        tokenBlacklist.init();
+        Message message = mock(Message.class);
+        given(redisUtil.readMessage(message)).willReturn("remote-jti");
+        given(redisUtil.hasKey("blacklist:remote-jti")).willReturn(true);
+
+        // when
+        tokenBlacklist.onMessage(message, null);
+
+        // then
+        assertThat(tokenBlacklist.isRevoked("token", "remote-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 재구성에 실패하면 모든 jti를 Redis로 확인")
+    void isRevoked_fallsBackToRedisWhenRebuildFails() {
+        // given
+        willThrow(new IllegalStateException("redis down")).given(redisUtil).scanKeys(anyString(), any());
+        tokenBlacklist.init();
+
+        // when
+        tokenBlacklist.isRevoked("token", "unknown-jti");
+
+        // then
+        then(redisUtil).should().hasKey("blacklist:unknown-jti");
+    }
+
+    @Test
+    @DisplayName("jti가 없는 기존 토큰은 토큰 원문 키로 저장/조회")
+    void legacyTokenWithoutJti_usesRawTokenKey() {
+        // when
+        tokenBlacklist.revoke("legacy-token", null, Duration.ofMinutes(5));
+        tokenBlacklist.isRevoked("legacy-token", null);
+
+        // then
+        then(redisUtil).should().save("legacy-token", "logout", Duration.ofMinutes(5));
+        then(redisUtil).should().get("legacy-token");
+        then(redisUtil).should(never()).publish(anyString(), any());
+    }
+}
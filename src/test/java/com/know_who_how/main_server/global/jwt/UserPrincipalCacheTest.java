@@ -0,0 +1,89 @@
+package com.know_who_how.main_server.global.jwt;
+
+import com.know_who_how.main_server.global.entity.User.User;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private static final String KEY = "user:principal:{1}";
+    private static final String VERSION_KEY = "user:principal:{1}:version";
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private RedisUtil redisUtil;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private UserPrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new UserPrincipalCache(userRepository, redisUtil, listenerContainer, new JwtProperties());
+    }
+
+    @Test
+    @DisplayName("L1/L2 미스 시 DB 조회 전에 읽은 L2 버전으로만 저장하고, 다음 조회는 L1에서 응답")
+    void get_savesToRedisOnlyWithVersionReadBeforeDatabase() {
+        // given
+        given(redisUtil.get(KEY)).willReturn(null);
+        given(redisUtil.get(VERSION_KEY)).willReturn("v1");
+        given(userRepository.findById(1L)).willReturn(Optional.of(User.principalOf(1L, "tester", "테스터",
+                "01012345678", null, null, 0L, null, null, false, false, List.of())));
+
+        // when
+        PrincipalSnapshot first = principalCache.get(1L);
+        PrincipalSnapshot second = principalCache.get(1L);
+
+        // then
+        InOrder inOrder = inOrder(redisUtil, userRepository);
+        inOrder.verify(redisUtil).get(VERSION_KEY);
+        inOrder.verify(userRepository).findById(1L);
+        inOrder.verify(redisUtil).saveIfVersion(eq(KEY), eq(first), any(Duration.class), eq(VERSION_KEY), eq("v1"));
+        assertThat(second).isSameAs(first);
+        then(userRepository).should(times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 수신 시 L2 버전을 바꾼 뒤 L2를 삭제하고 다른 노드에 전파, 로컬 항목도 다시 조회")
+    void onUserPrincipalChanged_rotatesVersionBeforeDeleting() {
+        // given
+        PrincipalSnapshot cached = PrincipalSnapshot.builder().userId(1L).loginId("tester").build();
+        given(redisUtil.get(KEY)).willReturn(cached);
+        principalCache.get(1L);
+
+        // when
+        principalCache.onUserPrincipalChanged(new UserPrincipalChangedEvent(1L));
+        principalCache.get(1L);
+
+        // then
+        InOrder inOrder = inOrder(redisUtil);
+        inOrder.verify(redisUtil).save(eq(VERSION_KEY), anyString(), any(Duration.class));
+        inOrder.verify(redisUtil).delete(KEY);
+        inOrder.verify(redisUtil).publish(UserPrincipalCache.EVICT_CHANNEL, 1L);
+        then(redisUtil).should(times(2)).get(KEY);
+    }
+}
@@ -0,0 +1,96 @@
+package com.know_who_how.main_server.global.util;
+
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.exception.RetryLaterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 최근 4건 중 50% 이상 실패하거나 느리면 OPEN, 10초 뒤 시험 호출 1건
+        CircuitBreaker.Config config = new CircuitBreaker.Config(4, 4, 50,
+                Duration.ofSeconds(2), 50, Duration.ofSeconds(10), 1);
+        breaker = new CircuitBreaker("test", config,
+                e -> !(e instanceof CustomException customException)
+                        || customException.getErrorCode() != ErrorCode.JOB_NOT_FOUND,
+                retryAfter -> new RetryLaterException(ErrorCode.EXTERNAL_API_UNAVAILABLE,
+                        (int) retryAfter.toSeconds()),
+                meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 원본을 호출하지 않고 거절하고, openDuration 뒤 시험 호출이 성공하면 다시 CLOSED")
+    void opensOnFailureRateAndClosesAfterSuccessfulTrial() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new CustomException(ErrorCode.EXTERNAL_API_SERVER_ERROR));
+        });
+        call("ok");
+        call("ok");
+        callFailing(failing);
+        callFailing(failing);
+
+        // when & then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.decorate(failing).block())
+                .isInstanceOf(RetryLaterException.class)
+                .satisfies(e -> assertThat(((RetryLaterException) e).getRetryAfterSeconds()).isEqualTo(10));
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("circuit-breaker.rejections").counter().count()).isEqualTo(1);
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(meterRegistry.get("circuit-breaker.state").gauge().value()).isEqualTo(2);
+        assertThat(call("trial")).isEqualTo("trial");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패로 세지 않는 예외(ex. 4xx)는 서킷을 열지 않지만, 느린 호출이 많으면 성공해도 OPEN")
+    void ignoresClientErrorsButOpensOnSlowCalls() {
+        // given
+        Mono<String> notFound = Mono.error(new CustomException(ErrorCode.JOB_NOT_FOUND));
+        for (int i = 0; i < 4; i++) {
+            callFailing(notFound);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // when
+        Mono<String> slow = Mono.fromSupplier(() -> {
+            now.addAndGet(Duration.ofSeconds(3).toNanos());
+            return "slow";
+        });
+        breaker.decorate(slow).block();
+        breaker.decorate(slow).block();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private String call(String value) {
+        return breaker.decorate(Mono.just(value)).block();
+    }
+
+    private void callFailing(Mono<String> call) {
+        assertThatThrownBy(() -> breaker.decorate(call).block()).isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.know_who_how.main_server.global.util;
+
+import com.know_who_how.main_server.global.config.RedisNearCacheProperties;
+import io.lettuce.core.api.push.PushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RedisNearCacheTest {
+
+    private static final String KEY = "mydata:access:1";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer();
+    private SimpleMeterRegistry meterRegistry;
+    private RedisNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(new StringRedisSerializer()).when(redisTemplate).getKeySerializer();
+        lenient().doReturn(valueSerializer).when(redisTemplate).getValueSerializer();
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new RedisNearCache(redisTemplate, new RedisNearCacheProperties(), meterRegistry);
+        nearCache.onTrackingEnabled();
+    }
+
+    @Test
+    @DisplayName("대상 prefix의 Key는 한 번 읽은 뒤 로컬에서 반환하고 prefix별 적중 수를 기록")
+    @SuppressWarnings("unchecked")
+    void get_servesRepeatedReadsLocally() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(Arrays.asList(valueSerializer.serialize("token"), 60_000L));
+
+        // when
+        Object first = nearCache.get(KEY);
+        Object second = nearCache.get(KEY);
+
+        // then
+        assertThat(first).isEqualTo("token");
+        assertThat(second).isEqualTo("token");
+        then(redisTemplate).should(times(1)).executePipelined(any(RedisCallback.class), any(RedisSerializer.class));
+        assertThat(nearCache.covers(KEY)).isTrue();
+        assertThat(nearCache.covers("refresh:token:1")).isFalse();
+        assertThat(meterRegistry.get("redis.near-cache.requests")
+                .tags("prefix", "mydata:access:", "result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화된 Key는 로컬에 채우지 않음")
+    @SuppressWarnings("unchecked")
+    void get_doesNotFillWhenInvalidatedDuringLoad() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willAnswer(invocation -> {
+                    nearCache.onPushMessage(invalidateMessage(KEY));
+                    return Arrays.asList(valueSerializer.serialize("stale"), 60_000L);
+                })
+                .willReturn(Arrays.asList(valueSerializer.serialize("fresh"), 60_000L));
+
+        // when
+        nearCache.get(KEY);
+        Object afterInvalidation = nearCache.get(KEY);
+
+        // then
+        assertThat(afterInvalidation).isEqualTo("fresh");
+        then(redisTemplate).should(times(2)).executePipelined(any(RedisCallback.class), any(RedisSerializer.class));
+    }
+
+    @Test
+    @DisplayName("Redis 무효화 알림을 받으면 다음 조회는 Redis에서 다시 읽음")
+    @SuppressWarnings("unchecked")
+    void onPushMessage_evictsKey() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(Arrays.asList(valueSerializer.serialize("v1"), 60_000L))
+                .willReturn(Arrays.asList(valueSerializer.serialize("v2"), 60_000L));
+        nearCache.get(KEY);
+
+        // when
+        nearCache.onPushMessage(invalidateMessage(KEY));
+
+        // then
+        assertThat(nearCache.get(KEY)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Redis에 없는 Key는 로컬에 보관하지 않음")
+    @SuppressWarnings("unchecked")
+    void get_doesNotCacheMissingKey() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(Arrays.asList(null, -2L));
+
+        // when
+        nearCache.get(KEY);
+        nearCache.get(KEY);
+
+        // then
+        then(redisTemplate).should(times(2)).executePipelined(any(RedisCallback.class), any(RedisSerializer.class));
+    }
+
+    private static PushMessage invalidateMessage(String... keys) {
+        return new PushMessage() {
+            @Override
+            public String getType() {
+                return "invalidate";
+            }
+
+            @Override
+            public List<Object> getContent() {
+                return getContent(buffer -> buffer);
+            }
+
+            @Override
+            public List<Object> getContent(Function<ByteBuffer, Object> decodeFunction) {
+                List<Object> changed = Arrays.stream(keys)
+                        .map(key -> decodeFunction.apply(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8))))
+                        .toList();
+                return List.of(decodeFunction.apply(ByteBuffer.wrap("invalidate".getBytes(StandardCharsets.UTF_8))), changed);
+            }
+        };
+    }
+}
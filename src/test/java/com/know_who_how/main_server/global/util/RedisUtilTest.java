@@ -0,0 +1,85 @@
+package com.know_who_how.main_server.global.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class RedisUtilTest {
+
+    private static final String KEY = "mydata:access:1";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    @Mock
+    private ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+    @Mock
+    private ReactiveValueOperations<String, Object> reactiveValueOperations;
+    @Mock
+    private RedisNearCache nearCache;
+
+    private RedisUtil redisUtil;
+
+    @BeforeEach
+    void setUp() {
+        redisUtil = new RedisUtil(redisTemplate, reactiveRedisTemplate, reactiveBytesRedisTemplate, nearCache);
+    }
+
+    @Test
+    @DisplayName("비동기 SET NX는 저장했을 때만 근접 캐시를 무효화")
+    void saveIfAbsentAsync_invalidatesNearCacheWhenSaved() {
+        // given
+        given(reactiveRedisTemplate.opsForValue()).willReturn(reactiveValueOperations);
+        given(reactiveValueOperations.setIfAbsent(KEY, "token", Duration.ofMinutes(1)))
+                .willReturn(Mono.just(true), Mono.just(false));
+
+        // when
+        Boolean saved = redisUtil.saveIfAbsentAsync(KEY, "token", Duration.ofMinutes(1)).block();
+
+        // then
+        assertThat(saved).isTrue();
+        then(nearCache).should().invalidate(KEY);
+
+        // when - 이미 있는 Key
+        Boolean savedAgain = redisUtil.saveIfAbsentAsync(KEY, "token", Duration.ofMinutes(1)).block();
+
+        // then
+        assertThat(savedAgain).isFalse();
+        then(nearCache).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("비동기 조건부 삭제 후 근접 캐시를 무효화")
+    @SuppressWarnings("unchecked")
+    void deleteIfValueAsync_invalidatesNearCache() {
+        // given
+        given(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .willReturn(Flux.just(1L));
+
+        // when
+        Boolean deleted = redisUtil.deleteIfValueAsync(KEY, "token").block();
+
+        // then
+        assertThat(deleted).isTrue();
+        then(nearCache).should().invalidate(KEY);
+    }
+}
@@ -0,0 +1,134 @@
+package com.know_who_how.main_server.global.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.jwt.PrincipalSnapshot;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.dto.JobListWindowDto;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import com.know_who_how.main_server.job.service.JobIndexSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisValueCodecTest {
+
+    private final Map<Integer, Class<?>> types = RedisValueCodec.scanTypes("com.know_who_how.main_server");
+
+    @Test
+    @DisplayName("@RedisTypeId가 붙은 타입은 클래스 이름 없이 바이너리로 저장하고 그대로 복원")
+    void binary_roundTripWithoutClassName() {
+        // given
+        RedisValueCodec codec = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+        PrincipalSnapshot snapshot = PrincipalSnapshot.builder()
+                .userId(1L).loginId("tester").birth("1960-05-01").userMydataRegistration(true).build();
+
+        // when
+        byte[] bytes = codec.serialize(snapshot);
+        PrincipalSnapshot restored = (PrincipalSnapshot) codec.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(RedisValueCodec.MAGIC);
+        assertThat(new String(bytes)).doesNotContain(PrincipalSnapshot.class.getName());
+        assertThat(bytes.length).isLessThan(new GenericJackson2JsonRedisSerializer().serialize(snapshot).length);
+        assertThat(restored.getLoginId()).isEqualTo("tester");
+        assertThat(restored.isUserMydataRegistration()).isTrue();
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 본문은 LZ4로 압축")
+    void binary_compressesLargeBody() {
+        // given
+        RedisValueCodec codec = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+        JobDetailResponseDto detail = JobDetailResponseDto.builder()
+                .id("K000001")
+                .description("주 5일 근무, 4대 보험 가입, 식사 제공. ".repeat(1000))
+                .build();
+
+        // when
+        byte[] bytes = codec.serialize(detail);
+        JobDetailResponseDto restored = (JobDetailResponseDto) codec.deserialize(bytes);
+
+        // then
+        assertThat(bytes[2] & RedisValueCodec.FLAG_LZ4).isNotZero();
+        assertThat(bytes.length).isLessThan(detail.getDescription().length());
+        assertThat(restored.getDescription()).isEqualTo(detail.getDescription());
+    }
+
+    @Test
+    @DisplayName("검색 색인 원본(공고 목록)도 바이너리로 저장하고 그대로 복원")
+    void binary_roundTripsIndexSnapshot() throws Exception {
+        // given
+        RedisValueCodec codec = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+        List<OpenApiJobItem> items = new ObjectMapper().readValue("""
+                [{"jobId":"K000001","recrtTitle":"아파트 경비원","workPlcNm":"대전광역시 중구","toDd":"2099-01-01"}]""",
+                new TypeReference<>() {});
+
+        // when
+        JobIndexSnapshot restored = (JobIndexSnapshot) codec.deserialize(codec.serialize(new JobIndexSnapshot(7L, items)));
+
+        // then
+        assertThat(restored.builtAt()).isEqualTo(7L);
+        assertThat(restored.items()).singleElement()
+                .satisfies(item -> assertThat(item.getWorkPlcNm()).isEqualTo("대전광역시 중구"));
+    }
+
+    @Test
+    @DisplayName("목록 묶음(jobId 목록)과 공고 캐시 값도 바이너리로 저장하고 그대로 복원")
+    void binary_roundTripsListWindowAndPosting() throws Exception {
+        // given
+        RedisValueCodec codec = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+        JobListWindowDto window = new JobListWindowDto(250, List.of("K000001", "K000002"));
+        window.markFetched(1L, 2L);
+        OpenApiJobItem posting = new ObjectMapper().readValue("""
+                {"jobId":"K000001","recrtTitle":"아파트 경비원","emplymShpNm":"CM0101","jobclsNm":"경비원"}""",
+                OpenApiJobItem.class);
+
+        // when
+        byte[] windowBytes = codec.serialize(window);
+        JobListWindowDto restoredWindow = (JobListWindowDto) codec.deserialize(windowBytes);
+        OpenApiJobItem restoredPosting = (OpenApiJobItem) codec.deserialize(codec.serialize(posting));
+
+        // then
+        assertThat(windowBytes[0]).isEqualTo(RedisValueCodec.MAGIC);
+        assertThat(restoredWindow.getTotalCount()).isEqualTo(250);
+        assertThat(restoredWindow.getJobIds()).containsExactly("K000001", "K000002");
+        assertThat(restoredWindow.getSoftExpiresAt()).isEqualTo(2L);
+        assertThat(restoredPosting.getJobclsNm()).isEqualTo("경비원");
+        assertThat(restoredPosting.getEmplymShpNm()).isEqualTo("CM0101");
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 값도 읽음 (운영 중 형식 전환)")
+    void deserialize_readsLegacyJson() {
+        // given
+        RedisValueCodec codec = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+        byte[] legacy = new GenericJackson2JsonRedisSerializer()
+                .serialize(PrincipalSnapshot.builder().userId(7L).loginId("legacy").build());
+
+        // when
+        Object restored = codec.deserialize(legacy);
+
+        // then
+        assertThat(restored).isInstanceOf(PrincipalSnapshot.class);
+        assertThat(((PrincipalSnapshot) restored).getUserId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("JSON 쓰기 모드이거나 타입 ID가 없는 값은 기존 JSON 형식으로 저장")
+    void serialize_fallsBackToJson() {
+        // given
+        RedisValueCodec jsonMode = new RedisValueCodec(types, RedisValueCodec.WriteFormat.JSON, 1024);
+        RedisValueCodec binaryMode = new RedisValueCodec(types, RedisValueCodec.WriteFormat.BINARY, 1024);
+
+        // when & then
+        assertThat(jsonMode.serialize(PrincipalSnapshot.builder().userId(1L).build())[0]).isEqualTo((byte) '{');
+        assertThat(binaryMode.serialize("logout")).isEqualTo("\"logout\"".getBytes());
+        assertThat(binaryMode.deserialize(binaryMode.serialize("logout"))).isEqualTo("logout");
+    }
+}
@@ -22,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,6 +47,7 @@ class AccessControlServiceTest {
     @Mock private InheritanceVideoRepository videoRepository;
     @Mock private InheritanceRecipientRepository recipientRepository;
     @Mock private S3Service s3Service;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private EmailService emailService;
     @Mock private InheritanceRepository inheritanceRepository;
 
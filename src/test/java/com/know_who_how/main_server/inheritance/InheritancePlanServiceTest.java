@@ -4,6 +4,7 @@ import com.know_who_how.main_server.global.entity.Inheritance.Inheritance;
 import com.know_who_how.main_server.global.entity.User.User;
 import com.know_who_how.main_server.global.exception.CustomException;
 import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.global.jwt.UserPrincipalChangedEvent;
 import com.know_who_how.main_server.inheritance.dto.InheritancePlanResponse;
 import com.know_who_how.main_server.inheritance.repository.InheritanceVideoRepository;
 import com.know_who_how.main_server.inheritance.service.EmailService;
@@ -20,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -43,6 +45,7 @@ class InheritancePlanServiceTest {
     @Mock private InheritanceRepository inheritanceRepository;
     @Mock private InheritanceVideoRepository videoRepository;
     @Mock private S3Service s3Service;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private EmailService emailService;
 
     // 테스트용 상수 및 Mock 객체
@@ -89,6 +92,7 @@ class InheritancePlanServiceTest {
 
         // 1. User 레코드의 상태 변경 메서드가 호출되었는지 확인 (false -> true)
         then(mockUser).should().markInheritanceRegistered();
+        then(eventPublisher).should().publishEvent(new UserPrincipalChangedEvent(TEST_USER_ID));
 
         // 2. Inheritance 레코드가 DB에 저장 요청되었는지 확인
         then(inheritanceRepository).should().save(any(Inheritance.class));
@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.net.MalformedURLException;
 import java.util.Optional;
@@ -45,6 +46,7 @@ public class VideoManagementServiceTest {
     @Mock private InheritanceRepository inheritanceRepository;
     @Mock private InheritanceVideoRepository videoRepository;
     @Mock private S3Service s3Service;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private static final Long TEST_USER_ID = 1L;
     private static final Long OTHER_USER_ID = 2L;
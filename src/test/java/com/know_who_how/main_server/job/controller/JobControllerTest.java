@@ -0,0 +1,145 @@
+package com.know_who_how.main_server.job.controller;
+
+import com.know_who_how.main_server.global.cache.ResponseBytesCache;
+import com.know_who_how.main_server.global.config.ResponseCacheProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.service.JobDetailPrefetcher;
+import com.know_who_how.main_server.job.service.JobSearchPopularity;
+import com.know_who_how.main_server.job.service.JobSearchService;
+import com.know_who_how.main_server.job.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class JobControllerTest {
+
+    // Tomcat 기본 요청 스레드 수(200)보다 많은 동시 요청
+    private static final int IN_FLIGHT_REQUESTS = 500;
+
+    @Mock
+    private JobService jobService;
+    @Mock
+    private JobSearchPopularity jobSearchPopularity;
+    @Mock
+    private JobSearchService jobSearchService;
+    @Mock
+    private JobDetailPrefetcher jobDetailPrefetcher;
+    @Mock
+    private RedisUtil redisUtil;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Redis에는 저장된 응답이 없는 상태 (로컬 캐시만 동작)
+        given(redisUtil.getBytesAsync(anyString())).willReturn(Mono.empty());
+        given(redisUtil.saveBytesAsync(anyString(), any(), any())).willReturn(Mono.empty());
+        ResponseBytesCache responseBytesCache = new ResponseBytesCache(redisUtil,
+                Jackson2ObjectMapperBuilder.json().build(), new ResponseCacheProperties(), new SimpleMeterRegistry());
+        JobController jobController = new JobController(jobService, jobSearchPopularity, jobSearchService,
+                jobDetailPrefetcher, responseBytesCache);
+        mockMvc = MockMvcBuilders.standaloneSetup(jobController).build();
+    }
+
+    @Test
+    @DisplayName("외부 API 응답을 기다리는 동안 요청 스레드를 반납하여, 한 스레드로도 스레드 풀보다 많은 요청을 동시에 처리")
+    void getJobDetail_releasesRequestThreadWhileWaiting() throws Exception {
+        // given
+        Sinks.Empty<Void> upstream = Sinks.empty();
+        AtomicInteger inFlight = new AtomicInteger();
+        given(jobService.getJobDetail(anyString())).willAnswer(invocation -> upstream.asMono()
+                .doOnSubscribe(subscription -> inFlight.incrementAndGet())
+                .thenReturn(JobDetailResponseDto.builder().id(invocation.getArgument(0)).build()));
+
+        // when - 같은 테스트 스레드에서 연달아 요청 (블로킹 방식이면 첫 요청에서 멈춤)
+        List<MvcResult> pending = new ArrayList<>();
+        for (int i = 0; i < IN_FLIGHT_REQUESTS; i++) {
+            pending.add(mockMvc.perform(get("/api/v1/jobs/K{id}", i))
+                    .andExpect(request().asyncStarted())
+                    .andReturn());
+        }
+        int inFlightBeforeResponse = inFlight.get();
+        upstream.tryEmitEmpty();
+
+        // then
+        assertThat(inFlightBeforeResponse).isEqualTo(IN_FLIGHT_REQUESTS);
+        for (int i = 0; i < IN_FLIGHT_REQUESTS; i++) {
+            mockMvc.perform(asyncDispatch(pending.get(i)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.data.id").value("K" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("두 번째 요청은 캐시된 압축 바이트로 응답하고, If-None-Match가 ETag와 같으면 본문 없이 304 (집계는 매번 수행)")
+    void getJobDetail_servesCachedBytesAndRevalidatesWithETag() throws Exception {
+        // given
+        given(jobService.getJobDetail("K1"))
+                .willReturn(Mono.just(JobDetailResponseDto.builder().id("K1").title("경비원 모집").build()));
+
+        // when
+        MvcResult first = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/jobs/K1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                        .andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult plain = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/jobs/K1")).andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.data.title").value("경비원 모집"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/jobs/K1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                        .andReturn()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        // then
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(first.getResponse().getContentAsByteArray()))
+                .readAllBytes();
+        assertThat(unzipped).isEqualTo(plain.getResponse().getContentAsByteArray());
+        then(jobService).should(times(1)).getJobDetail("K1");
+        then(jobDetailPrefetcher).should(times(3)).recordRequested("K1");
+    }
+}
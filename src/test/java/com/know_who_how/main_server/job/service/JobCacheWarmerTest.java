@@ -0,0 +1,118 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.cache.TwoLevelCache;
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
+import com.know_who_how.main_server.global.config.JobCacheWarmerProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.job.dto.JobListWindowDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class JobCacheWarmerTest {
+
+    @Mock
+    private JobService jobService;
+    @Mock
+    private JobSearchPopularity popularity;
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+    @Mock
+    private TwoLevelCache listCache;
+    @Mock
+    private JobIndexIngester jobIndexIngester;
+    @Mock
+    private RedisUtil redisUtil;
+
+    private JobCacheWarmerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private JobCacheWarmer warmer;
+
+    private final JobSearchPopularity.Query fresh = new JobSearchPopularity.Query("서울", null, 1, 20);
+    private final JobSearchPopularity.Query missing = new JobSearchPopularity.Query("대전", null, 1, 20);
+    private final JobSearchPopularity.Query overBudget = new JobSearchPopularity.Query("부산", null, 1, 20);
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobCacheWarmerProperties();
+        properties.setMaxUpstreamCalls(1);
+        meterRegistry = new SimpleMeterRegistry();
+        warmer = new JobCacheWarmer(jobService, popularity, cacheManager, jobIndexIngester, redisUtil, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되어 목록 요청이 묶음 캐시를 읽지 않으면 갱신하지 않음")
+    void warm_skipsWhileIndexServesListRequests() {
+        // given
+        given(jobIndexIngester.current()).willReturn(JobSearchIndex.build(0L, List.of()));
+
+        // when
+        warmer.warm();
+
+        // then
+        then(redisUtil).should(never()).saveIfAbsent(anyString(), any(), any());
+        then(popularity).should(never()).decayAndGetTop(anyInt());
+        then(jobService).should(never()).fetchJobListWindow(anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 아무것도 하지 않음")
+    void warm_skipsWithoutLock() {
+        // given
+        given(redisUtil.saveIfAbsent(eq(JobCacheWarmer.LOCK_KEY), any(), any())).willReturn(false);
+
+        // when
+        warmer.warm();
+
+        // then
+        then(popularity).should(never()).decayAndGetTop(anyInt());
+        then(jobService).should(never()).fetchJobListWindow(anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("인기순으로 만료가 가까운 항목만 호출 상한까지 갱신하고 락을 해제")
+    void warm_refreshesWithinBudgetInPopularityOrder() {
+        // given
+        long now = System.currentTimeMillis();
+        JobListWindowDto freshValue = new JobListWindowDto(0, List.of());
+        freshValue.markFetched(now, now + Duration.ofMinutes(10).toMillis());
+        JobListWindowDto loaded = new JobListWindowDto(0, List.of());
+        given(redisUtil.saveIfAbsent(eq(JobCacheWarmer.LOCK_KEY), any(), eq(properties.getLockTtl()))).willReturn(true);
+        given(popularity.decayAndGetTop(properties.getTopK())).willReturn(List.of(fresh, missing, overBudget));
+        given(cacheManager.getCache(JobService.CACHE_JOB_LIST)).willReturn(listCache);
+        given(listCache.peekAll(List.of(fresh.cacheKey(), missing.cacheKey(), overBudget.cacheKey())))
+                .willReturn(Arrays.asList(freshValue, null, null));
+        given(jobService.fetchJobListWindow("대전", null, 1, 20)).willReturn(Mono.just(loaded));
+
+        // when
+        warmer.warm();
+
+        // then
+        then(listCache).should(timeout(2000)).put(missing.cacheKey(), loaded);
+        then(redisUtil).should(timeout(2000)).deleteIfValue(eq(JobCacheWarmer.LOCK_KEY), any());
+        then(jobService).should(times(1)).fetchJobListWindow(anyString(), any(), anyInt(), anyInt());
+        assertThat(meterRegistry.get("job.cache-warmer.entries").tag("outcome", "over-budget").counter().count())
+                .isEqualTo(1.0);
+    }
+}
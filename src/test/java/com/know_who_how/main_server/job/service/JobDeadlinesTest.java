@@ -0,0 +1,65 @@
+package com.know_who_how.main_server.job.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobDeadlinesTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final AtomicLong now = new AtomicLong(
+            ZonedDateTime.of(2025, 3, 10, 23, 59, 0, 0, SEOUL).toInstant().toEpochMilli());
+    private final JobDeadlines deadlines = new JobDeadlines(new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return SEOUL;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    });
+
+    @Test
+    @DisplayName("오늘 날짜는 자정이 지나면 다시 계산하여 같은 마감일의 남은 일수가 줄어듦")
+    void today_rollsOverAtMidnight() {
+        // given
+        LocalDate endDate = LocalDate.of(2025, 3, 13);
+        assertThat(deadlines.today()).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(deadlines.daysLeft(endDate)).isEqualTo(3);
+
+        // when
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        // then
+        assertThat(deadlines.today()).isEqualTo(LocalDate.of(2025, 3, 11));
+        assertThat(deadlines.daysLeft(endDate)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마감일이 끝나는 시각은 마감일 다음 날 0시, 날짜가 없거나 형식이 다르면 0")
+    void endOfDayMillis_isStartOfNextDay() {
+        assertThat(deadlines.endOfDayMillis("2025-03-13", JobDeadlines.YYYY_MM_DD))
+                .isEqualTo(ZonedDateTime.of(2025, 3, 14, 0, 0, 0, 0, SEOUL).toInstant().toEpochMilli());
+        assertThat(deadlines.endOfDayMillis("20250313", JobDeadlines.YYYYMMDD))
+                .isEqualTo(deadlines.endOfDayMillis("2025-03-13", JobDeadlines.YYYY_MM_DD));
+        assertThat(deadlines.endOfDayMillis("상시 모집", JobDeadlines.YYYY_MM_DD)).isZero();
+        assertThat(deadlines.endOfDayMillis(null, JobDeadlines.YYYY_MM_DD)).isZero();
+    }
+}
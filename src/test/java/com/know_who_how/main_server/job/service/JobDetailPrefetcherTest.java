@@ -0,0 +1,118 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.cache.TwoLevelCache;
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
+import com.know_who_how.main_server.global.config.JobDetailPrefetchProperties;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.dto.JobItemDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class JobDetailPrefetcherTest {
+
+    @Mock
+    private JobService jobService;
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+    @Mock
+    private TwoLevelCache detailCache;
+
+    private JobDetailPrefetchProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobDetailPrefetchProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        given(cacheManager.getCache(JobService.CACHE_JOB_DETAIL)).willReturn(detailCache);
+    }
+
+    @Test
+    @DisplayName("목록 앞쪽 N개 중 캐시에 없는 공고만 미리 채우고, 이후 상세 조회되면 사용으로 한 번 집계")
+    void prefetch_fillsUncachedTopItemsAndTracksUsage() {
+        // given
+        JobDetailPrefetcher prefetcher = new JobDetailPrefetcher(jobService, cacheManager, properties, meterRegistry);
+        given(detailCache.peekAll(List.of("K1", "K2", "K3")))
+                .willReturn(Arrays.asList(JobDetailResponseDto.builder().id("K1").build(), null, null));
+        given(jobService.getJobDetail(anyString())).willAnswer(invocation ->
+                Mono.just(JobDetailResponseDto.builder().id(invocation.getArgument(0)).build()));
+
+        // when
+        prefetcher.prefetch(jobs("K1", "K2", "K3", "K4"));
+
+        // then
+        then(jobService).should(timeout(2000)).getJobDetail("K2");
+        then(jobService).should(timeout(2000)).getJobDetail("K3");
+        then(jobService).should(never()).getJobDetail("K1");
+        then(jobService).should(never()).getJobDetail("K4");
+        awaitCount("prefetched", 2.0);
+
+        prefetcher.recordRequested("K2");
+        prefetcher.recordRequested("K2");
+        prefetcher.recordRequested("K1");
+        assertThat(count("used")).isEqualTo(1.0);
+        assertThat(count("already-cached")).isEqualTo(1.0);
+
+        // 최근에 확인한 공고는 다시 확인하지 않음
+        prefetcher.prefetch(jobs("K1", "K2", "K3"));
+        then(detailCache).should(times(1)).peekAll(anyList());
+    }
+
+    @Test
+    @DisplayName("분당 호출 상한을 넘으면 기다리지 않고 건너뛰고, 건너뛴 공고는 다음 목록 조회에서 다시 시도")
+    void prefetch_respectsUpstreamBudget() {
+        // given
+        properties.setBudgetPerMinute(1);
+        JobDetailPrefetcher prefetcher = new JobDetailPrefetcher(jobService, cacheManager, properties, meterRegistry);
+        given(detailCache.peekAll(List.of("K1", "K2", "K3"))).willReturn(Arrays.asList(null, null, null));
+        given(detailCache.peekAll(List.of("K2", "K3"))).willReturn(Arrays.asList(null, null));
+        given(jobService.getJobDetail(anyString())).willReturn(Mono.just(JobDetailResponseDto.builder().build()));
+
+        // when
+        prefetcher.prefetch(jobs("K1", "K2", "K3"));
+        awaitCount("over-budget", 2.0);
+        prefetcher.prefetch(jobs("K1", "K2", "K3"));
+
+        // then
+        awaitCount("over-budget", 4.0);
+        then(detailCache).should().peekAll(List.of("K2", "K3"));
+        then(jobService).should(times(1)).getJobDetail("K1");
+        then(jobService).should(never()).getJobDetail("K2");
+    }
+
+    private static List<JobItemDto> jobs(String... ids) {
+        return Stream.of(ids).map(id -> JobItemDto.builder().id(id).build()).toList();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("job.detail-prefetch.entries").tag("outcome", outcome).counter().count();
+    }
+
+    private void awaitCount(String outcome, double expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (count(outcome) < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(count(outcome)).isEqualTo(expected);
+    }
+}
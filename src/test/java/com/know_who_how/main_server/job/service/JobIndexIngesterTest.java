@@ -0,0 +1,100 @@
+package com.know_who_how.main_server.job.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.config.JobIndexProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import com.know_who_how.main_server.job.client.JobOpenApiClient;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import com.know_who_how.main_server.job.dto.external.ExternalApiResponse;
+import com.know_who_how.main_server.job.dto.external.ExternalJobListItems;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class JobIndexIngesterTest {
+
+    @Mock
+    private JobOpenApiClient apiClient;
+    @Mock
+    private RedisUtil redisUtil;
+
+    private JobIndexIngester ingester;
+
+    @BeforeEach
+    void setUp() {
+        JobIndexProperties properties = new JobIndexProperties();
+        properties.setPageSize(2);
+        ingester = new JobIndexIngester(apiClient, redisUtil, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("첫 페이지의 전체 건수로 페이지 수를 정해 모든 페이지를 수집")
+    void fetchAll_pagesThroughWholeListing() throws Exception {
+        // given
+        given(apiClient.fetchJobs(null, null, 1, 2)).willReturn(Mono.just(response(5, "K1", "K2")));
+        given(apiClient.fetchJobs(null, null, 2, 2)).willReturn(Mono.just(response(5, "K3", "K4")));
+        given(apiClient.fetchJobs(null, null, 3, 2)).willReturn(Mono.just(response(5, "K5")));
+
+        // when
+        List<OpenApiJobItem> items = ingester.fetchAll().block();
+
+        // then
+        assertThat(items).extracting(OpenApiJobItem::getJobId).containsExactly("K1", "K2", "K3", "K4", "K5");
+    }
+
+    @Test
+    @DisplayName("한 페이지라도 비어 있으면 수집 전체를 실패로 처리")
+    void fetchAll_failsOnEmptyPage() throws Exception {
+        // given
+        given(apiClient.fetchJobs(null, null, 1, 2)).willReturn(Mono.just(response(4, "K1", "K2")));
+        given(apiClient.fetchJobs(null, null, 2, 2)).willReturn(Mono.just(new ExternalApiResponse<>()));
+
+        // when & then
+        assertThatThrownBy(() -> ingester.fetchAll().block()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Redis의 색인 원본이 더 새로우면 색인을 다시 만들고, 같으면 원본을 다시 읽지 않음")
+    void reloadIfChanged_swapsToNewerSnapshot() throws Exception {
+        // given
+        given(redisUtil.get(JobIndexIngester.BUILT_AT_KEY)).willReturn(100L);
+        given(redisUtil.get(JobIndexIngester.SNAPSHOT_KEY))
+                .willReturn(new JobIndexSnapshot(100L, response(1, "K1").getBody().getItem()));
+
+        // when
+        boolean first = ingester.reloadIfChanged();
+        boolean second = ingester.reloadIfChanged();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(ingester.current().findById("K1")).isNotNull();
+        then(redisUtil).should(times(1)).get(JobIndexIngester.SNAPSHOT_KEY);
+    }
+
+    private static ExternalApiResponse<ExternalJobListItems> response(int totalCount, String... jobIds) throws Exception {
+        StringBuilder items = new StringBuilder();
+        for (String jobId : jobIds) {
+            items.append(items.isEmpty() ? "" : ",")
+                    .append("{\"jobId\":\"").append(jobId).append("\",\"recrtTitle\":\"경비원\"}");
+        }
+        return new ObjectMapper().readValue(
+                "{\"response\":{\"body\":{\"items\":{\"item\":[" + items + "]},\"totalCount\":" + totalCount + "}}}",
+                new TypeReference<>() {});
+    }
+}
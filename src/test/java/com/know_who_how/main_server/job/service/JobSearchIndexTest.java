@@ -0,0 +1,67 @@
+package com.know_who_how.main_server.job.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        List<OpenApiJobItem> items = new ObjectMapper().readValue("""
+                [
+                  {"jobId":"K4","recrtTitle":"아파트 경비원","oranNm":"노후하우 관리","workPlcNm":"대전광역시 중구","emplymShpNm":"CM0101","jobclsNm":"경비원","deadline":"마감","toDd":"2099-01-01"},
+                  {"jobId":"K3","recrtTitle":"학교 경비원","oranNm":"한빛학교","workPlcNm":"대전광역시 중구","emplymShpNm":"CM0102","jobclsNm":"경비원","deadline":"접수중","toDd":"2099-03-01"},
+                  {"jobId":"K2","recrtTitle":"건물 미화원","oranNm":"깨끗한 건물","workPlcNm":"대전광역시 서구","emplymShpNm":"정규직","jobclsNm":"청소원","deadline":"접수중","toDd":"20990201"},
+                  {"jobId":"K1","recrtTitle":"주차 관리원","oranNm":"서울 주차","workPlcNm":"서울특별시 중구","emplymShpNm":"CM0101","jobclsNm":"주차관리원","deadline":"접수중"},
+                  {"jobId":"K3","recrtTitle":"학교 경비원","oranNm":"한빛학교","workPlcNm":"대전광역시 중구","emplymShpNm":"CM0102","jobclsNm":"경비원","deadline":"접수중","toDd":"2099-03-01"}
+                ]""", new TypeReference<>() {});
+        index = JobSearchIndex.build(1L, items);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 단어로 시작하는 단어가 있는 공고를 마감일 순(접수중 → 마감일 없음 → 마감)으로 반환")
+    void search_matchesWordPrefixesInDeadlineOrder() {
+        // when
+        JobSearchIndex.Result result = index.search("대전 중구", null, 1, 10);
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.items()).extracting(OpenApiJobItem::getJobId).containsExactly("K3", "K4");
+        assertThat(index.search(null, "ALL", 1, 10).items()).extracting(OpenApiJobItem::getJobId)
+                .containsExactly("K2", "K3", "K1", "K4");
+    }
+
+    @Test
+    @DisplayName("고용형태는 코드와 이름 어느 쪽으로 온 공고든 같은 유형으로 필터")
+    void search_filtersByEmploymentType() {
+        // when
+        JobSearchIndex.Result result = index.search("대전", "CM0101", 1, 10);
+
+        // then
+        assertThat(result.items()).extracting(OpenApiJobItem::getJobId).containsExactly("K2", "K4");
+    }
+
+    @Test
+    @DisplayName("페이지는 전체 결과 순서에서 잘라 반환하고, 없는 단어는 빈 결과")
+    void search_paginatesAndHandlesMisses() {
+        // when
+        JobSearchIndex.Result second = index.search("", null, 2, 3);
+
+        // then
+        assertThat(second.totalCount()).isEqualTo(4);
+        assertThat(second.items()).extracting(OpenApiJobItem::getJobId).containsExactly("K4");
+        assertThat(index.search("부산", null, 1, 10).totalCount()).isZero();
+        assertThat(index.search(null, null, 5, 10).items()).isEmpty();
+        assertThat(index.findById("K2").getRecrtTitle()).isEqualTo("건물 미화원");
+    }
+}
@@ -0,0 +1,85 @@
+package com.know_who_how.main_server.job.service;
+
+import com.know_who_how.main_server.global.config.JobCacheWarmerProperties;
+import com.know_who_how.main_server.global.config.JobListProperties;
+import com.know_who_how.main_server.global.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class JobSearchPopularityTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    private JobCacheWarmerProperties properties;
+    private JobSearchPopularity popularity;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobCacheWarmerProperties();
+        properties.setSketchCapacity(3);
+        popularity = new JobSearchPopularity(redisUtil, properties, new JobListProperties());
+    }
+
+    @Test
+    @DisplayName("스케치가 가득 차면 가장 적게 센 검색을 내보내고, 모은 횟수를 묶음 Key별로 한 번에 Redis에 합산")
+    @SuppressWarnings("unchecked")
+    void flush_keepsHeavyHittersWithinCapacity() {
+        // given
+        recordTimes("서울", 5);
+        recordTimes("대전", 3);
+        recordTimes("부산", 1);
+        recordTimes("광주", 1);
+
+        // when
+        popularity.flush();
+        popularity.flush();
+
+        // then
+        ArgumentCaptor<Map<String, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        then(redisUtil).should().incrementScores(eq(JobSearchPopularity.POPULARITY_KEY), captor.capture());
+        assertThat(captor.getValue()).containsOnly(
+                Map.entry(JobService.listCacheKey("서울", null, 1, 100), 5.0),
+                Map.entry(JobService.listCacheKey("대전", null, 1, 100), 3.0),
+                Map.entry(JobService.listCacheKey("광주", null, 1, 100), 2.0));
+    }
+
+    @Test
+    @DisplayName("인기 검색은 캐시 Key에서 검색 조건을 복원 (검색어의 ':'와 미지정 고용형태 포함)")
+    void decayAndGetTop_restoresQueries() {
+        // given
+        given(redisUtil.topByScore(JobSearchPopularity.POPULARITY_KEY, 2)).willReturn(List.of(
+                JobService.listCacheKey("서울:강남", "ALL", 2, 10),
+                JobService.listCacheKey("대전", "CM0101", 1, 20)));
+
+        // when
+        List<JobSearchPopularity.Query> top = popularity.decayAndGetTop(2);
+
+        // then
+        then(redisUtil).should().decayScores(JobSearchPopularity.POPULARITY_KEY,
+                properties.getDecayFactor(), properties.getMaxTracked());
+        assertThat(top).containsExactly(
+                new JobSearchPopularity.Query("서울:강남", null, 2, 10),
+                new JobSearchPopularity.Query("대전", "CM0101", 1, 20));
+    }
+
+    private void recordTimes(String search, int times) {
+        for (int i = 0; i < times; i++) {
+            popularity.record(search, "ALL", 1, 20);
+        }
+    }
+}
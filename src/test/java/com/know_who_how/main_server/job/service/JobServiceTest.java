@@ -0,0 +1,270 @@
+package com.know_who_how.main_server.job.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.know_who_how.main_server.global.cache.TwoLevelCache;
+import com.know_who_how.main_server.global.cache.TwoLevelCacheManager;
+import com.know_who_how.main_server.global.config.JobListProperties;
+import com.know_who_how.main_server.global.exception.CustomException;
+import com.know_who_how.main_server.global.exception.ErrorCode;
+import com.know_who_how.main_server.job.client.JobOpenApiClient;
+import com.know_who_how.main_server.job.dto.JobDetailResponseDto;
+import com.know_who_how.main_server.job.dto.JobItemDto;
+import com.know_who_how.main_server.job.dto.JobListResponseDto;
+import com.know_who_how.main_server.job.dto.JobListWindowDto;
+import com.know_who_how.main_server.job.dto.OpenApiJobItem;
+import com.know_who_how.main_server.job.dto.external.ExternalApiResponse;
+import com.know_who_how.main_server.job.dto.external.ExternalJobDetailItemWrapper;
+import com.know_who_how.main_server.job.dto.external.ExternalJobListItems;
+import com.know_who_how.main_server.job.type.EmploymentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTest {
+
+    @InjectMocks
+    private JobService jobService;
+
+    @Mock
+    private JobOpenApiClient apiClient;
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+    @Mock
+    private TwoLevelCache postingCache;
+    @Mock
+    private TwoLevelCache listCache;
+    @Mock
+    private TwoLevelCache detailCache;
+    @Mock
+    private JobIndexIngester jobIndexIngester;
+    @Spy
+    private JobListProperties listProperties = new JobListProperties();
+
+    @Test
+    @DisplayName("목록 조회는 Open API를 묶음(windowSize개) 단위로 조회하여 공고는 jobPosting 영역에 한 번에, 묶음은 jobId 목록으로 저장")
+    @SuppressWarnings("unchecked")
+    void getJobList_savesPostingsOnceAndWindowAsIds() throws Exception {
+        // given
+        ExternalApiResponse<ExternalJobListItems> response = new ObjectMapper().readValue("""
+                {"response":{"body":{"items":{"item":[
+                  {"jobId":"K000001","recrtTitle":"경비원","emplymShpNm":"CM0101","jobclsNm":"경비원","deadline":"접수중"},
+                  {"jobId":"K000002","recrtTitle":"미화원","emplymShpNm":"CM0102","jobclsNm":"미화원","deadline":"접수중"}
+                ]},"totalCount":2,"pageNo":1}}}""", new TypeReference<>() {});
+        given(apiClient.fetchJobs("서울", null, 1, 100)).willReturn(Mono.just(response));
+        given(cacheManager.getCache(JobService.CACHE_JOB_LIST)).willReturn(listCache);
+        List<CompletableFuture<?>> stored = new ArrayList<>();
+        willAnswer(invocation -> {
+            CompletableFuture<?> loaded = invocation.<Supplier<CompletableFuture<?>>>getArgument(1).get();
+            stored.add(loaded);
+            return loaded;
+        }).given(listCache).retrieve(eq(JobService.listCacheKey("서울", null, 1, 100)), any(Supplier.class));
+        given(cacheManager.getCache(JobService.CACHE_JOB_POSTING)).willReturn(postingCache);
+        given(postingCache.putAllAsync(any())).willReturn(CompletableFuture.completedFuture(null));
+        willReturn(CompletableFuture.completedFuture(List.copyOf(response.getBody().getItem())))
+                .given(postingCache).retrieveAll(List.of("K000001", "K000002"));
+
+        // when
+        JobListResponseDto result = jobService.getJobList("서울", "ALL", 1, 10).block();
+
+        // then
+        assertThat(result.getJobs()).extracting(JobItemDto::getId).containsExactly("K000001", "K000002");
+        assertThat(result.getJobs().get(0).getEmploymentType()).isEqualTo(EmploymentType.FULL_TIME.getDisplayName());
+        assertThat(result.getPagination().getItemsPerPage()).isEqualTo(10);
+        ArgumentCaptor<Map<String, ?>> captor = ArgumentCaptor.forClass(Map.class);
+        then(postingCache).should().putAllAsync(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys("K000001", "K000002");
+        then(postingCache).should(never()).put(any(), any());
+        JobListWindowDto window = (JobListWindowDto) stored.get(0).join();
+        assertThat(window.getJobIds()).containsExactly("K000001", "K000002");
+        assertThat(window.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("두 묶음에 걸치는 페이지는 두 묶음을 이어 붙여 잘라내고, 페이지 정보는 요청한 페이지 크기 기준")
+    @SuppressWarnings("unchecked")
+    void getJobList_slicesAcrossWindows() {
+        // given - 공고 250건, 묶음 100건 / 요청 7페이지(15건) = 91~105번째 공고
+        given(cacheManager.getCache(JobService.CACHE_JOB_LIST)).willReturn(listCache);
+        willReturn(CompletableFuture.completedFuture(window(1))).given(listCache)
+                .retrieve(eq(JobService.listCacheKey("서울", null, 1, 100)), any(Supplier.class));
+        willReturn(CompletableFuture.completedFuture(window(2))).given(listCache)
+                .retrieve(eq(JobService.listCacheKey("서울", null, 2, 100)), any(Supplier.class));
+        given(cacheManager.getCache(JobService.CACHE_JOB_POSTING)).willReturn(postingCache);
+        willAnswer(invocation -> CompletableFuture.completedFuture(invocation.<List<String>>getArgument(0).stream()
+                .map(JobServiceTest::posting).toList()))
+                .given(postingCache).retrieveAll(any());
+
+        // when
+        JobListResponseDto result = jobService.getJobList("서울", null, 7, 15).block();
+
+        // then
+        assertThat(result.getJobs()).extracting(JobItemDto::getId)
+                .containsExactlyElementsOf(IntStream.range(90, 105).mapToObj(i -> "K" + i).toList());
+        assertThat(result.getPagination().getTotalCount()).isEqualTo(250);
+        assertThat(result.getPagination().getCurrentPage()).isEqualTo(7);
+        assertThat(result.getPagination().getTotalPages()).isEqualTo(17);
+        then(apiClient).shouldHaveNoInteractions();
+    }
+
+    private static JobListWindowDto window(int windowPage) {
+        return new JobListWindowDto(250, IntStream.range((windowPage - 1) * 100, windowPage * 100)
+                .mapToObj(i -> "K" + i)
+                .toList());
+    }
+
+    private static OpenApiJobItem posting(String jobId) {
+        return new ObjectMapper().convertValue(Map.of("jobId", jobId, "recrtTitle", "공고 " + jobId),
+                OpenApiJobItem.class);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 공고는 검색 색인에서 가져오고, 색인에도 없으면 목록에서 제외")
+    @SuppressWarnings("unchecked")
+    void getJobList_fillsMissingPostingsFromIndex() {
+        // given
+        given(cacheManager.getCache(JobService.CACHE_JOB_LIST)).willReturn(listCache);
+        willReturn(CompletableFuture.completedFuture(new JobListWindowDto(3, List.of("K1", "K2", "K3"))))
+                .given(listCache).retrieve(eq(JobService.listCacheKey("서울", null, 1, 100)), any(Supplier.class));
+        given(cacheManager.getCache(JobService.CACHE_JOB_POSTING)).willReturn(postingCache);
+        willReturn(CompletableFuture.completedFuture(Arrays.asList(posting("K1"), null, null)))
+                .given(postingCache).retrieveAll(List.of("K1", "K2", "K3"));
+        given(jobIndexIngester.current()).willReturn(JobSearchIndex.build(0L, List.of(posting("K3"))));
+
+        // when
+        JobListResponseDto result = jobService.getJobList("서울", null, 1, 10).block();
+
+        // then
+        assertThat(result.getJobs()).extracting(JobItemDto::getId).containsExactly("K1", "K3");
+        assertThat(result.getPagination().getTotalCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Open API 응답에 item이 없으면 묶음을 캐시하지 않고(로더 실패) 이번 요청만 빈 목록으로 응답")
+    @SuppressWarnings("unchecked")
+    void getJobList_doesNotCacheEmptyResponse() throws Exception {
+        // given
+        ExternalApiResponse<ExternalJobListItems> response = new ObjectMapper().readValue("""
+                {"response":{"body":{"totalCount":0,"pageNo":1}}}""", new TypeReference<>() {});
+        given(apiClient.fetchJobs("서울", null, 1, 100)).willReturn(Mono.just(response));
+        given(cacheManager.getCache(JobService.CACHE_JOB_LIST)).willReturn(listCache);
+        List<CompletableFuture<?>> loaded = new ArrayList<>();
+        willAnswer(invocation -> {
+            CompletableFuture<?> loading = invocation.<Supplier<CompletableFuture<?>>>getArgument(1).get();
+            loaded.add(loading);
+            return loading;
+        }).given(listCache).retrieve(eq(JobService.listCacheKey("서울", null, 1, 100)), any(Supplier.class));
+
+        // when
+        JobListResponseDto result = jobService.getJobList("서울", null, 1, 10).block();
+
+        // then
+        assertThat(result.getJobs()).isEmpty();
+        assertThat(result.getPagination().getTotalCount()).isZero();
+        assertThat(loaded.get(0)).isCompletedExceptionally();
+        then(cacheManager).should(never()).getCache(JobService.CACHE_JOB_POSTING);
+    }
+
+    @Test
+    @DisplayName("상세 조회 시 목록에서 캐시한 고용형태를 표시명으로 변환하여 조합")
+    void getJobDetail_combinesExtraDataFromCache() throws Exception {
+        // given
+        ExternalApiResponse<ExternalJobDetailItemWrapper> response = new ObjectMapper().readValue("""
+                {"response":{"body":{"items":{"item":
+                  {"jobId":"K000001","wantedTitle":"아파트 경비원","plbizNm":"노후하우 관리","toAcptDd":"20991231"}
+                }}}}""", new TypeReference<>() {});
+        given(apiClient.fetchJobDetail("K000001")).willReturn(Mono.just(response));
+        detailCacheMisses();
+        given(cacheManager.getCache(JobService.CACHE_JOB_POSTING)).willReturn(postingCache);
+        willReturn(CompletableFuture.completedFuture(new ObjectMapper().convertValue(
+                Map.of("jobId", "K000001", "emplymShpNm", "CM0101", "jobclsNm", "경비원"), OpenApiJobItem.class)))
+                .given(postingCache).retrieve("K000001");
+
+        // when
+        JobDetailResponseDto result = jobService.getJobDetail("K000001").block();
+
+        // then
+        assertThat(result.getId()).isEqualTo("K000001");
+        assertThat(result.getEmploymentType()).isEqualTo(EmploymentType.FULL_TIME.getDisplayName());
+        assertThat(result.getJobCategory()).isEqualTo("경비원");
+        assertThat(result.getEndDate()).isEqualTo("2099-12-31");
+    }
+
+    @Test
+    @DisplayName("캐시된 상세의 마감 상태는 저장 시점 값이 아니라 조회한 날 기준으로 다시 계산하고, 캐시 값은 수정하지 않음")
+    @SuppressWarnings("unchecked")
+    void getJobDetail_recomputesDeadlineStatusOnRead() {
+        // given - 7일 전에 "D-10"으로 저장된 상세
+        String endDate = LocalDate.now().plusDays(3).format(JobDeadlines.YYYY_MM_DD);
+        JobDetailResponseDto cached = JobDetailResponseDto.builder()
+                .id("K000001").endDate(endDate).deadlineStatus("D-10").build();
+        given(cacheManager.getCache(JobService.CACHE_JOB_DETAIL)).willReturn(detailCache);
+        willReturn(CompletableFuture.completedFuture(cached)).given(detailCache).retrieve(eq("K000001"), any(Supplier.class));
+
+        // when
+        JobDetailResponseDto result = jobService.getJobDetail("K000001").block();
+
+        // then
+        assertThat(result.getDeadlineStatus()).isEqualTo("D-3");
+        assertThat(result.getEndDate()).isEqualTo(endDate);
+        assertThat(cached.getDeadlineStatus()).isEqualTo("D-10");
+        then(apiClient).shouldHaveNoInteractions();
+    }
+
+    // 상세 캐시 미스 - 원본(Open API 조회)을 그대로 실행
+    @SuppressWarnings("unchecked")
+    private void detailCacheMisses() {
+        given(cacheManager.getCache(JobService.CACHE_JOB_DETAIL)).willReturn(detailCache);
+        willAnswer(invocation -> invocation.<Supplier<CompletableFuture<?>>>getArgument(1).get())
+                .given(detailCache).retrieve(any(), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("상세 API 응답에 공고가 없으면 JOB_NOT_FOUND로 실패")
+    void getJobDetail_failsWhenItemMissing() {
+        // given
+        given(apiClient.fetchJobDetail("K999999")).willReturn(Mono.just(new ExternalApiResponse<>()));
+        detailCacheMisses();
+        given(cacheManager.getCache(JobService.CACHE_JOB_POSTING)).willReturn(postingCache);
+        willReturn(CompletableFuture.completedFuture(null)).given(postingCache).retrieve("K999999");
+
+        // when & then
+        assertThatThrownBy(() -> jobService.getJobDetail("K999999").block())
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("목록 캐시 Key는 'ALL'과 미지정 고용형태를 같은 Key로 취급")
+    void listCacheKey_normalizesAllEmploymentType() {
+        assertThat(JobService.listCacheKey("서울", "ALL", 1, 10))
+                .isEqualTo(JobService.listCacheKey("서울", null, 1, 10))
+                .isEqualTo("search:서울:emp:null:p:1:s:10");
+    }
+}
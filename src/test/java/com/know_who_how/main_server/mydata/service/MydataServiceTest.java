@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -56,6 +57,8 @@ class MydataServiceTest {
     private PensionRepository pensionRepository;
     @Mock
     private RedisUtil redisUtil;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
     private WebClient mydataRsWebClient;
@@ -77,7 +80,7 @@ class MydataServiceTest {
         props.setRs(rs);
 
         service = new MydataService(mydataAuthService, props, mydataRepository, userRepository,
-                userInfoRepository, assetsRepository, pensionRepository, redisUtil);
+                userInfoRepository, assetsRepository, pensionRepository, redisUtil, eventPublisher);
         org.springframework.test.util.ReflectionTestUtils.setField(service, "mydataRsWebClient", mydataRsWebClient);
     }
 